@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark comparing the JVM startup modes of the application.
+#
+# Builds the jar with the aot and cds Maven profiles, then starts it repeatedly in each mode with
+# -Dspring.context.exit=onRefresh, so every run measures JVM launch through a refreshed application context
+# and then exits. The first run of each mode is a discarded warm-up for the OS file cache; the table reports the
+# min, median and max of the remaining runs, 3 unless given.
+#
+# Usage: scripts/startup-benchmark.sh [runs] [--no-build]
+#
+set -euo pipefail
+
+RUNS="${1:-3}"
+BUILD=true
+if [[ "${2:-}" == "--no-build" || "${1:-}" == "--no-build" ]]; then
+    BUILD=false
+    [[ "${1:-}" == "--no-build" ]] && RUNS=3
+fi
+
+cd "$(dirname "$0")/.."
+if [[ "$BUILD" == true ]]; then
+    mvn -B -q -Paot,cds -DskipTests package
+fi
+
+JAR="$(ls target/cds/*.jar | head -1)"
+ARCHIVE="target/cds/application.jsa"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+declare -A MODES=(
+    [default]=""
+    [lazy]="-Dspring.profiles.active=lazy"
+    [aot]="-Dspring.aot.enabled=true"
+    [aot+cds]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=$ARCHIVE"
+)
+
+run_once() {
+    local start end
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    "$JAVA" $1 -Dspring.context.exit=onRefresh -Dspring.main.banner-mode=off -jar "$JAR" > /dev/null 2>&1
+    end=$(date +%s%N)
+    echo $(( (end - start) / 1000000 ))
+}
+
+printf "%-10s %8s %8s %8s\n" "mode" "min ms" "median" "max ms"
+for mode in default lazy aot aot+cds; do
+    run_once "${MODES[$mode]}" > /dev/null
+    times=()
+    for ((i = 0; i < RUNS; i++)); do
+        times+=("$(run_once "${MODES[$mode]}")")
+    done
+    sorted=($(printf "%s\n" "${times[@]}" | sort -n))
+    printf "%-10s %8s %8s %8s\n" "$mode" "${sorted[0]}" "${sorted[$((RUNS / 2))]}" "${sorted[$((RUNS - 1))]}"
+done
@@ -0,0 +1,63 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.TaxInfo;
+
+/**
+ * Builds in-memory products, prices and taxes for the benchmarks; nothing here touches a database.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * A product with the given number of prices: one current price per currency, the rest expired history
+     * ordered oldest first so the current price is the last one scanned.
+     */
+    static Product product(long id, int priceCount, String... currencies) {
+        ZonedDateTime now = ZonedDateTime.now();
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setSku("SKU-" + id);
+        product.setQuantity(100);
+
+        List<PriceInfo> prices = new ArrayList<>(priceCount);
+        int history = Math.max(priceCount - currencies.length, 0);
+        for (int i = history; i > 0; i--) {
+            prices.add(price(product, currencies[i % currencies.length], now.minusDays(30L * (i + 1)), now.minusDays(30L * i)));
+        }
+        for (String currency : currencies) {
+            prices.add(price(product, currency, now.minusDays(30), now.plusYears(1)));
+        }
+        product.setPriceInfos(prices);
+        return product;
+    }
+
+    static List<TaxInfo> ontarioTaxes() {
+        TaxInfo hst = new TaxInfo();
+        hst.setCountryCode("CA");
+        hst.setStateProvince("ON");
+        hst.setPercentage(13.0);
+        hst.setTaxType(TaxInfo.TaxType.HST);
+        hst.setName("Harmonized Sales Tax");
+        return List.of(hst);
+    }
+
+    private static PriceInfo price(Product product, String currency, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        PriceInfo price = new PriceInfo();
+        price.setProduct(product);
+        price.setCurrencyCode(currency);
+        price.setPrice(new BigDecimal("19.99"));
+        price.setEffectiveDate(effectiveDate);
+        price.setExpiryDate(expiryDate);
+        return price;
+    }
+}
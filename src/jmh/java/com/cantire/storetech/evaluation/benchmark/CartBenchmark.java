@@ -0,0 +1,74 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cantire.storetech.evaluation.converter.CartResponseConverter;
+import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.Product;
+
+/**
+ * Cart subtotal, add-to-cart and response conversion over growing carts.
+ * Every product carries a short price history so each line does a realistic price lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartBenchmark {
+
+    private static final int PRICES_PER_PRODUCT = 4;
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private Cart cart;
+    private Product lastProduct;
+
+    @Setup
+    public void setUp() {
+        cart = new Cart();
+        cart.setId(1L);
+        cart.setRegion("ON");
+        cart.setCurrencyCode("CAD");
+        cart.setApplicableTaxes(BenchmarkData.ontarioTaxes());
+        for (long id = 1; id <= cartSize; id++) {
+            lastProduct = BenchmarkData.product(id, PRICES_PER_PRODUCT, "CAD", "USD");
+            cart.addProduct(lastProduct, 1);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateSubtotal() {
+        return cart.calculateSubtotal();
+    }
+
+    /**
+     * Re-adds a product already in the cart, so the cart size stays fixed across invocations.
+     */
+    @Benchmark
+    public BigDecimal addProduct() {
+        cart.addProduct(lastProduct, 2);
+        return cart.getSubtotal();
+    }
+
+    @Benchmark
+    public CartSaveResponse toResponse() {
+        return CartResponseConverter.toResponse(cart, true, "Cart found");
+    }
+}
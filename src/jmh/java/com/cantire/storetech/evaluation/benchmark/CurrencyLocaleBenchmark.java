@@ -0,0 +1,38 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cantire.storetech.evaluation.service.TaxServiceImpl;
+
+/**
+ * Currency to locale resolution done on every tax lookup, for a supported and an unsupported currency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyLocaleBenchmark {
+
+    @Param({"CAD", "USD"})
+    private String currencyCode;
+
+    @Benchmark
+    public Optional<Locale> getLocaleFromCurrencyCode() {
+        return TaxServiceImpl.getLocaleFromCurrencyCode(currencyCode);
+    }
+}
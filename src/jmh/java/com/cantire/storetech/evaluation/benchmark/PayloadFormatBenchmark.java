@@ -0,0 +1,75 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Serializing and parsing a product catalog as JSON, CBOR and Smile. The payload size of each is printed once per
+ * trial; with {@code -prof gc} the allocation per operation shows what a terminal's parser has to churn through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int catalogSize;
+
+    private ObjectMapper mapper;
+    private List<ProductResponse> catalog;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new JsonMapper();
+        };
+        catalog = new ArrayList<>(catalogSize);
+        for (long id = 1; id <= catalogSize; id++) {
+            catalog.add(new ProductResponse(id, "Product " + id + " Cordless Drill/Driver Kit", "CT-SKU-" + id, 100, "Tools & Hardware",
+                    List.of(new ProductResponse.PricingInfo("CAD", new BigDecimal("129.99")),
+                            new ProductResponse.PricingInfo("USD", new BigDecimal("94.99")))));
+        }
+        payload = mapper.writeValueAsBytes(catalog);
+        System.out.printf("%n%s payload for %d products: %d bytes%n", format, catalogSize, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public ProductResponse[] parse() throws IOException {
+        return mapper.readValue(payload, ProductResponse[].class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.service.FxRateService;
+import com.cantire.storetech.evaluation.service.PriceResolver;
+
+/**
+ * Current-price lookup over growing price histories, listed and converted through an FX rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceLookupBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int priceCount;
+
+    private Product product;
+    private PriceResolver priceResolver;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkData.product(1L, priceCount, "CAD");
+        priceResolver = new PriceResolver(new FixedRateService(new BigDecimal("0.73")), RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public Optional<BigDecimal> findCurrentPrice() {
+        return Product.findCurrentPrice(product, "CAD");
+    }
+
+    @Benchmark
+    public Optional<BigDecimal> resolveConvertedPrice() {
+        return priceResolver.currentPrice(product, "USD");
+    }
+
+    /**
+     * In-memory rate source so the benchmark measures the resolver, not a rate table.
+     */
+    private record FixedRateService(BigDecimal rate) implements FxRateService {
+
+        @Override
+        public Optional<BigDecimal> getRate(String sourceCurrency, String targetCurrency, ZonedDateTime at) {
+            return Optional.of(rate);
+        }
+
+        @Override
+        public void refreshRates() {
+        }
+    }
+}
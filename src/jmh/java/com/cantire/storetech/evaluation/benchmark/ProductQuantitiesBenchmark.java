@@ -0,0 +1,103 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import com.cantire.storetech.evaluation.model.ProductQuantities;
+
+/**
+ * Cart quantity lookups and totals on {@link ProductQuantities} against the {@code LinkedHashMap<Long, Integer>}
+ * it replaced. The retained size of each, measured with JOL, is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductQuantitiesBenchmark {
+
+    private static final long FIRST_PRODUCT_ID = 1_000_000L;
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private Map<Long, Integer> boxed;
+    private ProductQuantities primitive;
+    private long[] productIds;
+
+    @Setup
+    public void setUp() {
+        boxed = new LinkedHashMap<>();
+        primitive = new ProductQuantities();
+        productIds = new long[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            // Ids and quantities outside the Long and Integer caches, as they are in a loaded cart
+            productIds[i] = FIRST_PRODUCT_ID + i * 7L;
+            boxed.put(productIds[i], 1_000 + i);
+            primitive.set(productIds[i], 1_000 + i);
+        }
+        System.out.printf("%nRetained bytes for %d products: LinkedHashMap %d, ProductQuantities %d%n", cartSize,
+                GraphLayout.parseInstance(boxed).totalSize(), GraphLayout.parseInstance(primitive).totalSize());
+    }
+
+    @Benchmark
+    public long lookupBoxed() {
+        long sum = 0;
+        for (long productId : productIds) {
+            sum += boxed.getOrDefault(productId, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lookupPrimitive() {
+        long sum = 0;
+        for (long productId : productIds) {
+            sum += primitive.quantity(productId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long totalBoxed() {
+        return boxed.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public long totalPrimitive() {
+        return primitive.totalQuantity();
+    }
+
+    @Benchmark
+    public Map<Long, Integer> fillBoxed() {
+        Map<Long, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.length; i++) {
+            map.put(productIds[i], 1_000 + i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public ProductQuantities fillPrimitive() {
+        ProductQuantities map = new ProductQuantities();
+        for (int i = 0; i < productIds.length; i++) {
+            map.set(productIds[i], 1_000 + i);
+        }
+        return map;
+    }
+}
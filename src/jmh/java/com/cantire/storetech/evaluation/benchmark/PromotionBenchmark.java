@@ -0,0 +1,119 @@
+package com.cantire.storetech.evaluation.benchmark;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.PriceLookup;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.ProductCategory;
+import com.cantire.storetech.evaluation.model.Promotion;
+import com.cantire.storetech.evaluation.model.PromotionLookup;
+import com.cantire.storetech.evaluation.service.PromotionRules;
+
+/**
+ * Cart repricing with growing numbers of active promotions: multi-buys, category discounts and bundles spread over a
+ * catalog of {@value #CATALOG_SIZE} products in {@value #CATEGORIES} categories. The time per cart should follow the
+ * cart size and stay flat as promotions are added; compiling the rules is measured separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromotionBenchmark {
+
+    private static final int CATALOG_SIZE = 100_000;
+    private static final int CATEGORIES = 500;
+    private static final int BUNDLE_SIZE = 3;
+
+    @Param({"0", "1000", "10000"})
+    private int promotionCount;
+
+    @Param({"10", "100"})
+    private int cartSize;
+
+    private List<Promotion> promotions;
+    private PromotionLookup promotionLookup;
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ZonedDateTime effective = ZonedDateTime.now().minusDays(1);
+        promotions = new ArrayList<>(promotionCount);
+        for (long id = 1; id <= promotionCount; id++) {
+            promotions.add(promotion(id, random, effective));
+        }
+        PromotionRules rules = PromotionRules.of(promotions);
+        promotionLookup = (lines, categoryIds, unitPrices) -> rules.lineDiscounts(lines, categoryIds, unitPrices, System.currentTimeMillis());
+
+        cart = new Cart();
+        cart.setId(1L);
+        cart.setRegion("ON");
+        cart.setCurrencyCode("CAD");
+        for (int line = 0; line < cartSize; line++) {
+            Product product = BenchmarkData.product(random.nextLong(1, CATALOG_SIZE + 1), 1, "CAD");
+            ProductCategory category = new ProductCategory();
+            category.setId(random.nextLong(1, CATEGORIES + 1));
+            product.setCategory(category);
+            cart.addProduct(product, random.nextInt(1, 6));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal repriceCart() {
+        cart.reprice(PriceLookup.LISTED, promotionLookup);
+        return cart.getSubtotal();
+    }
+
+    @Benchmark
+    public PromotionRules compileRules() {
+        return PromotionRules.of(promotions);
+    }
+
+    private static Promotion promotion(long id, SplittableRandom random, ZonedDateTime effective) {
+        Promotion promotion = new Promotion();
+        promotion.setId(id);
+        promotion.setName("Promotion " + id);
+        promotion.setEffectiveDate(effective);
+        switch ((int) (id % 3)) {
+            case 0 -> {
+                promotion.setType(Promotion.Type.MULTI_BUY);
+                promotion.setProductId(random.nextLong(1, CATALOG_SIZE + 1));
+                promotion.setBuyQuantity(3);
+                promotion.setFreeQuantity(1);
+            }
+            case 1 -> {
+                promotion.setType(Promotion.Type.CATEGORY_PERCENT_OFF);
+                promotion.setCategoryId(random.nextLong(1, CATEGORIES + 1));
+                promotion.setPercentOff(BigDecimal.valueOf(random.nextInt(5, 40)));
+            }
+            default -> {
+                promotion.setType(Promotion.Type.BUNDLE);
+                promotion.setPercentOff(BigDecimal.TEN);
+                for (int item = 0; item < BUNDLE_SIZE; item++) {
+                    promotion.getBundleItems().add(new Promotion.BundleItem(random.nextLong(1, CATALOG_SIZE + 1), 1));
+                }
+            }
+        }
+        return promotion;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Lets clients negotiate CBOR ({@code application/cbor}) or Smile ({@code application/x-jackson-smile}) instead of
+ * JSON, for requests and responses alike. Both are binary encodings of the same Jackson model, so the DTOs need no
+ * changes; they are smaller than JSON and cheaper to parse on the POS terminals. JSON stays the default when the
+ * {@code Accept} header does not ask for either.
+ * <p>
+ * The mappers come from Boot's {@link Jackson2ObjectMapperBuilder}, so {@code spring.jackson.*} settings and modules
+ * apply to every format, which the converters Spring MVC registers by default would not pick up.
+ */
+@Configuration
+public class BinaryFormatConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,18 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The clock that decides which prices are current, so tests can move it past a price boundary.
+ */
+@Configuration
+public class ClockConfiguration {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
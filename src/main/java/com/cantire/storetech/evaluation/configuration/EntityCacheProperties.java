@@ -0,0 +1,24 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Size limits for the Hibernate second-level cache regions, keyed by region name.
+ */
+@Data
+@ConfigurationProperties(prefix = "storetech.cache")
+public class EntityCacheProperties {
+
+    private long defaultMaxEntries = 10_000;
+
+    private Map<String, Long> maxEntries = new HashMap<>();
+
+    public long maxEntries(String region) {
+        return maxEntries.getOrDefault(region, defaultMaxEntries);
+    }
+}
@@ -0,0 +1,44 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cantire.storetech.evaluation.snapshot.DatabaseSnapshotRestorer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Fast boot from a prebuilt database snapshot ({@code storetech.fast-boot.enabled}), and the database
+ * initialization timing for whichever path was taken.
+ */
+@Configuration
+public class FastBootConfiguration {
+
+    @Bean
+    public static DatabaseSnapshotRestorer databaseSnapshotRestorer(
+            @Value("${storetech.fast-boot.enabled:false}") boolean enabled,
+            @Value("${storetech.fast-boot.snapshot-location:classpath:db.snapshot/}") String snapshotLocation) {
+        return new DatabaseSnapshotRestorer(enabled, snapshotLocation);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> databaseInitTimingPublisher(DatabaseSnapshotRestorer restorer,
+                                                                                MeterRegistry meterRegistry) {
+        return event -> {
+            if (restorer.getInitDuration() != null) {
+                TimeGauge.builder("storetech.startup.database.init", restorer, TimeUnit.NANOSECONDS,
+                                r -> r.getInitDuration().toNanos())
+                        .description("Time spent initializing the database at startup")
+                        .tag("path", restorer.getInitPath().name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry);
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the request path eager when the {@code lazy} profile turns on spring.main.lazy-initialization.
+ * Controllers and services, and with them the repositories, JPA and the data source they depend on, are still
+ * created at startup so the first request does not pay for them; everything else is created on first use.
+ */
+@Configuration
+public class LazyInitializationConfiguration {
+
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return (beanName, beanDefinition, beanType) -> AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || AnnotatedElementUtils.hasAnnotation(beanType, Service.class);
+    }
+}
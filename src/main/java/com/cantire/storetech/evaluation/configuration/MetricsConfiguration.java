@@ -0,0 +1,56 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.cantire.storetech.evaluation.metrics.CartPhaseJfrHandler;
+import com.cantire.storetech.evaluation.metrics.RepositoryMetricsPostProcessor;
+import com.cantire.storetech.evaluation.metrics.StatementCountInterceptor;
+import com.cantire.storetech.evaluation.metrics.StatementCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Data-layer metrics: repository latency and row counts, and SQL statements per HTTP request.
+ * Optionally mirrors the add-to-cart phase observations as JFR events.
+ */
+@Configuration
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfiguration(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${storetech.metrics.slow-query-threshold:100ms}") Duration slowQueryThreshold) {
+        return new RepositoryMetricsPostProcessor(meterRegistry, slowQueryThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new StatementCounter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "storetech.metrics.cart-phase-jfr-events", havingValue = "true")
+    public CartPhaseJfrHandler cartPhaseJfrHandler() {
+        return new CartPhaseJfrHandler();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(meterRegistry.getObject()));
+    }
+}
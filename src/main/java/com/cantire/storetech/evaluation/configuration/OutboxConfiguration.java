@@ -0,0 +1,35 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cantire.storetech.evaluation.outbox.InMemoryCartEventSink;
+import com.cantire.storetech.evaluation.outbox.NdjsonFileCartEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Chooses where {@link com.cantire.storetech.evaluation.outbox.CartOutboxRelay} publishes cart events
+ * ({@code storetech.outbox.sink}): {@code file} appends newline-delimited JSON to {@code storetech.outbox.file};
+ * {@code memory}, the default, keeps them in memory as a stand-in for a broker.
+ */
+@Configuration
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "storetech.outbox.sink", havingValue = "file")
+    public NdjsonFileCartEventSink ndjsonFileCartEventSink(@Value("${storetech.outbox.file:cart-events.ndjson}") Path file,
+                                                           ObjectMapper objectMapper) throws IOException {
+        return new NdjsonFileCartEventSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "storetech.outbox.sink", havingValue = "memory", matchIfMissing = true)
+    public InMemoryCartEventSink inMemoryCartEventSink() {
+        return new InMemoryCartEventSink();
+    }
+}
@@ -0,0 +1,81 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.cantire.storetech.evaluation.datasource.ReadYourWritesFilter;
+import com.cantire.storetech.evaluation.datasource.ReplicaCacheModeListener;
+import com.cantire.storetech.evaluation.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Splits traffic between the primary database ({@code spring.datasource}) and a read replica
+ * ({@code storetech.datasource.replica}) when {@code storetech.datasource.replica.enabled} is true.
+ * {@code @Transactional(readOnly = true)} work goes to the replica; Liquibase and all writes use the primary.
+ * A client's reads go to the primary for {@code storetech.datasource.replica.max-lag} after its own writes.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "storetech.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @LiquibaseDataSource
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("storetech.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                             @Value("${storetech.datasource.replica.max-lag:1s}") Duration maxLag) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, maxLag, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource routingDataSource) {
+        return new ReadYourWritesFilter(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaCacheModeListener replicaCacheModeListener(EntityManagerFactory entityManagerFactory,
+                                                             @Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource routingDataSource) {
+        return new ReplicaCacheModeListener(entityManagerFactory, routingDataSource);
+    }
+}
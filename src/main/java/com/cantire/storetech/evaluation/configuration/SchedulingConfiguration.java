@@ -0,0 +1,12 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs such as the periodic tax rate refresh.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
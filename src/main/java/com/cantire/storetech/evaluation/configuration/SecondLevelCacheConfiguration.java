@@ -0,0 +1,53 @@
+package com.cantire.storetech.evaluation.configuration;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache for reference data, backed by a local Ehcache JCache manager.
+ * Each region is created up front with a heap limit from {@link EntityCacheProperties}; Hibernate is set to fail
+ * on a region that is not declared here rather than silently create an unbounded one.
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class SecondLevelCacheConfiguration {
+
+    public static final List<String> REGIONS = List.of(
+            "product",
+            "product-price-infos",
+            "product-category",
+            "price-info",
+            "tax-info",
+            "default-query-results-region",
+            "default-update-timestamps-region");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(EntityCacheProperties properties) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (String region : REGIONS) {
+            configuration = configuration.withCache(region, CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                    Object.class, Object.class, ResourcePoolsBuilder.heap(properties.maxEntries(region))));
+        }
+        // A unique URI keeps each application context on its own cache manager
+        URI uri = URI.create("urn:storetech:second-level-cache:" + UUID.randomUUID());
+        return new EhcacheCachingProvider().getCacheManager(uri, configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
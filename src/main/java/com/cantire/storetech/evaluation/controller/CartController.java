@@ -1,7 +1,10 @@
 package com.cantire.storetech.evaluation.controller;
 
+import org.hibernate.ObjectNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,6 +12,9 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.cantire.storetech.evaluation.dto.CartSaveRequest;
 import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.exception.CartCheckedOutException;
+import com.cantire.storetech.evaluation.exception.InvalidCurrencyCodeException;
+import com.cantire.storetech.evaluation.service.CartService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,24 +26,66 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CartController {
 
+    private final CartService cartService;
+
     /**
      * Adds a product to a cart (creates new cart if needed).
      *
      * @param request Cart save request with product and cart details
-     * @return ResponseEntity with CartSaveResponse
+     * @return ResponseEntity with CartSaveResponse, or 409 when the cart is checked out
      */
     @PostMapping
     public ResponseEntity<CartSaveResponse> addProductToCart(@RequestBody CartSaveRequest request) {
         try {
-            // TODO: Call a service to add product to cart and return appropriate response
-            CartSaveResponse response = null;
+            CartSaveResponse response = cartService.addProductToCart(request);
             return ResponseEntity.status(response.getSuccess() ? HttpStatus.OK : HttpStatus.BAD_REQUEST)
                     .body(response);
+        } catch (ObjectNotFoundException | InvalidCurrencyCodeException | IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse(e));
+        } catch (CartCheckedOutException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse(e));
         } catch (Exception e) {
-            CartSaveResponse errorResponse = new CartSaveResponse();
-            errorResponse.setSuccess(false);
-            errorResponse.setMessage("Error processing cart: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse(e));
+        }
+    }
+
+    /**
+     * Returns a cart rendered from its persisted subtotal and tax snapshot.
+     *
+     * @param cartId Cart id
+     * @return ResponseEntity with CartSaveResponse
+     */
+    @GetMapping("/{cartId}")
+    public ResponseEntity<CartSaveResponse> getCart(@PathVariable Long cartId) {
+        try {
+            return ResponseEntity.ok(cartService.getCart(cartId));
+        } catch (ObjectNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse(e));
         }
     }
+
+    /**
+     * Checks a cart out, freezing its line prices, tax amounts and totals. Checking out again returns the same order.
+     *
+     * @param cartId Cart id
+     * @return ResponseEntity with CartSaveResponse rendered from the order, 404 for an unknown cart,
+     * or 409 for an empty cart or a product without a price
+     */
+    @PostMapping("/{cartId}/checkout")
+    public ResponseEntity<CartSaveResponse> checkout(@PathVariable Long cartId) {
+        try {
+            return ResponseEntity.ok(cartService.checkout(cartId));
+        } catch (ObjectNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse(e));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse(e));
+        }
+    }
+
+    private static CartSaveResponse errorResponse(Exception e) {
+        CartSaveResponse errorResponse = new CartSaveResponse();
+        errorResponse.setSuccess(false);
+        errorResponse.setMessage("Error processing cart: " + e.getMessage());
+        return errorResponse;
+    }
 }
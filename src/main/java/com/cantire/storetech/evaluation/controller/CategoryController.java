@@ -0,0 +1,50 @@
+package com.cantire.storetech.evaluation.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cantire.storetech.evaluation.dto.CategoryProductsResponse;
+import com.cantire.storetech.evaluation.dto.CategoryResponse;
+import com.cantire.storetech.evaluation.service.CategoryService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for browsing products by category, served from memory.
+ */
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    @GetMapping
+    public ResponseEntity<List<CategoryResponse>> getCategories() {
+        return ResponseEntity.ok(categoryService.getCategories());
+    }
+
+    /**
+     * A page of a category's products in product id order.
+     *
+     * @param categoryId Category id
+     * @param cursor     The previous page's nextCursor; omit for the first page
+     * @param size       Products per page, at most {@value ProductController#MAX_PAGE_SIZE}
+     * @return ResponseEntity with the page, 404 for an unknown category, or 400 for an out-of-range size
+     */
+    @GetMapping("/{categoryId}/products")
+    public ResponseEntity<CategoryProductsResponse> getCategoryProducts(@PathVariable Long categoryId,
+                                                                        @RequestParam(required = false) Long cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > ProductController.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.of(categoryService.getCategoryProducts(categoryId, cursor, size));
+    }
+}
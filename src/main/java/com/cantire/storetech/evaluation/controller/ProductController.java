@@ -1,13 +1,29 @@
 package com.cantire.storetech.evaluation.controller;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.dto.PriceHistoryResponse;
+import com.cantire.storetech.evaluation.dto.ProductSearchResponse;
+import com.cantire.storetech.evaluation.service.CatalogEncoding;
+import com.cantire.storetech.evaluation.service.CatalogPayload;
+import com.cantire.storetech.evaluation.service.CatalogSnapshotService;
+import com.cantire.storetech.evaluation.service.PriceChangeStreamService;
+import com.cantire.storetech.evaluation.service.ProductSearchService;
 import com.cantire.storetech.evaluation.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,10 +33,94 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductController {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_RESULT_WINDOW = 10_000;
+
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final PriceChangeStreamService priceChangeStreamService;
 
+    /**
+     * The whole catalog as stored by {@link CatalogSnapshotService}: already serialized in the negotiated format
+     * and compressed in the negotiated coding, with an entity tag for conditional requests.
+     *
+     * @param accept         JSON, CBOR or Smile; JSON when absent
+     * @param acceptEncoding gzip, deflate or identity
+     * @return ResponseEntity with the stored payload, 304 when the client's copy is current, or 406 for an unsupported format
+     */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getProducts() {
-        return ResponseEntity.ok(productService.getProductsWithPrices());
+    public ResponseEntity<byte[]> getProducts(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                              WebRequest request) {
+        Optional<MediaType> format = negotiateFormat(accept);
+        if (format.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        CatalogPayload payload = catalogSnapshotService.getCatalog(format.get(), CatalogEncoding.negotiate(acceptEncoding));
+        if (request.checkNotModified(payload.etag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(payload.contentType())
+                .contentLength(payload.body().length)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (payload.encoding() != CatalogEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, payload.encoding().token());
+        }
+        return response.body(payload.body());
+    }
+
+    /**
+     * Ranked search over product names, SKU prefixes and category names, served from memory.
+     * Results deeper than {@value #MAX_RESULT_WINDOW} are not paged to; refine the query instead.
+     *
+     * @param query Words that must all match, e.g. "drill kit" or "CT-DRI"
+     * @param page  Zero-based page number
+     * @param size  Results per page, at most {@value #MAX_PAGE_SIZE}
+     * @return ResponseEntity with the page of results, or 400 for a blank query or out-of-range page
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(@RequestParam("q") String query,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        if (query.isBlank() || page < 0 || size < 1 || size > MAX_PAGE_SIZE || (long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(productSearchService.search(query, page, size));
+    }
+
+    /**
+     * Stream of price changes as server-sent events named {@code price-change}, each carrying a product's current
+     * prices, sent when a price takes effect or expires and when a product is written. Replaces polling the catalog;
+     * a client that falls too far behind is disconnected and should reconnect and reload.
+     */
+    @GetMapping(value = "/price-changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPriceChanges() {
+        return priceChangeStreamService.subscribe();
+    }
+
+    private Optional<MediaType> negotiateFormat(String accept) {
+        List<MediaType> formats = catalogSnapshotService.getFormats();
+        if (accept == null || accept.isBlank()) {
+            return Optional.of(formats.get(0));
+        }
+        List<MediaType> requested = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(requested);
+        for (MediaType mediaType : requested) {
+            if (mediaType.getQualityValue() > 0) {
+                for (MediaType format : formats) {
+                    if (mediaType.isCompatibleWith(format)) {
+                        return Optional.of(format);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @GetMapping("/{productId}/price-history")
+    public ResponseEntity<List<PriceHistoryResponse>> getPriceHistory(@PathVariable Long productId) {
+        return ResponseEntity.ok(productService.getPriceHistory(productId));
     }
 }
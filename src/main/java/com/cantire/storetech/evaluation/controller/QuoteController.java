@@ -0,0 +1,39 @@
+package com.cantire.storetech.evaluation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cantire.storetech.evaluation.dto.QuoteRequest;
+import com.cantire.storetech.evaluation.dto.QuoteResponse;
+import com.cantire.storetech.evaluation.service.QuoteService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for stateless basket quotes.
+ */
+@RestController
+@RequestMapping("/api/quotes")
+@RequiredArgsConstructor
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    /**
+     * Prices a batch of baskets without creating carts.
+     *
+     * @param request Baskets to quote
+     * @return ResponseEntity with one quote per basket, or 400 when a basket or line is missing
+     */
+    @PostMapping
+    public ResponseEntity<QuoteResponse> quote(@RequestBody QuoteRequest request) {
+        try {
+            return ResponseEntity.ok(quoteService.quote(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.cantire.storetech.evaluation.converter;
 
 import com.cantire.storetech.evaluation.dto.CartSaveResponse;
 import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.CartOrder;
+import com.cantire.storetech.evaluation.model.CartOrderLine;
+import com.cantire.storetech.evaluation.model.CartOrderTax;
+import com.cantire.storetech.evaluation.model.PriceLookup;
 import com.cantire.storetech.evaluation.model.Product;
 import com.cantire.storetech.evaluation.model.TaxInfo;
 
@@ -19,10 +23,22 @@ public class CartResponseConverter {
      * @return CartSaveResponse with populated data
      */
     public static CartSaveResponse toResponse(Cart cart, boolean success, String message) {
+        return toResponse(cart, success, message, PriceLookup.LISTED);
+    }
+
+    /**
+     * Converts cart to response DTO, pricing items with the given lookup.
+     *
+     * @param cart        The cart entity
+     * @param priceLookup Source of current unit prices for the items
+     * @return CartSaveResponse with populated data
+     */
+    public static CartSaveResponse toResponse(Cart cart, boolean success, String message, PriceLookup priceLookup) {
         CartSaveResponse response = new CartSaveResponse();
         response.setCartId(cart.getId());
-        response.setTotalItems(cart.getProductQuantities().values().stream().mapToInt(Integer::intValue).sum());
+        response.setTotalItems(Math.toIntExact(cart.getTotalQuantity()));
         response.setSubtotal(cart.getSubtotal());
+        response.setDiscount(cart.getDiscount());
         response.setCurrencyCode(cart.getCurrencyCode());
         response.setRegion(cart.getRegion());
         response.setSuccess(success);
@@ -37,7 +53,7 @@ public class CartResponseConverter {
             item.setSku(product.getSku());
             item.setQuantity(cart.getProductQuantity(product.getId()));
 
-            Optional<BigDecimal> price = Product.findCurrentPrice(product, cart.getCurrencyCode());
+            Optional<BigDecimal> price = priceLookup.currentPrice(product, cart.getCurrencyCode());
             price.ifPresent(item::setPrice);
             item.setCurrencyCode(cart.getCurrencyCode());
 
@@ -52,6 +68,54 @@ public class CartResponseConverter {
         return response;
     }
 
+    /**
+     * Converts a checked-out cart's order to response DTO, entirely from the prices and amounts frozen in it.
+     *
+     * @param order The order frozen at checkout
+     * @return CartSaveResponse with populated data, including tax amounts and totals
+     */
+    public static CartSaveResponse toResponse(CartOrder order, String message) {
+        CartSaveResponse response = new CartSaveResponse();
+        response.setCartId(order.getCartId());
+        response.setOrderId(order.getId());
+        response.setTotalItems(order.getTotalItems());
+        response.setDiscount(order.getDiscountTotal());
+        response.setSubtotal(order.getSubtotal());
+        response.setTaxTotal(order.getTaxTotal());
+        response.setTotal(order.getTotal());
+        response.setCurrencyCode(order.getCurrencyCode());
+        response.setRegion(order.getRegion());
+        response.setSuccess(true);
+        response.setMessage(message);
+
+        List<CartSaveResponse.CartItemResponse> items = new ArrayList<>(order.getLines().size());
+        for (CartOrderLine line : order.getLines()) {
+            CartSaveResponse.CartItemResponse item = new CartSaveResponse.CartItemResponse();
+            item.setProductId(line.getProductId());
+            item.setProductName(line.getProductName());
+            item.setSku(line.getSku());
+            item.setQuantity(line.getQuantity());
+            item.setPrice(line.getUnitPrice());
+            item.setDiscount(line.getDiscount());
+            item.setLineTotal(line.getLineTotal());
+            item.setCurrencyCode(order.getCurrencyCode());
+            items.add(item);
+        }
+        response.setItems(items);
+
+        List<CartSaveResponse.TaxBreakdownResponse> taxes = new ArrayList<>(order.getTaxes().size());
+        for (CartOrderTax tax : order.getTaxes()) {
+            CartSaveResponse.TaxBreakdownResponse taxResponse = new CartSaveResponse.TaxBreakdownResponse();
+            taxResponse.setTaxType(tax.getTaxType().name());
+            taxResponse.setPercentage(tax.getPercentage());
+            taxResponse.setName(tax.getName());
+            taxResponse.setAmount(tax.getAmount());
+            taxes.add(taxResponse);
+        }
+        response.setTaxBreakdown(taxes);
+        return response;
+    }
+
     private static List<CartSaveResponse.TaxBreakdownResponse> getTaxBreakdownResponses(Cart cart) {
         List<CartSaveResponse.TaxBreakdownResponse> taxes = new ArrayList<>();
         if (cart.getApplicableTaxes() != null) {
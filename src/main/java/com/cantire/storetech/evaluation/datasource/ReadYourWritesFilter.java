@@ -0,0 +1,122 @@
+package com.cantire.storetech.evaluation.datasource;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Carries a client's read-after-write window from one request to the next. When a request commits a write, the response
+ * sets a {@value #COOKIE} cookie holding the commit time, living as long as the replica may lag; a later request from the
+ * same client, on whatever thread serves it, starts its window from that time, so its reads go to the primary until the
+ * replica has caught up.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "storetech-last-write";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReadYourWritesFilter(ReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long clientCommitMillis = clientCommitMillis(request);
+        routingDataSource.setLastCommitMillis(clientCommitMillis);
+        LastWriteResponse lastWriteResponse = new LastWriteResponse(response, clientCommitMillis);
+        try {
+            filterChain.doFilter(request, lastWriteResponse);
+            lastWriteResponse.addLastWriteCookie();
+        } finally {
+            // Pooled threads serve other clients next
+            routingDataSource.setLastCommitMillis(Long.MIN_VALUE);
+        }
+    }
+
+    private static long clientCommitMillis(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Adds the cookie before anything that commits the response, since headers cannot be added after that.
+     */
+    private class LastWriteResponse extends HttpServletResponseWrapper {
+
+        private final long clientCommitMillis;
+        private boolean cookieAdded;
+
+        LastWriteResponse(HttpServletResponse response, long clientCommitMillis) {
+            super(response);
+            this.clientCommitMillis = clientCommitMillis;
+        }
+
+        void addLastWriteCookie() {
+            long commitMillis = routingDataSource.getLastCommitMillis();
+            if (cookieAdded || commitMillis <= clientCommitMillis || isCommitted()) {
+                return;
+            }
+            Cookie cookie = new Cookie(COOKIE, Long.toString(commitMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, routingDataSource.getMaxLag().toSeconds() + 1));
+            addCookie(cookie);
+            cookieAdded = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addLastWriteCookie();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addLastWriteCookie();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addLastWriteCookie();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addLastWriteCookie();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addLastWriteCookie();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addLastWriteCookie();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.cantire.storetech.evaluation.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Keeps rows read from a replica that may be lagging out of the second-level and query caches. Those caches have no
+ * expiry, so a row cached from a replica that had not yet applied a write would be served stale until the next write to
+ * it. Read-only transactions begun within {@code maxLag} of any commit still read from the caches, but do not fill them.
+ */
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReplicaCacheModeListener(EntityManagerFactory entityManagerFactory, ReplicaRoutingDataSource routingDataSource) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure == null &&
+                TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            // Set on every transaction, since an open-in-view entity manager is reused by the request's later transactions
+            boolean mayReadLaggingReplica = transaction.isReadOnly() && routingDataSource.replicaMayLag();
+            EntityManager entityManager = holder.getEntityManager();
+            // find() reads the JPA store mode, queries the session cache mode
+            entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE,
+                    mayReadLaggingReplica ? CacheStoreMode.BYPASS : CacheStoreMode.USE);
+            entityManager.unwrap(Session.class).setCacheMode(mayReadLaggingReplica ? CacheMode.GET : CacheMode.NORMAL);
+        }
+    }
+}
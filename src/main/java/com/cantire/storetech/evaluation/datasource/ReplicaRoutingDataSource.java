@@ -0,0 +1,96 @@
+package com.cantire.storetech.evaluation.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to a replica and everything else to the primary.
+ * Replica lag is handled with a read-after-write window scoped to the writer: for {@code maxLag} after a read-write
+ * transaction commits, read-only work on the thread that committed it also goes to the primary, so the rest of that
+ * request cannot miss its own write. {@link ReadYourWritesFilter} carries the window to the client's later requests,
+ * whichever thread serves them. Read-only work for other clients keeps using the replica while writes go on; since
+ * that replica may lag for {@code maxLag} after any commit, {@link ReplicaCacheModeListener} keeps such reads out of the
+ * second-level and query caches.
+ * Wrap it in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the route is chosen
+ * when the first statement runs, after the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Duration maxLag;
+    private final Clock clock;
+    /** When this thread, or the client it is serving, last committed a read-write transaction, in epoch milliseconds. */
+    private final ThreadLocal<long[]> lastCommitMillis = ThreadLocal.withInitial(() -> new long[]{Long.MIN_VALUE});
+    /** When any thread last committed a read-write transaction, in epoch milliseconds. */
+    private final AtomicLong lastCommitAnywhereMillis = new AtomicLong(Long.MIN_VALUE);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag, Clock clock) {
+        this.maxLag = maxLag;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive() && TransactionSynchronizationManager.isSynchronizationActive()) {
+                long[] lastCommit = lastCommitMillis.get();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        long now = clock.millis();
+                        lastCommit[0] = now;
+                        lastCommitAnywhereMillis.accumulateAndGet(now, Math::max);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        return withinMaxLag(lastCommitMillis.get()[0]) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    /**
+     * When this thread last committed a read-write transaction, or the time it was given by {@link #setLastCommitMillis};
+     * {@link Long#MIN_VALUE} for never.
+     */
+    public long getLastCommitMillis() {
+        return lastCommitMillis.get()[0];
+    }
+
+    /**
+     * Sets when this thread's read-after-write window starts, e.g. to a write the client made on another thread.
+     * {@link Long#MIN_VALUE} clears it.
+     */
+    public void setLastCommitMillis(long commitMillis) {
+        lastCommitMillis.get()[0] = commitMillis;
+    }
+
+    /**
+     * Whether any thread committed a write within {@code maxLag}, so the replica may not have it yet.
+     */
+    public boolean replicaMayLag() {
+        return withinMaxLag(lastCommitAnywhereMillis.get());
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    private boolean withinMaxLag(long commitMillis) {
+        return commitMillis != Long.MIN_VALUE && clock.millis() - commitMillis < maxLag.toMillis();
+    }
+}
@@ -19,7 +19,9 @@ public class CartSaveResponse {
 
     private Integer totalItems; // sum of all item quantities in the cart
 
-    private BigDecimal subtotal;
+    private BigDecimal subtotal; // net of the promotion discount
+
+    private BigDecimal discount;
 
     private String currencyCode;
 
@@ -29,6 +31,12 @@ public class CartSaveResponse {
 
     private List<TaxBreakdownResponse> taxBreakdown;
 
+    private Long orderId; // set once the cart is checked out, with the frozen totals below
+
+    private BigDecimal taxTotal;
+
+    private BigDecimal total;
+
     private String message;
 
     private Boolean success;
@@ -46,6 +54,8 @@ public class CartSaveResponse {
         private Integer quantity;
         private BigDecimal price;
         private String currencyCode;
+        private BigDecimal discount;
+        private BigDecimal lineTotal;
     }
 
     /**
@@ -58,5 +68,6 @@ public class CartSaveResponse {
         private String taxType;
         private Double percentage;
         private String name;
+        private BigDecimal amount;
     }
 }
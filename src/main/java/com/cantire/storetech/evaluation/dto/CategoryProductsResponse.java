@@ -0,0 +1,25 @@
+package com.cantire.storetech.evaluation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a page of a category's products, in product id order, with current prices.
+ * Pass {@code nextCursor} back as {@code cursor} for the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryProductsResponse {
+
+    private CategoryResponse category;
+
+    private Long cursor;
+
+    private Long nextCursor;
+
+    private List<ProductResponse> products;
+}
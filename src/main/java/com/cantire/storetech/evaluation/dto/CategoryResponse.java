@@ -0,0 +1,20 @@
+package com.cantire.storetech.evaluation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a product category and the number of products listed in it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryResponse {
+
+    private Long id;
+
+    private String name;
+
+    private Integer productCount;
+}
@@ -0,0 +1,36 @@
+package com.cantire.storetech.evaluation.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Server-sent event data for a product whose current prices may have changed, carrying the prices now current.
+ * An empty price list means the product has no current price.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceChangeEvent {
+
+    private Long productId;
+
+    private Reason reason;
+
+    private Instant at;
+
+    private List<ProductResponse.PricingInfo> prices;
+
+    /**
+     * What caused the event.
+     */
+    public enum Reason {
+        /** The product or its prices were written. */
+        PRODUCT_WRITTEN,
+        /** A price took effect or expired. */
+        PRICE_BOUNDARY
+    }
+}
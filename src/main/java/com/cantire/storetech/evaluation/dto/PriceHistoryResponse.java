@@ -0,0 +1,27 @@
+package com.cantire.storetech.evaluation.dto;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for an expired price of a product, with the window it applied in and when it was archived.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistoryResponse {
+
+    private String currencyCode;
+
+    private BigDecimal price;
+
+    private ZonedDateTime effectiveDate;
+
+    private ZonedDateTime expiryDate;
+
+    private ZonedDateTime archivedAt;
+}
@@ -0,0 +1,26 @@
+package com.cantire.storetech.evaluation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a page of product search results, best match first, with current prices.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+    private String query;
+
+    private Integer page;
+
+    private Integer size;
+
+    private Integer totalHits;
+
+    private List<ProductResponse> products;
+}
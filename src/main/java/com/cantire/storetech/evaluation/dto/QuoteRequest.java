@@ -0,0 +1,42 @@
+package com.cantire.storetech.evaluation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for pricing a batch of hypothetical baskets without creating carts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    private List<Basket> baskets;
+
+    /**
+     * A basket to quote.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Basket {
+        private String reference;  // Optional - echoed back so callers can match quotes to baskets
+        private String region;  // Province abbreviation (e.g., "AB", "ON", "BC")
+        private String currencyCode;  // e.g., "CAD"
+        private List<Line> lines;
+    }
+
+    /**
+     * A product and quantity within a basket.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private Long productId;
+        private Integer quantity;
+    }
+}
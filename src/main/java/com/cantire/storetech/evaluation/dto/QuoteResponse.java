@@ -0,0 +1,37 @@
+package com.cantire.storetech.evaluation.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a batch quote. Quotes are returned in the same order as the requested baskets.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponse {
+
+    private List<BasketQuote> quotes;
+
+    /**
+     * Totals for a single basket.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BasketQuote {
+        private String reference;
+        private String region;
+        private String currencyCode;
+        private Integer totalItems;
+        private BigDecimal subtotal;
+        private BigDecimal taxTotal;
+        private BigDecimal total;
+        private Boolean success;
+        private String message;
+    }
+}
@@ -0,0 +1,10 @@
+package com.cantire.storetech.evaluation.exception;
+
+/**
+ * Thrown when a product is added to a cart that already has an order; the cart can no longer change.
+ */
+public class CartCheckedOutException extends RuntimeException {
+    public CartCheckedOutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one add-to-cart phase, so CPU and allocation samples in a recording line up with the phase timers.
+ */
+@Name("com.cantire.storetech.CartPhase")
+@Label("Cart Phase")
+@Category({"Storetech", "Cart"})
+@Description("One phase of adding a product to a cart")
+public class CartPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Region")
+    String region;
+
+    @Label("Currency")
+    String currency;
+
+    @Label("Cart Size")
+    String cartSize;
+}
@@ -0,0 +1,42 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+/**
+ * Emits a {@link CartPhaseEvent} for every cart phase observation. The event only costs anything while a JFR
+ * recording with the event enabled is running.
+ */
+public class CartPhaseJfrHandler implements ObservationHandler<Observation.Context> {
+
+    @Override
+    public void onStart(Observation.Context context) {
+        CartPhaseEvent event = new CartPhaseEvent();
+        event.begin();
+        context.put(CartPhaseEvent.class, event);
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        CartPhaseEvent event = context.get(CartPhaseEvent.class);
+        if (event == null || !event.shouldCommit()) {
+            return;
+        }
+        event.phase = value(context, "phase");
+        event.region = value(context, "region");
+        event.currency = value(context, "currency");
+        event.cartSize = value(context, "cart.size");
+        event.commit();
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return CartPhaseObservations.OBSERVATION_NAME.equals(context.getName());
+    }
+
+    private static String value(Observation.Context context, String key) {
+        KeyValue keyValue = context.getLowCardinalityKeyValue(key);
+        return keyValue == null ? null : keyValue.getValue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes the phases of one add-to-cart call. Each phase is a {@value #OBSERVATION_NAME} observation tagged with
+ * the phase, region, currency and a cart-size bucket, which the actuator turns into a timer (and a span when tracing
+ * is configured). The cart size is tagged when each phase stops, so the cart-load phase carries the size it loaded.
+ * Region and currency values that do not look like a province or ISO code are tagged as OTHER to bound cardinality.
+ */
+public final class CartPhaseObservations {
+
+    public static final String OBSERVATION_NAME = "storetech.cart.add.phase";
+
+    private static final Pattern REGION = Pattern.compile("[A-Z]{2}");
+    private static final Pattern CURRENCY = Pattern.compile("[A-Z]{3}");
+    private static final String OTHER = "OTHER";
+
+    public enum Phase {
+        PRODUCT_LOOKUP("product.lookup"),
+        CART_LOAD("cart.load"),
+        TAX_LOOKUP("tax.lookup"),
+        SUBTOTAL("subtotal"),
+        PERSIST("persist"),
+        RESPONSE("response");
+
+        private final String tagValue;
+
+        Phase(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
+    }
+
+    private final ObservationRegistry observationRegistry;
+    private final String region;
+    private final String currency;
+    private String cartSize = sizeBucket(0);
+
+    public CartPhaseObservations(ObservationRegistry observationRegistry, String region, String currency) {
+        this.observationRegistry = observationRegistry;
+        this.region = tagValue(region, REGION);
+        this.currency = tagValue(currency, CURRENCY);
+    }
+
+    /**
+     * Sets the number of distinct products in the cart for the phases that stop from now on.
+     */
+    public void cartSize(int productCount) {
+        this.cartSize = sizeBucket(productCount);
+    }
+
+    public <T> T observe(Phase phase, Supplier<T> work) {
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("cart-add " + phase.tagValue())
+                .lowCardinalityKeyValue("phase", phase.tagValue())
+                .lowCardinalityKeyValue("region", region)
+                .lowCardinalityKeyValue("currency", currency)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return work.get();
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue("cart.size", cartSize);
+            observation.stop();
+        }
+    }
+
+    public void observe(Phase phase, Runnable work) {
+        observe(phase, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    static String sizeBucket(int productCount) {
+        if (productCount == 0) {
+            return "0";
+        } else if (productCount <= 5) {
+            return "1-5";
+        } else if (productCount <= 20) {
+            return "6-20";
+        } else if (productCount <= 100) {
+            return "21-100";
+        }
+        return "100+";
+    }
+
+    private static String tagValue(String value, Pattern pattern) {
+        return value != null && pattern.matcher(value).matches() ? value : OTHER;
+    }
+}
@@ -0,0 +1,111 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Slice;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.Entity;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times every repository method call, records how many rows a query returned and logs calls slower than a threshold.
+ * Rows are recorded only for queries returning entities, or collections or pages of them: not for writes, counts or
+ * other scalar results.
+ * Added to each repository proxy by {@link RepositoryMetricsPostProcessor}.
+ */
+@Slf4j
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    public static final String INVOCATIONS_METRIC = "storetech.repository.invocations";
+    public static final String ROWS_METRIC = "storetech.repository.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final String repository;
+    private final Duration slowQueryThreshold;
+
+    public RepositoryMetricsInterceptor(MeterRegistry meterRegistry, Class<?> repositoryInterface, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            Object result = invocation.proceed();
+            int rows = isWrite(invocation.getMethod()) ? -1 : rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder(ROWS_METRIC)
+                        .description("Rows returned by repository methods")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder(INVOCATIONS_METRIC)
+                    .description("Latency of repository method calls")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(elapsed));
+            if (elapsed > slowQueryThreshold.toNanos()) {
+                log.warn("Slow repository call {}.{} took {} ms", repository, method, Duration.ofNanos(elapsed).toMillis());
+            }
+        }
+    }
+
+    private static boolean isWrite(Method method) {
+        String name = method.getName();
+        return method.getReturnType() == void.class || name.startsWith("save") || name.startsWith("delete");
+    }
+
+    /**
+     * Number of rows in a repository result, or -1 when it is not rows of entities or cannot be counted without
+     * consuming it.
+     */
+    static int rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Iterable<?> iterable) {
+            int rows = 0;
+            for (Object ignored : iterable) {
+                rows++;
+            }
+            return rows;
+        }
+        if (Hibernate.getClass(result).isAnnotationPresent(Entity.class)) {
+            return 1;
+        }
+        return -1;
+    }
+}
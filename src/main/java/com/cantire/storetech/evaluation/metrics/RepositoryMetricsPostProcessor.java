@@ -0,0 +1,34 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adds a {@link RepositoryMetricsInterceptor} to every Spring Data repository proxy.
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Duration slowQueryThreshold;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                    repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(new RepositoryMetricsInterceptor(meterRegistry.getObject(),
+                                    repositoryInformation.getRepositoryInterface(), slowQueryThreshold))));
+        }
+        return bean;
+    }
+}
@@ -1,6 +1,8 @@
 package com.cantire.storetech.evaluation.model;
 
 import com.cantire.storetech.evaluation.dto.CartSaveRequest;
+import com.cantire.storetech.evaluation.exception.CartCheckedOutException;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -12,20 +14,23 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CollectionType;
 
 import java.math.BigDecimal;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -36,11 +41,11 @@ import java.util.Set;
 @Data
 @Table(name = "cart")
 @NoArgsConstructor
-@AllArgsConstructor
 public class Cart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_seq")
+    @SequenceGenerator(name = "cart_seq", sequenceName = "cart_seq", allocationSize = 50)
     private Long id;
 
     @Setter(AccessLevel.NONE)
@@ -53,20 +58,58 @@ public class Cart {
 
     private Set<Product> products = new LinkedHashSet<>();
 
+    /**
+     * Held in a {@link ProductQuantities}, loaded or new, so lookups and totals do not box. Changed only through
+     * {@link #addProduct}, {@link #removeProduct} and {@link #emptyCart}.
+     */
+    @Getter(AccessLevel.NONE)
     @Setter(AccessLevel.NONE)
     @ElementCollection
+    @CollectionType(type = ProductQuantitiesType.class)
     @MapKeyColumn(name = "product_id")
     @Column(name = "quantity")
-    private Map<Long, Integer> productQuantities = new LinkedHashMap<>();
+    private Map<Long, Integer> productQuantities = new ProductQuantities();
 
     private String region;
 
     private String currencyCode;
 
+    /**
+     * Net of {@link #discount}.
+     */
     private BigDecimal subtotal = BigDecimal.ZERO;
 
-    @Transient
-    private List<TaxInfo> applicableTaxes = new LinkedList<>();
+    /**
+     * Promotion discounts of all lines as of the last {@link #reprice}.
+     */
+    @Setter(AccessLevel.NONE)
+    private BigDecimal discount = BigDecimal.ZERO;
+
+    /**
+     * Sequence number of the cart's latest outbox event; see {@link #nextEventSequence()}.
+     */
+    @Setter(AccessLevel.NONE)
+    private long eventSequence;
+
+    /**
+     * The {@link CartOrder} frozen at checkout, or null while the cart is open.
+     */
+    @Setter(AccessLevel.NONE)
+    private Long orderId;
+
+    /**
+     * Taxes captured when the cart was created or its region last changed, so loading a cart never needs a tax lookup.
+     */
+    @Setter(AccessLevel.NONE)
+    @ElementCollection
+    @CollectionTable(name = "cart_applicable_taxes", joinColumns = @JoinColumn(name = "cart_id"))
+    private List<CartTax> taxSnapshot = new ArrayList<>();
+
+    /**
+     * The region {@link #taxSnapshot} was captured for, even when that region has no taxes, or null if it never was.
+     */
+    @Setter(AccessLevel.NONE)
+    private String taxRegion;
 
     /**
      * Factory method to create a new Cart instance.
@@ -80,10 +123,89 @@ public class Cart {
         return cart;
     }
 
+    /**
+     * Moves the cart to a new region and replaces its tax snapshot with the taxes of that region.
+     */
+    public void changeRegion(String newRegion, List<TaxInfo> taxesForRegion) {
+        this.setRegion(newRegion);
+        this.setApplicableTaxes(taxesForRegion);
+    }
+
+    /**
+     * A tax snapshot is needed when none has been captured for the requested region. An empty snapshot captured for
+     * it counts, so a region without taxes is not looked up again.
+     */
+    public boolean requiresTaxSnapshot(String requestedRegion) {
+        return taxRegion == null || !Objects.equals(taxRegion, requestedRegion) || !Objects.equals(region, requestedRegion);
+    }
+
+    public List<TaxInfo> getApplicableTaxes() {
+        return taxSnapshot.stream()
+                .map(CartTax::toTaxInfo)
+                .toList();
+    }
+
+    /**
+     * Replaces the tax snapshot and records it as captured for the cart's current region.
+     */
+    public void setApplicableTaxes(List<TaxInfo> taxes) {
+        taxRegion = region;
+        taxSnapshot.clear();
+        if (taxes != null) {
+            taxes.stream()
+                    .map(CartTax::from)
+                    .forEach(taxSnapshot::add);
+        }
+    }
+
     public void addProduct(Product product, int quantity) {
+        addProduct(product, quantity, PriceLookup.LISTED);
+    }
+
+    /**
+     * Adds a product and recalculates the subtotal with prices from the given lookup, without promotions.
+     */
+    public void addProduct(Product product, int quantity, PriceLookup priceLookup) {
+        addProduct(product, quantity, priceLookup, PromotionLookup.NONE);
+    }
+
+    /**
+     * Adds a product and reprices the cart with prices from the given lookup and the promotions in effect.
+     */
+    public void addProduct(Product product, int quantity, PriceLookup priceLookup, PromotionLookup promotionLookup) {
+        if (isCheckedOut()) {
+            throw new CartCheckedOutException("Cart " + id + " is checked out");
+        }
         products.add(product);
         productQuantities.put(product.getId(), quantity);
-        this.setSubtotal(calculateSubtotal());
+        reprice(priceLookup, promotionLookup);
+    }
+
+    /**
+     * Prices every line with the given lookup and applies the promotions in effect: the discount is the sum of the
+     * line discounts and the subtotal is net of it. Products without a price count as zero.
+     */
+    public void reprice(PriceLookup priceLookup, PromotionLookup promotionLookup) {
+        ProductQuantityView lines = quantities();
+        Map<Long, Product> productsById = new HashMap<>(products.size() * 4 / 3 + 1);
+        for (Product product : products) {
+            productsById.put(product.getId(), product);
+        }
+        long[] categoryIds = new long[lines.size()];
+        BigDecimal[] unitPrices = new BigDecimal[lines.size()];
+        BigDecimal gross = BigDecimal.ZERO;
+        for (int line = 0; line < unitPrices.length; line++) {
+            Product product = productsById.get(lines.productIdAt(line));
+            categoryIds[line] = PromotionLookup.categoryOf(product);
+            unitPrices[line] = priceLookup.currentPrice(product, currencyCode).orElse(BigDecimal.ZERO);
+            gross = gross.add(unitPrices[line].multiply(BigDecimal.valueOf(lines.quantityAt(line))));
+        }
+        BigDecimal totalDiscount = BigDecimal.ZERO;
+        for (BigDecimal lineDiscount : promotionLookup.lineDiscounts(lines, categoryIds, unitPrices)) {
+            totalDiscount = totalDiscount.add(lineDiscount);
+        }
+        this.discount = totalDiscount;
+        this.setSubtotal(gross.subtract(totalDiscount));
     }
 
     public void removeProduct(Long productId) {
@@ -97,10 +219,20 @@ public class Cart {
      * @return Calculated subtotal
      */
     public BigDecimal calculateSubtotal() {
+        return calculateSubtotal(PriceLookup.LISTED);
+    }
+
+    /**
+     * Calculates the subtotal before promotions with prices from the given lookup; products without a price count as zero.
+     *
+     * @param priceLookup Source of current unit prices
+     * @return Calculated subtotal
+     */
+    public BigDecimal calculateSubtotal(PriceLookup priceLookup) {
         return this.getProducts().stream()
                 .map(product -> {
                     int quantity = this.getProductQuantity(product.getId());
-                    Optional<BigDecimal> price = Product.findCurrentPrice(product, this.getCurrencyCode());
+                    Optional<BigDecimal> price = priceLookup.currentPrice(product, this.getCurrencyCode());
                     return price.map(p -> p.multiply(new BigDecimal(quantity)))
                             .orElse(BigDecimal.ZERO);
                 })
@@ -108,12 +240,56 @@ public class Cart {
     }
 
     public int getProductQuantity(Long productId) {
-        return productQuantities.getOrDefault(productId, 0);
+        return quantities().quantity(productId);
+    }
+
+    public long getTotalQuantity() {
+        return quantities().totalQuantity();
+    }
+
+    /**
+     * Read-only product id to quantity map of the lines.
+     */
+    public Map<Long, Integer> getProductQuantities() {
+        return Collections.unmodifiableMap(productQuantities);
+    }
+
+    /**
+     * The lines in insertion order, for iterating without boxing. Read-only; reads through to the cart.
+     */
+    public ProductQuantityView quantities() {
+        ProductQuantities quantities = productQuantities instanceof PersistentProductQuantities persistent ?
+                persistent.quantities() :
+                (ProductQuantities) productQuantities;
+        return quantities.readOnlyView();
+    }
+
+    /**
+     * Finalizes the cart; from now on it renders from the order and no product can be added.
+     */
+    public void checkout(Long checkedOutOrderId) {
+        if (isCheckedOut()) {
+            throw new CartCheckedOutException("Cart " + id + " is checked out");
+        }
+        this.orderId = checkedOutOrderId;
+    }
+
+    public boolean isCheckedOut() {
+        return orderId != null;
+    }
+
+    /**
+     * Numbers the cart's next event, from 1, so consumers can apply a cart's events in order.
+     * The number is stored with the cart, so it only advances when the transaction writing the event commits.
+     */
+    public long nextEventSequence() {
+        return ++eventSequence;
     }
 
     public void emptyCart() {
         this.getProducts().clear();
-        this.getProductQuantities().clear();
+        this.productQuantities.clear();
         this.setSubtotal(BigDecimal.ZERO);
+        this.discount = BigDecimal.ZERO;
     }
 }
@@ -0,0 +1,76 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * CartOrder is the immutable record of a checked-out cart: each line's unit price and promotion discount, the tax
+ * amounts and the totals, all priced at one instant. A finalized cart renders from it, never from current prices or tax rates.
+ * The order, its lines and its taxes are inserted in one flush, each table as a single JDBC batch.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "cart_order")
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartOrder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_order_seq")
+    @SequenceGenerator(name = "cart_order_seq", sequenceName = "cart_order_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "cart_id")
+    private Long cartId;
+
+    private String region;
+
+    private String currencyCode;
+
+    private Integer totalItems;
+
+    /**
+     * Promotion discounts of all lines; the subtotal is net of them.
+     */
+    private BigDecimal discountTotal;
+
+    private BigDecimal subtotal;
+
+    private BigDecimal taxTotal;
+
+    private BigDecimal total;
+
+    /**
+     * The instant every line was priced at.
+     */
+    private ZonedDateTime pricedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "cart_order_line", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line_number")
+    private List<CartOrderLine> lines = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "cart_order_tax", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line_number")
+    private List<CartOrderTax> taxes = new ArrayList<>();
+}
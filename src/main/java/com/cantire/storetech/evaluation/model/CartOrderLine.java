@@ -0,0 +1,36 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CartOrderLine is one product of a {@link CartOrder}, with the product details, unit price and promotion discount
+ * frozen at checkout.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartOrderLine {
+
+    private Long productId;
+
+    private String productName;
+
+    private String sku;
+
+    private Integer quantity;
+
+    private BigDecimal unitPrice;
+
+    private BigDecimal discount;
+
+    /**
+     * Unit price times quantity, less the discount.
+     */
+    private BigDecimal lineTotal;
+}
@@ -0,0 +1,29 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CartOrderTax is one tax of a {@link CartOrder}: the rate from the cart's tax snapshot and the amount charged.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartOrderTax {
+
+    @Enumerated(EnumType.STRING)
+    private TaxInfo.TaxType taxType;
+
+    private String name;
+
+    private Double percentage;
+
+    private BigDecimal amount;
+}
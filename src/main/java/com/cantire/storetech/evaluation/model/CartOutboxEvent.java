@@ -0,0 +1,45 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * CartOutboxEvent is a cart event waiting in cart_outbox to be relayed downstream, inserted in the transaction
+ * that writes the cart. It references its cart by id only; the payload is the serialized event.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "cart_outbox")
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_outbox_seq")
+    @SequenceGenerator(name = "cart_outbox_seq", sequenceName = "cart_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "cart_id")
+    private Long cartId;
+
+    @Column(name = "cart_sequence")
+    private Long cartSequence;
+
+    private String eventType;
+
+    private String payload;
+
+    private ZonedDateTime createdAt;
+}
@@ -0,0 +1,47 @@
+package com.cantire.storetech.evaluation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CartTax is a snapshot of a TaxInfo row captured when a cart is created or its region changes.
+ * It is persisted in cart_applicable_taxes so a cart renders its taxes without another tax lookup.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartTax {
+
+    @Column(name = "locale")
+    private String countryCode;
+
+    private String stateProvince;
+
+    private Double percentage;
+
+    @Enumerated(EnumType.STRING)
+    private TaxInfo.TaxType taxType;
+
+    private String name;
+
+    public static CartTax from(TaxInfo taxInfo) {
+        return new CartTax(taxInfo.getCountryCode(), taxInfo.getStateProvince(), taxInfo.getPercentage(),
+                taxInfo.getTaxType(), taxInfo.getName());
+    }
+
+    public TaxInfo toTaxInfo() {
+        TaxInfo taxInfo = new TaxInfo();
+        taxInfo.setCountryCode(countryCode);
+        taxInfo.setStateProvince(stateProvince);
+        taxInfo.setPercentage(percentage);
+        taxInfo.setTaxType(taxType);
+        taxInfo.setName(name);
+        return taxInfo;
+    }
+}
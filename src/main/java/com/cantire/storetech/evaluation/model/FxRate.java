@@ -0,0 +1,41 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * FxRate converts an amount in the source currency to the target currency: target = source * rate.
+ * A rate applies from its effective date to its expiry date, inclusive; a null expiry date leaves it open.
+ */
+@Entity
+@Data
+@Table(name = "fx_rate")
+@NoArgsConstructor
+@AllArgsConstructor
+public class FxRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fx_rate_seq")
+    @SequenceGenerator(name = "fx_rate_seq", sequenceName = "fx_rate_seq", allocationSize = 50)
+    private Long id;
+
+    private String sourceCurrency;
+
+    private String targetCurrency;
+
+    private BigDecimal rate;
+
+    private ZonedDateTime effectiveDate;
+
+    private ZonedDateTime expiryDate;
+}
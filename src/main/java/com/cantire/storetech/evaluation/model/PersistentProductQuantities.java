@@ -0,0 +1,30 @@
+package com.cantire.storetech.evaluation.model;
+
+import org.hibernate.collection.spi.PersistentMap;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Hibernate's wrapper around a {@link ProductQuantities}, tracking changes for flush like any persistent map,
+ * and handing out the primitive map for reads that should not box.
+ */
+public class PersistentProductQuantities extends PersistentMap<Long, Integer> {
+
+    public PersistentProductQuantities() {
+    }
+
+    public PersistentProductQuantities(SharedSessionContractImplementor session) {
+        super(session);
+    }
+
+    public PersistentProductQuantities(SharedSessionContractImplementor session, ProductQuantities quantities) {
+        super(session, quantities);
+    }
+
+    /**
+     * The wrapped map, loaded first if need be. Changes must go through this wrapper so they are flushed.
+     */
+    ProductQuantities quantities() {
+        read();
+        return (ProductQuantities) map;
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -11,18 +12,23 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * PriceInfo is a value object accessible only through its aggregate root (Product).
  * It represents pricing information for a product in a specific locale/currency.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "price-info")
 @Data
 @Table(name = "price_info")
 @NoArgsConstructor
@@ -31,7 +37,8 @@ import lombok.ToString;
 public class PriceInfo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_info_seq")
+    @SequenceGenerator(name = "price_info_seq", sequenceName = "price_info_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore
@@ -47,4 +54,11 @@ public class PriceInfo {
     private ZonedDateTime effectiveDate;
 
     private ZonedDateTime expiryDate;
+
+    /**
+     * Whether this price applies at the given instant; the effective and expiry dates are inclusive.
+     */
+    public boolean isCurrent(ZonedDateTime at) {
+        return !effectiveDate.isAfter(at) && !expiryDate.isBefore(at);
+    }
 }
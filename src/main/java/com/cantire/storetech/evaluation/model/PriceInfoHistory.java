@@ -0,0 +1,42 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * PriceInfoHistory is an expired PriceInfo moved out of the hot price_info table by the archive job.
+ * It references its product by id only, so reading history never loads the product aggregate.
+ */
+@Entity
+@Immutable
+@Data
+@Table(name = "price_info_history")
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceInfoHistory {
+
+    @Id
+    private Long id;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    private String currencyCode;
+
+    private BigDecimal price;
+
+    private ZonedDateTime effectiveDate;
+
+    private ZonedDateTime expiryDate;
+
+    private ZonedDateTime archivedAt;
+}
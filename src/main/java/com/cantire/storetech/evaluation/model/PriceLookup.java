@@ -0,0 +1,18 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Resolves the current unit price of a product in a currency.
+ */
+@FunctionalInterface
+public interface PriceLookup {
+
+    /**
+     * Only prices listed in the requested currency.
+     */
+    PriceLookup LISTED = Product::findCurrentPrice;
+
+    Optional<BigDecimal> currentPrice(Product product, String currencyCode);
+}
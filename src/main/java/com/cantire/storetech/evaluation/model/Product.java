@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -17,8 +18,15 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @Data
 @Table(name = "product")
 @NoArgsConstructor
@@ -38,6 +46,16 @@ public class Product {
     @JoinColumn(name = "category_id")
     private ProductCategory category;
 
+    /**
+     * Active and future prices only. Expired prices are moved to price_info_history by PriceArchiveService;
+     * the restriction hides any that expired since the last archive run. It applies when the collection is read from
+     * the database, not when it is served from the cache, so a cached collection can still hold prices that have expired
+     * since: readers pick prices by date, as {@link #findPriceAt} does.
+     * Prices of every product loaded by one query are fetched with one subselect rather than one select per product.
+     */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product-price-infos")
+    @SQLRestriction("expiry_date >= current_timestamp")
+    @Fetch(FetchMode.SUBSELECT)
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "product")
     private List<PriceInfo> priceInfos = new ArrayList<>();
 
@@ -49,11 +67,16 @@ public class Product {
      * @return Optional containing the current price, or empty if not found
      */
     public static Optional<BigDecimal> findCurrentPrice(Product product, String currencyCode) {
-        ZonedDateTime now = ZonedDateTime.now();
+        return findPriceAt(product, currencyCode, ZonedDateTime.now());
+    }
+
+    /**
+     * Finds the price listed in a currency that is valid at the given instant.
+     */
+    public static Optional<BigDecimal> findPriceAt(Product product, String currencyCode, ZonedDateTime at) {
         return product.getPriceInfos().stream()
                 .filter(price -> price.getCurrencyCode().equals(currencyCode))
-                .filter(price -> price.getEffectiveDate().isBefore(now) || price.getEffectiveDate().isEqual(now))
-                .filter(price -> price.getExpiryDate().isAfter(now) || price.getExpiryDate().isEqual(now))
+                .filter(price -> price.isCurrent(at))
                 .map(PriceInfo::getPrice)
                 .findFirst();
     }
@@ -1,11 +1,21 @@
 package com.cantire.storetech.evaluation.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * Categories missing from the second-level cache are loaded in batches, so a product listing costs one category select.
+ */
 @Entity
+@BatchSize(size = 50)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product-category")
 @Table
 @Data
 public class ProductCategory {
@@ -0,0 +1,285 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Insertion-ordered map from product id to quantity, held in primitive arrays.
+ * <p>
+ * Entries sit in parallel {@code long[]}/{@code int[]} arrays in insertion order; an open-addressing table of
+ * entry positions, probed linearly, finds a product id. An entry costs 20 to 28 bytes against roughly 80 for a
+ * {@code LinkedHashMap<Long, Integer>} with boxed keys and values. The primitive methods never box; the
+ * {@link Map} view boxes on access and exists for Hibernate, which persists it through {@link ProductQuantitiesType}.
+ * Removing an entry shifts the later ones down and rebuilds the table, which is fine for cart-sized maps.
+ */
+public final class ProductQuantities extends AbstractMap<Long, Integer> implements ProductQuantityView {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private long[] productIds;
+    private int[] quantities;
+    private int size;
+    /** Entry position + 1 per slot, 0 for a free slot; at most half full. */
+    private int[] slots;
+
+    public ProductQuantities() {
+        this(MIN_CAPACITY);
+    }
+
+    public ProductQuantities(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        productIds = new long[capacity];
+        quantities = new int[capacity];
+        slots = new int[tableSize(capacity)];
+    }
+
+    @Override
+    public int quantity(long productId) {
+        int position = position(productId);
+        return position < 0 ? 0 : quantities[position];
+    }
+
+    @Override
+    public boolean contains(long productId) {
+        return position(productId) >= 0;
+    }
+
+    /**
+     * Sets a product's quantity, appending the product when it is new.
+     *
+     * @return the previous quantity, or 0 when the product is new
+     */
+    public int set(long productId, int quantity) {
+        int position = position(productId);
+        if (position >= 0) {
+            int previous = quantities[position];
+            quantities[position] = quantity;
+            return previous;
+        }
+        if (size == productIds.length) {
+            productIds = Arrays.copyOf(productIds, size * 2);
+            quantities = Arrays.copyOf(quantities, size * 2);
+        }
+        productIds[size] = productId;
+        quantities[size] = quantity;
+        size++;
+        if (size * 2 > slots.length) {
+            rehash(tableSize(productIds.length));
+        } else {
+            slots[freeSlot(productId)] = size;
+        }
+        return 0;
+    }
+
+    /**
+     * @return whether the product was in the map
+     */
+    public boolean delete(long productId) {
+        int position = position(productId);
+        if (position < 0) {
+            return false;
+        }
+        removeAt(position);
+        return true;
+    }
+
+    @Override
+    public long totalQuantity() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += quantities[i];
+        }
+        return total;
+    }
+
+    @Override
+    public long productIdAt(int position) {
+        Objects.checkIndex(position, size);
+        return productIds[position];
+    }
+
+    @Override
+    public int quantityAt(int position) {
+        Objects.checkIndex(position, size);
+        return quantities[position];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A view of this map that reads through to it and cannot change it.
+     */
+    public ProductQuantityView readOnlyView() {
+        return new ProductQuantityView() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public int quantity(long productId) {
+                return ProductQuantities.this.quantity(productId);
+            }
+
+            @Override
+            public boolean contains(long productId) {
+                return ProductQuantities.this.contains(productId);
+            }
+
+            @Override
+            public long totalQuantity() {
+                return ProductQuantities.this.totalQuantity();
+            }
+
+            @Override
+            public long productIdAt(int position) {
+                return ProductQuantities.this.productIdAt(position);
+            }
+
+            @Override
+            public int quantityAt(int position) {
+                return ProductQuantities.this.quantityAt(position);
+            }
+        };
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long productId && contains(productId);
+    }
+
+    @Override
+    public Integer get(Object key) {
+        if (!(key instanceof Long productId)) {
+            return null;
+        }
+        int position = position(productId);
+        return position < 0 ? null : quantities[position];
+    }
+
+    @Override
+    public Integer put(Long productId, Integer quantity) {
+        Objects.requireNonNull(quantity, "quantity");
+        boolean present = contains(productId);
+        int previous = set(productId, quantity);
+        return present ? previous : null;
+    }
+
+    @Override
+    public Integer remove(Object key) {
+        Integer previous = get(key);
+        if (previous != null) {
+            delete((Long) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        Arrays.fill(slots, 0);
+    }
+
+    @Override
+    public Set<Map.Entry<Long, Integer>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Long, Integer>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                ProductQuantities.this.clear();
+            }
+        };
+    }
+
+    private int position(long productId) {
+        int mask = slots.length - 1;
+        for (int slot = hash(productId) & mask; slots[slot] != 0; slot = slot + 1 & mask) {
+            int position = slots[slot] - 1;
+            if (productIds[position] == productId) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(long productId) {
+        int mask = slots.length - 1;
+        int slot = hash(productId) & mask;
+        while (slots[slot] != 0) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private void removeAt(int position) {
+        System.arraycopy(productIds, position + 1, productIds, position, size - position - 1);
+        System.arraycopy(quantities, position + 1, quantities, position, size - position - 1);
+        size--;
+        rehash(slots.length);
+    }
+
+    private void rehash(int tableSize) {
+        slots = new int[tableSize];
+        for (int i = 0; i < size; i++) {
+            slots[freeSlot(productIds[i])] = i + 1;
+        }
+    }
+
+    private static int hash(long productId) {
+        int hash = (int) (productId ^ productId >>> 32) * HASH_MULTIPLIER;
+        return hash ^ hash >>> 16;
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Long, Integer>> {
+
+        private int next;
+        private boolean removable;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<Long, Integer> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            removable = true;
+            int position = next++;
+            return new AbstractMap.SimpleImmutableEntry<>(productIds[position], quantities[position]);
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                throw new IllegalStateException();
+            }
+            removable = false;
+            removeAt(--next);
+        }
+    }
+}
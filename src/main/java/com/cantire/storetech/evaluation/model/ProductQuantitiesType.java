@@ -0,0 +1,73 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.usertype.UserCollectionType;
+
+/**
+ * Maps a {@link ProductQuantities} to an element collection keyed by product id, so loaded carts hold their
+ * quantities in primitive arrays instead of the {@code HashMap} Hibernate would otherwise create.
+ */
+public class ProductQuantitiesType implements UserCollectionType {
+
+    @Override
+    public CollectionClassification getClassification() {
+        return CollectionClassification.MAP;
+    }
+
+    @Override
+    public Class<?> getCollectionClass() {
+        return ProductQuantities.class;
+    }
+
+    @Override
+    public PersistentCollection<?> instantiate(SharedSessionContractImplementor session, CollectionPersister persister) {
+        return new PersistentProductQuantities(session);
+    }
+
+    @Override
+    public PersistentCollection<?> wrap(SharedSessionContractImplementor session, Object collection) {
+        return new PersistentProductQuantities(session, (ProductQuantities) collection);
+    }
+
+    @Override
+    public Iterator<?> getElementsIterator(Object collection) {
+        return ((Map<?, ?>) collection).values().iterator();
+    }
+
+    @Override
+    public boolean contains(Object collection, Object entity) {
+        return ((Map<?, ?>) collection).containsValue(entity);
+    }
+
+    @Override
+    public Object indexOf(Object collection, Object entity) {
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) collection).entrySet()) {
+            if (Objects.equals(entry.getValue(), entity)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object replaceElements(Object original, Object target, CollectionPersister persister, Object owner,
+                                  Map copyCache, SharedSessionContractImplementor session) {
+        Map<Long, Integer> result = (Map<Long, Integer>) target;
+        result.clear();
+        result.putAll((Map<Long, Integer>) original);
+        return result;
+    }
+
+    @Override
+    public Object instantiate(int anticipatedSize) {
+        return new ProductQuantities(Math.max(anticipatedSize, 0));
+    }
+}
@@ -0,0 +1,25 @@
+package com.cantire.storetech.evaluation.model;
+
+/**
+ * Read-only access to product quantities in insertion order, through primitive methods that never box.
+ */
+public interface ProductQuantityView {
+
+    int size();
+
+    /**
+     * The quantity of a product, or 0 when it has no line.
+     */
+    int quantity(long productId);
+
+    boolean contains(long productId);
+
+    long totalQuantity();
+
+    /**
+     * The product id of the line at a position in insertion order.
+     */
+    long productIdAt(int position);
+
+    int quantityAt(int position);
+}
@@ -0,0 +1,89 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Promotion is a discount rule. Which fields apply depends on its type:
+ * <ul>
+ *     <li>{@link Type#MULTI_BUY}: of every buyQuantity units of productId, freeQuantity are free</li>
+ *     <li>{@link Type#CATEGORY_PERCENT_OFF}: percentOff off every product of categoryId</li>
+ *     <li>{@link Type#BUNDLE}: percentOff off each complete set of the bundle items</li>
+ * </ul>
+ * A promotion applies from its effective date to its expiry date, inclusive; a null expiry date leaves it open.
+ */
+@Entity
+@Data
+@Table(name = "promotion")
+@NoArgsConstructor
+@AllArgsConstructor
+public class Promotion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "promotion_seq")
+    @SequenceGenerator(name = "promotion_seq", sequenceName = "promotion_seq", allocationSize = 50)
+    private Long id;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "promotion_type")
+    private Type type;
+
+    private Long productId;
+
+    private Long categoryId;
+
+    private Integer buyQuantity;
+
+    private Integer freeQuantity;
+
+    private BigDecimal percentOff;
+
+    private ZonedDateTime effectiveDate;
+
+    private ZonedDateTime expiryDate;
+
+    @ElementCollection
+    @CollectionTable(name = "promotion_bundle_item", joinColumns = @JoinColumn(name = "promotion_id"))
+    private List<BundleItem> bundleItems = new ArrayList<>();
+
+    public enum Type {
+        MULTI_BUY,
+        CATEGORY_PERCENT_OFF,
+        BUNDLE
+    }
+
+    /**
+     * A product and the quantity of it in one set of a bundle.
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BundleItem {
+
+        private Long productId;
+
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,40 @@
+package com.cantire.storetech.evaluation.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Resolves the promotion discounts currently in effect for a cart's lines.
+ */
+@FunctionalInterface
+public interface PromotionLookup {
+
+    /**
+     * Category id of a line whose product has no category.
+     */
+    long NO_CATEGORY = -1L;
+
+    /**
+     * No promotions: every line is at list price.
+     */
+    PromotionLookup NONE = (lines, categoryIds, unitPrices) -> {
+        BigDecimal[] discounts = new BigDecimal[lines.size()];
+        Arrays.fill(discounts, BigDecimal.ZERO);
+        return discounts;
+    };
+
+    /**
+     * The category id a product's lines are passed with.
+     */
+    static long categoryOf(Product product) {
+        return product.getCategory() == null || product.getCategory().getId() == null ? NO_CATEGORY : product.getCategory().getId();
+    }
+
+    /**
+     * @param lines       product ids and quantities, one line per position
+     * @param categoryIds category id of each line, {@link #NO_CATEGORY} when it has none
+     * @param unitPrices  unit price of each line, zero when it has no price
+     * @return the discount of each line, never more than its unit price times its quantity
+     */
+    BigDecimal[] lineDiscounts(ProductQuantityView lines, long[] categoryIds, BigDecimal[] unitPrices);
+}
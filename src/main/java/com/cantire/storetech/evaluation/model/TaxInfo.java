@@ -1,20 +1,29 @@
 package com.cantire.storetech.evaluation.model;
 
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * TaxInfo represents applicable tax rates for a specific province/state and tax type.
+ * A rate applies from its effective date to its expiry date, inclusive; a null date leaves that end open.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tax-info")
 @Data
 @Table(name = "tax_info")
 @NoArgsConstructor
@@ -22,7 +31,8 @@ import lombok.NoArgsConstructor;
 public class TaxInfo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tax_info_seq")
+    @SequenceGenerator(name = "tax_info_seq", sequenceName = "tax_info_seq", allocationSize = 50)
     private Long id;
 
     private String countryCode;
@@ -36,6 +46,10 @@ public class TaxInfo {
 
     private String name;
 
+    private ZonedDateTime effectiveDate;
+
+    private ZonedDateTime expiryDate;
+
     public enum TaxType {
         HST,  // Harmonized Sales Tax
         PST,  // Provincial Sales Tax
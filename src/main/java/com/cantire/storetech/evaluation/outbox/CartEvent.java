@@ -0,0 +1,21 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A change to a cart as published downstream, serialized into the outbox payload.
+ *
+ * @param sequence      the cart's event number, from 1 and without gaps
+ * @param productId     the product added, null for a checkout
+ * @param quantity      the product's quantity in the cart after the change, null for a checkout
+ * @param totalQuantity units of all products in the cart after the change
+ * @param subtotal      the cart's subtotal after the change; for a checkout, the order's
+ * @param orderId       the order a checkout created, null for an add
+ */
+public record CartEvent(long cartId, long sequence, String type, Long productId, Integer quantity, long totalQuantity,
+                        BigDecimal subtotal, String currencyCode, String region, Long orderId, Instant occurredAt) {
+
+    public static final String PRODUCT_ADDED = "PRODUCT_ADDED";
+    public static final String CHECKED_OUT = "CHECKED_OUT";
+}
@@ -0,0 +1,18 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of relayed cart events. Delivery is at least once: a batch is deleted from the outbox only after
+ * {@link #publish} returns, so a batch that failed part way, or whose deletion failed, is published again.
+ */
+public interface CartEventSink {
+
+    /**
+     * Publishes a batch; each cart's messages are in sequence order.
+     *
+     * @throws IOException when the batch could not be published; it is retried on the next relay run
+     */
+    void publish(List<OutboxMessage> messages) throws IOException;
+}
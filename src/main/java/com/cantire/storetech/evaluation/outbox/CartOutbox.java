@@ -0,0 +1,61 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.springframework.stereotype.Component;
+
+import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.CartOrder;
+import com.cantire.storetech.evaluation.model.CartOutboxEvent;
+import com.cantire.storetech.evaluation.repo.CartOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes cart events to the cart_outbox table. Called inside the transaction that saves the cart, so the event is
+ * flushed with the cart and committed or rolled back with it; nothing leaves the process on the request path.
+ * {@link CartOutboxRelay} publishes the rows afterwards. Callers hold the cart's row lock, so two transactions never
+ * take the same sequence number for one cart.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartOutbox {
+
+    private final CartOutboxRepository cartOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records that a product was added to a saved cart, after the cart's quantities and subtotal were updated.
+     */
+    public void productAdded(Cart cart, long productId) {
+        Instant now = Instant.now();
+        save(new CartEvent(cart.getId(), cart.nextEventSequence(), CartEvent.PRODUCT_ADDED, productId,
+                cart.getProductQuantity(productId), cart.getTotalQuantity(), cart.getSubtotal(), cart.getCurrencyCode(),
+                cart.getRegion(), null, now));
+    }
+
+    /**
+     * Records that a cart was checked out, after its order was saved; the cart takes no further events.
+     */
+    public void checkedOut(Cart cart, CartOrder order) {
+        Instant now = Instant.now();
+        save(new CartEvent(cart.getId(), cart.nextEventSequence(), CartEvent.CHECKED_OUT, null, null, order.getTotalItems(),
+                order.getSubtotal(), order.getCurrencyCode(), order.getRegion(), order.getId(), now));
+    }
+
+    private void save(CartEvent event) {
+        cartOutboxRepository.save(new CartOutboxEvent(null, event.cartId(), event.sequence(), event.type(), serialize(event),
+                event.occurredAt().atZone(ZoneOffset.UTC)));
+    }
+
+    private String serialize(CartEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cart event could not be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains cart_outbox to the {@link CartEventSink} in batches, oldest first.
+ * <p>
+ * Each batch is published, then deleted; a failed publish leaves the batch for the next run. Each cart's events go
+ * out in sequence order, see {@link CartSequenceTracker}. The time from an event's commit to its publication is
+ * recorded as {@value #LAG_METRIC}.
+ * <p>
+ * Rows are read and deleted with plain JDBC: they are never entities, so relaying keeps out of the persistence
+ * context and the second-level cache. One instance should relay at a time; a second one would publish duplicates,
+ * which consumers drop by cart id and sequence.
+ */
+@Slf4j
+@Component
+public class CartOutboxRelay {
+
+    public static final String LAG_METRIC = "storetech.outbox.publish.lag";
+
+    private static final String SELECT_BATCH = "SELECT id, cart_id, cart_sequence, event_type, payload, created_at " +
+            "FROM cart_outbox ORDER BY id FETCH FIRST ? ROWS ONLY";
+    private static final String DELETE = "DELETE FROM cart_outbox WHERE id = ?";
+    private static final int MAX_TRACKED_CARTS = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CartEventSink sink;
+    private final CartSequenceTracker tracker;
+    private final Timer lag;
+    private final int batchSize;
+
+    public CartOutboxRelay(JdbcTemplate jdbcTemplate, CartEventSink sink, MeterRegistry meterRegistry,
+                           @Value("${storetech.outbox.batch-size:500}") int batchSize,
+                           @Value("${storetech.outbox.gap-timeout:PT10S}") Duration gapTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.tracker = new CartSequenceTracker(MAX_TRACKED_CARTS, gapTimeout);
+        this.lag = Timer.builder(LAG_METRIC)
+                .description("Time from a cart event's creation to its publication")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes outbox batches until the outbox is empty, a publish fails, or only held-back events are left.
+     *
+     * @return the number of events published
+     */
+    @Scheduled(fixedDelayString = "${storetech.outbox.relay-interval:PT1S}", initialDelayString = "${storetech.outbox.relay-interval:PT1S}")
+    public synchronized int relay() {
+        int published = 0;
+        while (true) {
+            List<OutboxMessage> batch = jdbcTemplate.query(SELECT_BATCH, CartOutboxRelay::message, batchSize);
+            List<OutboxMessage> ready = tracker.select(batch, Instant.now());
+            if (ready.isEmpty()) {
+                return published;
+            }
+            try {
+                sink.publish(ready);
+            } catch (IOException e) {
+                log.warn("Publishing {} cart events failed; they stay in the outbox", ready.size(), e);
+                return published;
+            }
+            tracker.published(ready);
+            jdbcTemplate.batchUpdate(DELETE, ready, ready.size(), (statement, message) -> statement.setLong(1, message.id()));
+            Instant now = Instant.now();
+            for (OutboxMessage message : ready) {
+                lag.record(Duration.between(message.createdAt(), now));
+            }
+            published += ready.size();
+            if (batch.size() < batchSize || ready.size() < batch.size()) {
+                return published;
+            }
+        }
+    }
+
+    private static OutboxMessage message(ResultSet row, int rowNum) throws SQLException {
+        return new OutboxMessage(row.getLong("id"), row.getLong("cart_id"), row.getLong("cart_sequence"),
+                row.getString("event_type"), row.getString("payload"), row.getObject("created_at", OffsetDateTime.class).toInstant());
+    }
+}
@@ -0,0 +1,66 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps each cart's events in sequence order across relay batches.
+ * <p>
+ * Outbox ids come from a pooled sequence, so across application instances a cart's later event can have the lower
+ * id and be fetched in an earlier batch. The tracker remembers the last sequence published for recently seen carts
+ * and holds back a cart's events while the one before them is missing. A gap that outlasts the timeout is published
+ * through, so a lost event never stalls a cart; the late event, if it comes, is still published. Carts not seen
+ * since start-up, or evicted, accept any sequence.
+ */
+public final class CartSequenceTracker {
+
+    private final Map<Long, Long> lastSequences;
+    private final Duration gapTimeout;
+
+    public CartSequenceTracker(int maxCarts, Duration gapTimeout) {
+        this.gapTimeout = gapTimeout;
+        this.lastSequences = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxCarts;
+            }
+        };
+    }
+
+    /**
+     * The messages of a batch that can be published now: each cart's in sequence order, up to its first gap.
+     */
+    public List<OutboxMessage> select(List<OutboxMessage> batch, Instant now) {
+        Map<Long, List<OutboxMessage>> byCart = batch.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::cartId, LinkedHashMap::new, Collectors.toList()));
+        List<OutboxMessage> ready = new ArrayList<>(batch.size());
+        for (List<OutboxMessage> messages : byCart.values()) {
+            messages.sort(Comparator.comparingLong(OutboxMessage::sequence));
+            Long last = lastSequences.get(messages.get(0).cartId());
+            for (OutboxMessage message : messages) {
+                boolean gap = last != null && message.sequence() > last + 1;
+                if (gap && message.createdAt().plus(gapTimeout).isAfter(now)) {
+                    break;
+                }
+                ready.add(message);
+                last = last == null ? message.sequence() : Math.max(last, message.sequence());
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * Records messages returned by {@link #select} once they are published.
+     */
+    public void published(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            lastSequences.merge(message.cartId(), message.sequence(), Math::max);
+        }
+    }
+}
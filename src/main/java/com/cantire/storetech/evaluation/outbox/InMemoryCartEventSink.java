@@ -0,0 +1,25 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps published messages in memory, in publish order. Stands in for a broker in tests and local runs.
+ */
+public class InMemoryCartEventSink implements CartEventSink {
+
+    private final List<OutboxMessage> messages = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        messages.addAll(batch);
+    }
+
+    public synchronized List<OutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,63 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends messages to a file as newline-delimited JSON, one object per line with the payload inlined.
+ * Each batch is written with one call and forced to disk before {@link #publish} returns, so the relay only
+ * deletes events that are durable in the file.
+ */
+public class NdjsonFileCartEventSink implements CartEventSink, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public NdjsonFileCartEventSink(Path file, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 256);
+        for (OutboxMessage message : messages) {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(lines)) {
+                json.writeStartObject();
+                json.writeNumberField("id", message.id());
+                json.writeNumberField("cartId", message.cartId());
+                json.writeNumberField("sequence", message.sequence());
+                json.writeStringField("type", message.type());
+                json.writeStringField("createdAt", message.createdAt().toString());
+                json.writeFieldName("payload");
+                json.writeRawValue(message.payload());
+                json.writeEndObject();
+            }
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
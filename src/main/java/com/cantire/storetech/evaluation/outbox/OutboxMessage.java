@@ -0,0 +1,13 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import java.time.Instant;
+
+/**
+ * An outbox row as handed to a {@link CartEventSink}.
+ *
+ * @param id       outbox row id, unique across carts
+ * @param sequence the cart's event number; consumers drop a (cartId, sequence) they have already applied
+ * @param payload  the {@link CartEvent} as JSON
+ */
+public record OutboxMessage(long id, long cartId, long sequence, String type, String payload, Instant createdAt) {
+}
@@ -0,0 +1,19 @@
+package com.cantire.storetech.evaluation.repo;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.cantire.storetech.evaluation.model.CartOrder;
+
+@Repository
+public interface CartOrderRepository extends JpaRepository<CartOrder, Long> {
+
+    /**
+     * The order with its lines and taxes in one query.
+     */
+    @EntityGraph(attributePaths = {"lines", "taxes"})
+    Optional<CartOrder> findWithLinesById(Long id);
+}
@@ -1,10 +1,22 @@
 package com.cantire.storetech.evaluation.repo;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import com.cantire.storetech.evaluation.model.Cart;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
+
+    /**
+     * Loads a cart and locks its row until the transaction ends, so writes to one cart, adds and checkout alike,
+     * run one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Cart> findForUpdateById(Long id);
 }
@@ -0,0 +1,14 @@
+package com.cantire.storetech.evaluation.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.cantire.storetech.evaluation.model.PriceInfoHistory;
+
+@Repository
+public interface PriceInfoHistoryRepository extends JpaRepository<PriceInfoHistory, Long> {
+
+    List<PriceInfoHistory> findByProductIdOrderByEffectiveDateDesc(Long productId);
+}
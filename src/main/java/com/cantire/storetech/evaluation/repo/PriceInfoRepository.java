@@ -1,10 +1,87 @@
 package com.cantire.storetech.evaluation.repo;
 
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.cantire.storetech.evaluation.model.PriceInfo;
 
 @Repository
 public interface PriceInfoRepository extends JpaRepository<PriceInfo, Long> {
+
+    @Query("select p.id from PriceInfo p where p.expiryDate < :expiredBefore order by p.expiryDate")
+    List<Long> findExpiredIds(@Param("expiredBefore") ZonedDateTime expiredBefore, Limit limit);
+
+    /**
+     * Copies prices into price_info_history. Only the history table is written, so the second-level cache is left alone.
+     */
+    @Modifying
+    @Query("insert into PriceInfoHistory (id, productId, currencyCode, price, effectiveDate, expiryDate, archivedAt) " +
+            "select p.id, p.product.id, p.currencyCode, p.price, p.effectiveDate, p.expiryDate, :archivedAt " +
+            "from PriceInfo p where p.id in :ids")
+    int copyToHistory(@Param("ids") Collection<Long> ids, @Param("archivedAt") ZonedDateTime archivedAt);
+
+    /**
+     * Bulk delete; Hibernate evicts the price-info and product-price-infos cache regions afterwards.
+     */
+    @Modifying
+    @Query("delete from PriceInfo p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Prices that have not expired by the given instant, current and staged, as flat rows for the search index.
+     */
+    @Query("select p.product.id as productId, p.currencyCode as currencyCode, p.price as price, " +
+            "p.effectiveDate as effectiveDate, p.expiryDate as expiryDate from PriceInfo p where p.expiryDate >= :at")
+    List<PriceRow> findPriceRowsExpiringFrom(@Param("at") ZonedDateTime at);
+
+    @Query("select p.product.id as productId, p.currencyCode as currencyCode, p.price as price, " +
+            "p.effectiveDate as effectiveDate, p.expiryDate as expiryDate from PriceInfo p " +
+            "where p.expiryDate >= :at and p.product.id in :productIds")
+    List<PriceRow> findPriceRowsExpiringFrom(@Param("at") ZonedDateTime at, @Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Prices that take effect in (from, to], or expire in [from, to) and so stop being current in (from, to],
+     * for scheduling the instants a current price changes.
+     */
+    @Query("select p.product.id as productId, p.currencyCode as currencyCode, p.price as price, " +
+            "p.effectiveDate as effectiveDate, p.expiryDate as expiryDate from PriceInfo p " +
+            "where (p.effectiveDate > :from and p.effectiveDate <= :to) or (p.expiryDate >= :from and p.expiryDate < :to)")
+    List<PriceRow> findPriceRowsChangingBetween(@Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to);
+
+    /**
+     * The earliest effective date after the given instant, and the earliest expiry date at or after it, in one statement,
+     * for views of current prices that must be rebuilt once a price takes effect or stops being current. Either is null
+     * when there is none.
+     */
+    @Query("select min(case when p.effectiveDate > :at then p.effectiveDate end) as nextEffectiveDate, " +
+            "min(case when p.expiryDate >= :at then p.expiryDate end) as nextExpiryDate from PriceInfo p " +
+            "where p.effectiveDate > :at or p.expiryDate >= :at")
+    PriceBoundaries findNextBoundaries(@Param("at") ZonedDateTime at);
+
+    interface PriceRow {
+        Long getProductId();
+
+        String getCurrencyCode();
+
+        BigDecimal getPrice();
+
+        ZonedDateTime getEffectiveDate();
+
+        ZonedDateTime getExpiryDate();
+    }
+
+    interface PriceBoundaries {
+        ZonedDateTime getNextEffectiveDate();
+
+        ZonedDateTime getNextExpiryDate();
+    }
 }
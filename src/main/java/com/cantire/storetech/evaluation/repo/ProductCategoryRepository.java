@@ -0,0 +1,10 @@
+package com.cantire.storetech.evaluation.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.cantire.storetech.evaluation.model.ProductCategory;
+
+@Repository
+public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Long> {
+}
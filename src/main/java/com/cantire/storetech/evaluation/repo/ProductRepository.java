@@ -1,9 +1,52 @@
 package com.cantire.storetech.evaluation.repo;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.cantire.storetech.evaluation.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    /**
+     * The columns the search index needs, read without loading entities into the session or the second-level cache.
+     */
+    @Query("select p.id as id, p.name as name, p.sku as sku, p.quantity as quantity, c.name as categoryName " +
+            "from Product p left join p.category c")
+    List<SearchRow> findSearchRows();
+
+    @Query("select p.id as id, p.name as name, p.sku as sku, p.quantity as quantity, c.name as categoryName " +
+            "from Product p left join p.category c where p.id in :ids")
+    List<SearchRow> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Which category each product is listed in, for the category index. Uncategorized products have no row.
+     */
+    @Query("select p.id as productId, p.category.id as categoryId from Product p where p.category is not null")
+    List<CategoryRow> findCategoryRows();
+
+    @Query("select p.id as productId, p.category.id as categoryId from Product p where p.category is not null and p.id in :ids")
+    List<CategoryRow> findCategoryRowsByIds(@Param("ids") Collection<Long> ids);
+
+    interface SearchRow {
+        Long getId();
+
+        String getName();
+
+        String getSku();
+
+        Integer getQuantity();
+
+        String getCategoryName();
+    }
+
+    interface CategoryRow {
+        Long getProductId();
+
+        Long getCategoryId();
+    }
 }
@@ -0,0 +1,23 @@
+package com.cantire.storetech.evaluation.repo;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cantire.storetech.evaluation.model.Promotion;
+
+@Repository
+public interface PromotionRepository extends JpaRepository<Promotion, Long> {
+
+    /**
+     * Promotions not expired at the given instant, current and future, with their bundle items in one query.
+     */
+    @EntityGraph(attributePaths = "bundleItems")
+    @Query("select p from Promotion p where p.expiryDate is null or p.expiryDate >= :from")
+    List<Promotion> findUnexpiredAt(@Param("from") ZonedDateTime from);
+}
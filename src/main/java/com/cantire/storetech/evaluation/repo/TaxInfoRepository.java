@@ -2,12 +2,22 @@ package com.cantire.storetech.evaluation.repo;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.cantire.storetech.evaluation.model.TaxInfo;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TaxInfoRepository extends JpaRepository<TaxInfo, Long> {
-    List<TaxInfo> findByStateProvinceAndCountryCode(String stateProvince, String countryCode);
+
+    /**
+     * Loads every tax rate to build the in-memory rate timeline; served from the query cache until tax_info changes.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TaxInfo> findAll();
 }
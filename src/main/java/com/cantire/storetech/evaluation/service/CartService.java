@@ -13,4 +13,20 @@ public interface CartService {
      */
     CartSaveResponse addProductToCart(CartSaveRequest request);
 
+    /**
+     * Load a persisted cart and render it without re-resolving its taxes.
+     *
+     * @param cartId cart id
+     * @return response with cart details
+     */
+    CartSaveResponse getCart(Long cartId);
+
+    /**
+     * Finalize a cart: freeze its line prices, tax amounts and totals into an order.
+     *
+     * @param cartId cart id
+     * @return response rendered from the order, with tax amounts and totals
+     */
+    CartSaveResponse checkout(Long cartId);
+
 }
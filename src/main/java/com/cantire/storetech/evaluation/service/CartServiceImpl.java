@@ -1,33 +1,65 @@
 package com.cantire.storetech.evaluation.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.ObjectNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.cantire.storetech.evaluation.converter.CartResponseConverter;
 import com.cantire.storetech.evaluation.dto.CartSaveRequest;
 import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.metrics.CartPhaseObservations;
+import com.cantire.storetech.evaluation.metrics.CartPhaseObservations.Phase;
+import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.CartOrder;
+import com.cantire.storetech.evaluation.model.CartOrderLine;
+import com.cantire.storetech.evaluation.model.CartOrderTax;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.ProductQuantityView;
+import com.cantire.storetech.evaluation.model.PromotionLookup;
+import com.cantire.storetech.evaluation.model.TaxInfo;
+import com.cantire.storetech.evaluation.outbox.CartOutbox;
+import com.cantire.storetech.evaluation.repo.CartOrderRepository;
+import com.cantire.storetech.evaluation.repo.CartRepository;
 
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Service for managing shopping cart operations.
- * CANDIDATE TASK: Implement the logic to add products to cart and calculate subtotal.
  */
 @Service
 @RequiredArgsConstructor
 public class CartServiceImpl implements CartService {
 
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final CartRepository cartRepository;
+    private final ProductService productService;
+    private final TaxService taxService;
+    private final PriceResolver priceResolver;
+    private final PromotionService promotionService;
+    private final ObservationRegistry observationRegistry;
+    private final CartOutbox cartOutbox;
+    private final CartOrderRepository cartOrderRepository;
+
     /**
      * Adds a product to a cart. Creates a new cart if it doesn't exist.
-     *
-     * CANDIDATE: Implement this method with the following requirements:
-     * 1. If cartId is null, create a new Cart with the provided region and currencyCode
-     * 2. If cartId exists, retrieve the persisted Cart
-     * 3. Validate that the product exists in the database
-     * 4. Add the product to the cart with the specified quantity
-     * 5. Calculate the subtotal based on the product's current price for the specified currency
-     * 6. Retrieve applicable taxes for the region
-     * 7. Persist the cart to database
-     * 8. Return a CartSaveResponse with appropriate status and data
+     * Taxes are looked up only when the cart is created or its region changes; otherwise the
+     * persisted tax snapshot is reused. Products without a price in the cart's currency are priced by FX conversion,
+     * and the promotions in effect are applied; see {@link PromotionService}.
+     * Each phase is observed separately; see {@link CartPhaseObservations}.
+     * A cart event is written to the outbox in the same flush as the cart; see {@link CartOutbox}.
+     * An existing cart's row stays locked until the transaction ends, so concurrent adds and a checkout of the same
+     * cart run one after another: each event gets the next sequence number and no add can reopen a checked-out cart.
      *
      * @param request The cart save request containing product and cart details
      * @return CartSaveResponse with cart details and status
@@ -35,7 +67,150 @@ public class CartServiceImpl implements CartService {
     @Override
     @Transactional
     public CartSaveResponse addProductToCart(CartSaveRequest request) {
-        // TODO: Implement this method
-        throw new UnsupportedOperationException("This method must be implemented.");
+        if (request.getQuantity() == null || request.getQuantity() <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than zero");
+        }
+        CartPhaseObservations phases = new CartPhaseObservations(observationRegistry, request.getRegion(), request.getCurrencyCode());
+
+        Product product = phases.observe(Phase.PRODUCT_LOOKUP, () -> productService.getProduct(request.getProductId()))
+                .orElseThrow(() -> new ObjectNotFoundException(request.getProductId(), Product.class.getName()));
+
+        Cart cart;
+        if (request.getCartId() == null) {
+            List<TaxInfo> taxes = phases.observe(Phase.TAX_LOOKUP,
+                    () -> taxService.getTaxesForRegion(request.getRegion(), request.getCurrencyCode()));
+            cart = Cart.create(request, taxes);
+        } else {
+            cart = phases.observe(Phase.CART_LOAD, () -> {
+                Cart existing = findCartForUpdate(request.getCartId());
+                phases.cartSize(existing.getProductQuantities().size());
+                return existing;
+            });
+            if (cart.requiresTaxSnapshot(request.getRegion())) {
+                String currencyCode = cart.getCurrencyCode();
+                List<TaxInfo> taxes = phases.observe(Phase.TAX_LOOKUP,
+                        () -> taxService.getTaxesForRegion(request.getRegion(), currencyCode));
+                cart.changeRegion(request.getRegion(), taxes);
+            }
+        }
+
+        Cart updatedCart = cart;
+        phases.observe(Phase.SUBTOTAL, () -> updatedCart.addProduct(product, request.getQuantity(), priceResolver, promotionService));
+        phases.cartSize(updatedCart.getProductQuantities().size());
+
+        Cart savedCart = phases.observe(Phase.PERSIST, () -> {
+            Cart saved = cartRepository.save(updatedCart);
+            cartOutbox.productAdded(saved, product.getId());
+            cartRepository.flush();
+            return saved;
+        });
+        return phases.observe(Phase.RESPONSE,
+                () -> CartResponseConverter.toResponse(savedCart, true, "Product added to cart", priceResolver));
+    }
+
+    /**
+     * Renders a persisted cart from its stored subtotal and tax snapshot, or a checked-out cart from its order.
+     *
+     * @param cartId The cart id
+     * @return CartSaveResponse with cart details
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CartSaveResponse getCart(Long cartId) {
+        Cart cart = findCart(cartId);
+        if (cart.isCheckedOut()) {
+            return CartResponseConverter.toResponse(findOrder(cart.getOrderId()), "Cart found");
+        }
+        return CartResponseConverter.toResponse(cart, true, "Cart found", priceResolver);
+    }
+
+    /**
+     * Freezes a cart into a {@link CartOrder}. The cart row stays locked until the order is written, so no product
+     * can be added meanwhile, and a checked-out event is written to the outbox in the same flush as the order; see
+     * {@link CartOutbox}. Every line is priced, and its promotion discount taken, at the same instant, so a price or
+     * promotion boundary cannot fall between two lines, and taxes are charged at the rates of the cart's tax snapshot, without a tax lookup.
+     * Checking out a cart again returns the order it already has.
+     *
+     * @param cartId The cart id
+     * @return CartSaveResponse rendered from the order
+     * @throws IllegalStateException when the cart is empty or a product has no price in the cart's currency
+     */
+    @Override
+    @Transactional
+    public CartSaveResponse checkout(Long cartId) {
+        Cart cart = findCartForUpdate(cartId);
+        if (cart.isCheckedOut()) {
+            return CartResponseConverter.toResponse(findOrder(cart.getOrderId()), "Cart already checked out");
+        }
+        if (cart.getProductQuantities().isEmpty()) {
+            throw new IllegalStateException("Cart " + cartId + " is empty");
+        }
+
+        CartOrder order = cartOrderRepository.save(priceOrder(cart, ZonedDateTime.now()));
+        cart.setSubtotal(order.getSubtotal());
+        cart.checkout(order.getId());
+        cartOutbox.checkedOut(cart, order);
+        cartRepository.flush();
+        return CartResponseConverter.toResponse(order, "Cart checked out");
+    }
+
+    private CartOrder priceOrder(Cart cart, ZonedDateTime pricedAt) {
+        Map<Long, Product> products = cart.getProducts().stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        ProductQuantityView quantities = cart.quantities();
+        Product[] lineProducts = new Product[quantities.size()];
+        long[] categoryIds = new long[lineProducts.length];
+        BigDecimal[] unitPrices = new BigDecimal[lineProducts.length];
+        for (int line = 0; line < lineProducts.length; line++) {
+            long productId = quantities.productIdAt(line);
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new IllegalStateException("Product " + productId + " is no longer available");
+            }
+            lineProducts[line] = product;
+            categoryIds[line] = PromotionLookup.categoryOf(product);
+            unitPrices[line] = priceResolver.priceAt(product, cart.getCurrencyCode(), pricedAt)
+                    .orElseThrow(() -> new IllegalStateException("No " + cart.getCurrencyCode() + " price for product: " + productId));
+        }
+        BigDecimal[] discounts = promotionService.lineDiscountsAt(quantities, categoryIds, unitPrices, pricedAt);
+
+        List<CartOrderLine> lines = new ArrayList<>(lineProducts.length);
+        BigDecimal discountTotal = BigDecimal.ZERO;
+        BigDecimal subtotal = BigDecimal.ZERO;
+        int totalItems = 0;
+        for (int line = 0; line < lineProducts.length; line++) {
+            Product product = lineProducts[line];
+            int quantity = quantities.quantityAt(line);
+            BigDecimal lineTotal = unitPrices[line].multiply(BigDecimal.valueOf(quantity)).subtract(discounts[line]);
+            lines.add(new CartOrderLine(product.getId(), product.getName(), product.getSku(), quantity, unitPrices[line], discounts[line], lineTotal));
+            discountTotal = discountTotal.add(discounts[line]);
+            subtotal = subtotal.add(lineTotal);
+            totalItems += quantity;
+        }
+
+        List<CartOrderTax> taxes = new ArrayList<>();
+        BigDecimal taxTotal = BigDecimal.ZERO;
+        for (TaxInfo tax : cart.getApplicableTaxes()) {
+            BigDecimal amount = subtotal.multiply(BigDecimal.valueOf(tax.getPercentage())).divide(ONE_HUNDRED, 2, RoundingMode.HALF_UP);
+            taxes.add(new CartOrderTax(tax.getTaxType(), tax.getName(), tax.getPercentage(), amount));
+            taxTotal = taxTotal.add(amount);
+        }
+        return new CartOrder(null, cart.getId(), cart.getRegion(), cart.getCurrencyCode(), totalItems, discountTotal, subtotal, taxTotal,
+                subtotal.add(taxTotal), pricedAt, lines, taxes);
+    }
+
+    private Cart findCart(Long cartId) {
+        return cartRepository.findById(cartId)
+                .orElseThrow(() -> new ObjectNotFoundException(cartId, Cart.class.getName()));
+    }
+
+    private Cart findCartForUpdate(Long cartId) {
+        return cartRepository.findForUpdateById(cartId)
+                .orElseThrow(() -> new ObjectNotFoundException(cartId, Cart.class.getName()));
+    }
+
+    private CartOrder findOrder(Long orderId) {
+        return cartOrderRepository.findWithLinesById(orderId)
+                .orElseThrow(() -> new ObjectNotFoundException(orderId, CartOrder.class.getName()));
     }
 }
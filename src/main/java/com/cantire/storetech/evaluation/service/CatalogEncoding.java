@@ -0,0 +1,111 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings the catalog snapshot is stored in, most preferred first. Brotli has no encoder in the JDK, so
+ * gzip and zlib deflate at the best compression level stand in for it; each payload is compressed once per catalog
+ * version, so the level costs nothing per request.
+ */
+public enum CatalogEncoding {
+
+    GZIP("gzip"),
+    DEFLATE("deflate"),
+    IDENTITY("identity");
+
+    private static final double UNLISTED_IDENTITY_QUALITY = 0.001;
+
+    private final String token;
+
+    CatalogEncoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * The value of the {@code Content-Encoding} header for this coding.
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Picks the coding a client prefers from an {@code Accept-Encoding} header, by quality and then this enum's order.
+     * Identity ranks below every coding the client lists, and is the fallback when nothing listed is available.
+     */
+    public static CatalogEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        Map<CatalogEncoding, Double> qualities = new EnumMap<>(CatalogEncoding.class);
+        Double wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if ("*".equals(coding)) {
+                wildcard = quality;
+            }
+            for (CatalogEncoding encoding : values()) {
+                if (encoding.token.equals(coding) || "x-gzip".equals(coding) && encoding == GZIP) {
+                    qualities.put(encoding, quality);
+                }
+            }
+        }
+        CatalogEncoding best = IDENTITY;
+        double bestQuality = 0;
+        for (CatalogEncoding encoding : values()) {
+            double fallback = wildcard != null ? wildcard : encoding == IDENTITY ? UNLISTED_IDENTITY_QUALITY : 0;
+            double quality = qualities.getOrDefault(encoding, fallback);
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    byte[] encode(byte[] payload) {
+        if (this == IDENTITY) {
+            return payload;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 4);
+        try (OutputStream out = this == GZIP ? new BestGzipOutputStream(compressed) :
+                new DeflaterOutputStream(compressed, new Deflater(Deflater.BEST_COMPRESSION))) {
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
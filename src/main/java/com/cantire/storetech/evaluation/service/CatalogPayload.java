@@ -0,0 +1,11 @@
+package com.cantire.storetech.evaluation.service;
+
+import org.springframework.http.MediaType;
+
+/**
+ * One stored representation of the catalog. The body is shared by every request for it and must not be modified.
+ *
+ * @param etag quoted strong entity tag, distinct per catalog version, format and coding
+ */
+public record CatalogPayload(byte[] body, MediaType contentType, CatalogEncoding encoding, String etag) {
+}
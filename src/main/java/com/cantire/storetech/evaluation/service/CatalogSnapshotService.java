@@ -0,0 +1,28 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+public interface CatalogSnapshotService {
+
+    /**
+     * The formats the catalog can be served in, the default first.
+     */
+    List<MediaType> getFormats();
+
+    /**
+     * The catalog in one of {@link #getFormats()} and a content coding, serialized and compressed once per catalog version.
+     */
+    CatalogPayload getCatalog(MediaType format, CatalogEncoding encoding);
+
+    /**
+     * Drops the current snapshot; the next request builds a new one.
+     */
+    void invalidate();
+
+    /**
+     * Rebuilds the catalog, keeping the current snapshot and its stored payloads when nothing changed.
+     */
+    void refresh();
+}
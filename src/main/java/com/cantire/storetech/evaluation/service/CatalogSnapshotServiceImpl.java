@@ -0,0 +1,202 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository;
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository.PriceBoundaries;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the product catalog as immutable, pre-serialized and pre-compressed payloads, so serving it is a header
+ * lookup and a write of a shared byte array.
+ * <p>
+ * A snapshot is the catalog read once through {@link ProductService}; its version is a digest of the JSON form, so
+ * a rebuild that finds nothing changed keeps the snapshot, its entity tags and every payload already stored. Each
+ * format and coding is encoded on first request. A product written through {@link ProductService} drops the snapshot
+ * once its transaction commits, and the scheduled refresh picks up rows written around the application.
+ * <p>
+ * The catalog lists current prices, so a snapshot is only valid until the next price takes effect or expires; the
+ * first request after that boundary rebuilds it, keeping the payloads when the rebuilt catalog is the same.
+ */
+@Service
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+
+    private static final int VERSION_BYTES = 8;
+
+    private final ProductService productService;
+    private final PriceInfoRepository priceInfoRepository;
+    private final Clock clock;
+    private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CatalogSnapshotServiceImpl(ProductService productService, PriceInfoRepository priceInfoRepository, Clock clock,
+                                      ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter,
+                                      MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.productService = productService;
+        this.priceInfoRepository = priceInfoRepository;
+        this.clock = clock;
+        mappers.put(MediaType.APPLICATION_JSON, objectMapper);
+        mappers.put(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper());
+        mappers.put(smileConverter.getSupportedMediaTypes().get(0), smileConverter.getObjectMapper());
+    }
+
+    @Override
+    public List<MediaType> getFormats() {
+        return List.copyOf(mappers.keySet());
+    }
+
+    @Override
+    public CatalogPayload getCatalog(MediaType format, CatalogEncoding encoding) {
+        if (!mappers.containsKey(format)) {
+            throw new IllegalArgumentException("Unsupported catalog format: " + format);
+        }
+        return currentSnapshot().payload(format, encoding);
+    }
+
+    @Override
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.catalog.refresh-interval:PT5M}", initialDelayString = "${storetech.catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        long built = generation.get();
+        Snapshot rebuilt = build();
+        publish(built, snapshot.get(), rebuilt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null && current.isValidAt(clock.millis())) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null || !current.isValidAt(clock.millis())) {
+                long built = generation.get();
+                Snapshot rebuilt = build();
+                current = publish(built, current, rebuilt);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Publishes a snapshot unless the catalog was invalidated while it was being read, in which case it may be stale.
+     * A rebuilt catalog that did not change keeps the expected snapshot's payloads, with the rebuilt validity.
+     */
+    private Snapshot publish(long builtAtGeneration, Snapshot expected, Snapshot rebuilt) {
+        Snapshot published = expected != null && expected.version.equals(rebuilt.version) ? expected.validUntil(rebuilt.validUntil) : rebuilt;
+        if (generation.get() == builtAtGeneration) {
+            snapshot.compareAndSet(expected, published);
+        }
+        return published;
+    }
+
+    /**
+     * Reads the next price boundary before the catalog, so a price changing while the catalog is read leaves the
+     * snapshot already expired rather than valid until a later boundary.
+     */
+    private Snapshot build() {
+        long validUntil = nextPriceBoundary(clock.millis());
+        List<ProductResponse> catalog = productService.getProductsWithPrices();
+        byte[] json = serialize(mappers.get(MediaType.APPLICATION_JSON), catalog);
+        return new Snapshot(catalog, json, version(json), new ConcurrentHashMap<>(), validUntil);
+    }
+
+    /**
+     * The first instant after the given one, in epoch milliseconds, at which a price takes effect or stops being current.
+     */
+    private long nextPriceBoundary(long now) {
+        ZonedDateTime at = ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone());
+        PriceBoundaries boundaries = priceInfoRepository.findNextBoundaries(at);
+        long next = Long.MAX_VALUE;
+        if (boundaries.getNextEffectiveDate() != null) {
+            next = boundaries.getNextEffectiveDate().toInstant().toEpochMilli();
+        }
+        if (boundaries.getNextExpiryDate() != null) {
+            // A price is current up to and including its expiry date
+            next = Math.min(next, boundaries.getNextExpiryDate().toInstant().toEpochMilli() + 1);
+        }
+        return next;
+    }
+
+    private static byte[] serialize(ObjectMapper mapper, List<ProductResponse> catalog) {
+        try {
+            return mapper.writeValueAsBytes(catalog);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Catalog could not be serialized", e);
+        }
+    }
+
+    private static String version(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, VERSION_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class Snapshot {
+
+        private final List<ProductResponse> catalog;
+        private final byte[] json;
+        private final String version;
+        private final Map<String, CatalogPayload> payloads;
+        /** Epoch milliseconds of the next price boundary, from which the listed prices may no longer be current. */
+        private final long validUntil;
+
+        private Snapshot(List<ProductResponse> catalog, byte[] json, String version, Map<String, CatalogPayload> payloads,
+                         long validUntil) {
+            this.catalog = catalog;
+            this.json = json;
+            this.version = version;
+            this.payloads = payloads;
+            this.validUntil = validUntil;
+        }
+
+        boolean isValidAt(long epochMillis) {
+            return epochMillis < validUntil;
+        }
+
+        Snapshot validUntil(long until) {
+            return until == validUntil ? this : new Snapshot(catalog, json, version, payloads, until);
+        }
+
+        CatalogPayload payload(MediaType format, CatalogEncoding encoding) {
+            return payloads.computeIfAbsent(format.getSubtype() + '-' + encoding.token(), key -> {
+                byte[] serialized = MediaType.APPLICATION_JSON.equals(format) ? json : serialize(mappers.get(format), catalog);
+                return new CatalogPayload(encoding.encode(serialized), format, encoding, '"' + version + '-' + key + '"');
+            });
+        }
+    }
+}
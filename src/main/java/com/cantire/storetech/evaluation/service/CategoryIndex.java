@@ -0,0 +1,138 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable map from category to the sorted ids of its products, for browsing a category page by page.
+ * <p>
+ * Pages are addressed by a cursor, the last product id of the previous page, so a page is a binary search and
+ * an array copy however deep it is, and products listed or unlisted between requests do not shift later pages.
+ * {@link #with} copies only the arrays of categories the changed products leave or join.
+ */
+public final class CategoryIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, String> names;
+    private final Map<Long, long[]> productIds;
+
+    private CategoryIndex(Map<Long, String> names, Map<Long, long[]> productIds) {
+        this.names = names;
+        this.productIds = productIds;
+    }
+
+    /**
+     * @param names    category names by id; every category is browsable, including empty ones
+     * @param listings product placements; those in categories without a name are dropped
+     */
+    public static CategoryIndex of(Map<Long, String> names, Collection<Listing> listings) {
+        return new CategoryIndex(Map.copyOf(names), add(Map.of(), names, listings));
+    }
+
+    /**
+     * A new index where the changed products are taken out of every category and put back where listed.
+     * A changed product without a listing ends up in no category.
+     */
+    public CategoryIndex with(Map<Long, String> categoryNames, Collection<Long> changedProductIds, Collection<Listing> listings) {
+        long[] changed = changedProductIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        Map<Long, long[]> remaining = new HashMap<>(productIds.size());
+        for (Map.Entry<Long, long[]> category : productIds.entrySet()) {
+            remaining.put(category.getKey(), without(category.getValue(), changed));
+        }
+        return new CategoryIndex(Map.copyOf(categoryNames), add(remaining, categoryNames, listings));
+    }
+
+    /**
+     * Every category, by name, with its product count.
+     */
+    public List<Category> categories() {
+        return names.keySet().stream()
+                .map(this::category)
+                .sorted(Comparator.comparing(Category::name).thenComparingLong(Category::id))
+                .toList();
+    }
+
+    /**
+     * Product ids of one page of a category.
+     *
+     * @param after the previous page's last product id, or null for the first page
+     * @param limit maximum product ids to return
+     * @return the page, or empty for an unknown category
+     */
+    public Optional<Page> page(long categoryId, Long after, int limit) {
+        if (!names.containsKey(categoryId)) {
+            return Optional.empty();
+        }
+        long[] ids = productIds.getOrDefault(categoryId, EMPTY);
+        int from = 0;
+        if (after != null) {
+            int position = Arrays.binarySearch(ids, after);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = (int) Math.min(ids.length, (long) from + limit);
+        long[] page = Arrays.copyOfRange(ids, from, to);
+        Long nextCursor = to < ids.length && page.length > 0 ? page[page.length - 1] : null;
+        return Optional.of(new Page(category(categoryId), page, nextCursor));
+    }
+
+    private Category category(long categoryId) {
+        return new Category(categoryId, names.get(categoryId), productIds.getOrDefault(categoryId, EMPTY).length);
+    }
+
+    private static Map<Long, long[]> add(Map<Long, long[]> current, Map<Long, String> names, Collection<Listing> listings) {
+        Map<Long, long[]> listed = new HashMap<>();
+        for (Long categoryId : names.keySet()) {
+            listed.put(categoryId, current.getOrDefault(categoryId, EMPTY));
+        }
+        Map<Long, List<Listing>> byCategory = listings.stream()
+                .filter(listing -> names.containsKey(listing.categoryId()))
+                .collect(Collectors.groupingBy(Listing::categoryId));
+        for (Map.Entry<Long, List<Listing>> category : byCategory.entrySet()) {
+            long[] existing = listed.get(category.getKey());
+            long[] ids = Arrays.copyOf(existing, existing.length + category.getValue().size());
+            int size = existing.length;
+            for (Listing listing : category.getValue()) {
+                ids[size++] = listing.productId();
+            }
+            Arrays.sort(ids);
+            listed.put(category.getKey(), Arrays.stream(ids).distinct().toArray());
+        }
+        return Map.copyOf(listed);
+    }
+
+    private static long[] without(long[] ids, long[] removed) {
+        long[] remaining = ids;
+        for (long productId : removed) {
+            int position = Arrays.binarySearch(remaining, productId);
+            if (position >= 0) {
+                long[] shorter = new long[remaining.length - 1];
+                System.arraycopy(remaining, 0, shorter, 0, position);
+                System.arraycopy(remaining, position + 1, shorter, position, shorter.length - position);
+                remaining = shorter;
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * A product placed in a category.
+     */
+    public record Listing(long productId, long categoryId) {
+    }
+
+    public record Category(long id, String name, int productCount) {
+    }
+
+    /**
+     * @param nextCursor the cursor for the following page, or null on the last page
+     */
+    public record Page(Category category, long[] productIds, Long nextCursor) {
+    }
+}
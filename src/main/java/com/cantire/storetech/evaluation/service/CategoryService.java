@@ -0,0 +1,31 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.cantire.storetech.evaluation.dto.CategoryProductsResponse;
+import com.cantire.storetech.evaluation.dto.CategoryResponse;
+
+public interface CategoryService {
+
+    List<CategoryResponse> getCategories();
+
+    /**
+     * One page of a category's products.
+     *
+     * @param cursor the previous page's {@code nextCursor}, or null for the first page
+     * @return the page, or empty for an unknown category
+     */
+    Optional<CategoryProductsResponse> getCategoryProducts(Long categoryId, Long cursor, int size);
+
+    /**
+     * Rebuilds the whole index from the database.
+     */
+    void rebuildIndex();
+
+    /**
+     * Re-reads the given products' categories and moves them in the index.
+     */
+    void reindex(Collection<Long> productIds);
+}
@@ -0,0 +1,96 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cantire.storetech.evaluation.dto.CategoryProductsResponse;
+import com.cantire.storetech.evaluation.dto.CategoryResponse;
+import com.cantire.storetech.evaluation.model.ProductCategory;
+import com.cantire.storetech.evaluation.repo.ProductCategoryRepository;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import com.cantire.storetech.evaluation.service.CategoryIndex.Listing;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves category browsing from an in-memory {@link CategoryIndex}, joined against the product and price snapshot
+ * held by {@link ProductSearchService}, so a category page never goes to the database. Like the search index, it is
+ * built on first use, swapped atomically, updated once a {@link ProductService} write commits, and rebuilt on a
+ * schedule for rows written around the application.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryServiceImpl implements CategoryService {
+
+    private final ProductCategoryRepository productCategoryRepository;
+    private final ProductRepository productRepository;
+    private final ProductSearchService productSearchService;
+    private final AtomicReference<CategoryIndex> index = new AtomicReference<>();
+
+    @Override
+    public List<CategoryResponse> getCategories() {
+        return currentIndex().categories().stream()
+                .map(CategoryServiceImpl::toCategoryResponse)
+                .toList();
+    }
+
+    @Override
+    public Optional<CategoryProductsResponse> getCategoryProducts(Long categoryId, Long cursor, int size) {
+        return currentIndex().page(categoryId, cursor, size)
+                .map(page -> new CategoryProductsResponse(toCategoryResponse(page.category()), cursor, page.nextCursor(),
+                        productSearchService.getProducts(page.productIds())));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.categories.rebuild-interval:PT15M}", initialDelayString = "${storetech.categories.rebuild-interval:PT15M}")
+    public void rebuildIndex() {
+        index.set(CategoryIndex.of(categoryNames(), listings(productRepository.findCategoryRows())));
+    }
+
+    @Override
+    public void reindex(Collection<Long> productIds) {
+        if (index.get() == null) {
+            return;
+        }
+        Map<Long, String> names = categoryNames();
+        List<Listing> listings = listings(productRepository.findCategoryRowsByIds(productIds));
+        index.updateAndGet(current -> current.with(names, productIds, listings));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reindex(List.of(event.productId()));
+    }
+
+    private CategoryIndex currentIndex() {
+        CategoryIndex current = index.get();
+        if (current == null) {
+            rebuildIndex();
+            current = index.get();
+        }
+        return current;
+    }
+
+    private Map<Long, String> categoryNames() {
+        return productCategoryRepository.findAll().stream()
+                .collect(Collectors.toMap(ProductCategory::getId, category -> category.getName() == null ? "" : category.getName()));
+    }
+
+    private static List<Listing> listings(List<ProductRepository.CategoryRow> rows) {
+        return rows.stream()
+                .map(row -> new Listing(row.getProductId(), row.getCategoryId()))
+                .toList();
+    }
+
+    private static CategoryResponse toCategoryResponse(CategoryIndex.Category category) {
+        return new CategoryResponse(category.id(), category.name(), category.productCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs a callback once a transaction that inserted, updated or deleted an entity of one type has committed, however the
+ * entity was written: through a service or straight through its repository. Rolled-back writes are ignored.
+ * Used by in-memory views built from a whole table, so they are rebuilt when the table changes rather than on a schedule.
+ * Hibernate takes one listener of a class per event type, so every view registers with the same listener.
+ */
+final class CommittedWriteListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    private CommittedWriteListener() {
+    }
+
+    static synchronized void register(EntityManagerFactory entityManagerFactory, Class<?> entityType, Runnable onCommit) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        CommittedWriteListener listener = null;
+        for (PostInsertEventListener registered : registry.getEventListenerGroup(EventType.POST_COMMIT_INSERT).listeners()) {
+            if (registered instanceof CommittedWriteListener committedWriteListener) {
+                listener = committedWriteListener;
+            }
+        }
+        if (listener == null) {
+            listener = new CommittedWriteListener();
+            registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+            registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+            registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+        }
+        listener.registrations.add(new Registration(entityType, onCommit));
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        for (Registration registration : registrations) {
+            if (registration.entityType().isAssignableFrom(persister.getMappedClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        committed(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        committed(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        committed(event.getPersister());
+    }
+
+    private void committed(EntityPersister persister) {
+        // Listeners are called for every entity with post-commit handling, not only the ones they asked for
+        for (Registration registration : registrations) {
+            if (registration.entityType().isAssignableFrom(persister.getMappedClass())) {
+                registration.onCommit().run();
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // rolled back, nothing changed
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // rolled back, nothing changed
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // rolled back, nothing changed
+    }
+
+    private record Registration(Class<?> entityType, Runnable onCommit) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface FxRateService {
+
+    Optional<BigDecimal> getRate(String sourceCurrency, String targetCurrency, ZonedDateTime at);
+
+    /**
+     * Reloads the in-memory rate table from the database.
+     */
+    void refreshRates();
+}
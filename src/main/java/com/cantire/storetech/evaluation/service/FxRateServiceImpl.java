@@ -0,0 +1,45 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.cantire.storetech.evaluation.repo.FxRateRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves FX rates from an in-memory table that is loaded once and swapped atomically on refresh,
+ * so a conversion never goes to the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class FxRateServiceImpl implements FxRateService {
+
+    private final FxRateRepository fxRateRepository;
+    private final AtomicReference<FxRateTable> table = new AtomicReference<>();
+
+    @Override
+    public Optional<BigDecimal> getRate(String sourceCurrency, String targetCurrency, ZonedDateTime at) {
+        return currentTable().rateAt(sourceCurrency, targetCurrency, at);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.fx.refresh-interval:PT5M}", initialDelayString = "${storetech.fx.refresh-interval:PT5M}")
+    public void refreshRates() {
+        table.set(FxRateTable.of(fxRateRepository.findAll()));
+    }
+
+    private FxRateTable currentTable() {
+        FxRateTable current = table.get();
+        if (current == null) {
+            refreshRates();
+            current = table.get();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,105 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.cantire.storetech.evaluation.model.FxRate;
+
+/**
+ * Immutable, in-memory view of effective-dated FX rates.
+ * Rates for each currency pair are sorted by effective date, so finding the rate valid at an instant is a
+ * binary search. When a pair has no rate of its own, the inverse of the opposite pair is used.
+ */
+public final class FxRateTable {
+
+    public static final FxRateTable EMPTY = new FxRateTable(Map.of());
+
+    private final Map<String, Rates> ratesByPair;
+
+    private FxRateTable(Map<String, Rates> ratesByPair) {
+        this.ratesByPair = ratesByPair;
+    }
+
+    public static FxRateTable of(List<FxRate> fxRates) {
+        Map<String, List<FxRate>> ratesByPair = fxRates.stream()
+                .collect(Collectors.groupingBy(rate -> key(rate.getSourceCurrency(), rate.getTargetCurrency()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        Map<String, Rates> rates = new LinkedHashMap<>();
+        ratesByPair.forEach((pair, pairRates) -> rates.put(pair, Rates.of(pairRates)));
+        return new FxRateTable(rates);
+    }
+
+    /**
+     * Rate converting the source currency to the target currency at the given instant.
+     *
+     * @return the rate, or empty when neither the pair nor its inverse has a rate at that instant
+     */
+    public Optional<BigDecimal> rateAt(String sourceCurrency, String targetCurrency, ZonedDateTime at) {
+        if (sourceCurrency.equals(targetCurrency)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        long epochMilli = at.toInstant().toEpochMilli();
+        Optional<BigDecimal> direct = rateAt(key(sourceCurrency, targetCurrency), epochMilli);
+        if (direct.isPresent()) {
+            return direct;
+        }
+        return rateAt(key(targetCurrency, sourceCurrency), epochMilli)
+                .map(inverse -> BigDecimal.ONE.divide(inverse, MathContext.DECIMAL64));
+    }
+
+    private Optional<BigDecimal> rateAt(String pair, long epochMilli) {
+        Rates rates = ratesByPair.get(pair);
+        return rates == null ? Optional.empty() : Optional.ofNullable(rates.rateAt(epochMilli));
+    }
+
+    private static String key(String sourceCurrency, String targetCurrency) {
+        return sourceCurrency + ":" + targetCurrency;
+    }
+
+    /**
+     * Rate i applies over [starts[i], ends[i]). Rates of a pair are not expected to overlap; at any instant only the one
+     * that became effective last is considered.
+     */
+    private record Rates(long[] starts, long[] ends, BigDecimal[] rates) {
+
+        static Rates of(List<FxRate> pairRates) {
+            List<FxRate> sorted = pairRates.stream()
+                    .sorted(Comparator.comparing(FxRate::getEffectiveDate))
+                    .toList();
+            long[] starts = new long[sorted.size()];
+            long[] ends = new long[sorted.size()];
+            BigDecimal[] rates = new BigDecimal[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                FxRate rate = sorted.get(i);
+                starts[i] = rate.getEffectiveDate().toInstant().toEpochMilli();
+                ends[i] = rate.getExpiryDate() == null ? Long.MAX_VALUE : rate.getExpiryDate().toInstant().toEpochMilli() + 1;
+                rates[i] = rate.getRate();
+            }
+            return new Rates(starts, ends, rates);
+        }
+
+        BigDecimal rateAt(long epochMilli) {
+            int low = 0;
+            int high = starts.length - 1;
+            int index = -1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (starts[middle] <= epochMilli) {
+                    index = middle;
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return index >= 0 && epochMilli < ends[index] ? rates[index] : null;
+        }
+    }
+}
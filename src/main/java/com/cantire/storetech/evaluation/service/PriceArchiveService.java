@@ -0,0 +1,11 @@
+package com.cantire.storetech.evaluation.service;
+
+public interface PriceArchiveService {
+
+    /**
+     * Moves every price that has expired into price_info_history.
+     *
+     * @return the number of prices archived
+     */
+    int archiveExpiredPrices();
+}
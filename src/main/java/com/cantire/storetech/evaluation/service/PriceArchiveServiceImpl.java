@@ -0,0 +1,61 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps price_info limited to active and future prices by moving expired ones to price_info_history.
+ * Each batch is copied and deleted in its own transaction, so a large backlog never holds long locks
+ * and a failure only rolls back the batch in progress.
+ */
+@Slf4j
+@Service
+public class PriceArchiveServiceImpl implements PriceArchiveService {
+
+    private final PriceInfoRepository priceInfoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PriceArchiveServiceImpl(PriceInfoRepository priceInfoRepository, TransactionTemplate transactionTemplate,
+                                   @Value("${storetech.price-archive.batch-size:500}") int batchSize) {
+        this.priceInfoRepository = priceInfoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.price-archive.interval:PT1H}", initialDelayString = "${storetech.price-archive.interval:PT1H}")
+    public int archiveExpiredPrices() {
+        ZonedDateTime now = ZonedDateTime.now();
+        int archived = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> archiveBatch(now));
+            archived += batch;
+        } while (batch == batchSize);
+
+        if (archived > 0) {
+            log.info("Archived {} expired prices to price_info_history", archived);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(ZonedDateTime now) {
+        List<Long> ids = priceInfoRepository.findExpiredIds(now, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        priceInfoRepository.copyToHistory(ids, now);
+        return priceInfoRepository.deleteByIds(ids);
+    }
+}
@@ -0,0 +1,132 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository.PriceRow;
+
+/**
+ * Immutable, in-memory view of the instants at which products' current prices change, up to a horizon.
+ * <p>
+ * A price changes the current prices when it takes effect and one millisecond after its inclusive expiry date.
+ * Boundaries are held in parallel arrays sorted by instant, so the next boundary after an instant and the products
+ * whose prices change in a span are binary searches.
+ */
+public final class PriceBoundaryTimeline {
+
+    private final long[] instants;
+    private final long[] productIds;
+    private final long until;
+
+    private PriceBoundaryTimeline(long[] instants, long[] productIds, long until) {
+        this.instants = instants;
+        this.productIds = productIds;
+        this.until = until;
+    }
+
+    /**
+     * @param prices price rows; only their boundaries in (after, until] are kept
+     * @param after  exclusive start of the timeline, epoch milliseconds
+     * @param until  inclusive horizon of the timeline, epoch milliseconds
+     */
+    public static PriceBoundaryTimeline of(Collection<? extends PriceRow> prices, long after, long until) {
+        List<Boundary> boundaries = new ArrayList<>();
+        collect(boundaries, prices, after, until);
+        return of(boundaries, until);
+    }
+
+    /**
+     * A new timeline where one product's boundaries after the given instant are replaced by those of its current prices.
+     */
+    public PriceBoundaryTimeline with(long productId, Collection<? extends PriceRow> prices, long after) {
+        List<Boundary> boundaries = new ArrayList<>(instants.length + prices.size() * 2);
+        for (int i = 0; i < instants.length; i++) {
+            if (productIds[i] != productId || instants[i] <= after) {
+                boundaries.add(new Boundary(instants[i], productIds[i]));
+            }
+        }
+        collect(boundaries, prices.stream().filter(price -> price.getProductId() == productId).toList(), after, until);
+        return of(boundaries, until);
+    }
+
+    /**
+     * The first boundary strictly after an instant.
+     *
+     * @return the boundary in epoch milliseconds, or empty when none is left before the horizon
+     */
+    public OptionalLong next(long after) {
+        int position = firstAfter(after);
+        return position < instants.length ? OptionalLong.of(instants[position]) : OptionalLong.empty();
+    }
+
+    /**
+     * Sorted, distinct ids of the products with a boundary in (after, until].
+     */
+    public long[] productsBetween(long after, long until) {
+        return Arrays.stream(productIds, firstAfter(after), firstAfter(until)).sorted().distinct().toArray();
+    }
+
+    /**
+     * Inclusive horizon in epoch milliseconds; boundaries past it are not known.
+     */
+    public long until() {
+        return until;
+    }
+
+    public int size() {
+        return instants.length;
+    }
+
+    private int firstAfter(long instant) {
+        int low = 0;
+        int high = instants.length;
+        while (low < high) {
+            int middle = low + high >>> 1;
+            if (instants[middle] <= instant) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static void collect(List<Boundary> boundaries, Collection<? extends PriceRow> prices, long after, long until) {
+        for (PriceRow price : prices) {
+            add(boundaries, price.getProductId(), epochMillis(price.getEffectiveDate(), 0), after, until);
+            add(boundaries, price.getProductId(), epochMillis(price.getExpiryDate(), 1), after, until);
+        }
+    }
+
+    private static void add(List<Boundary> boundaries, long productId, long instant, long after, long until) {
+        if (instant > after && instant <= until) {
+            boundaries.add(new Boundary(instant, productId));
+        }
+    }
+
+    private static long epochMillis(ZonedDateTime date, long offset) {
+        return date == null ? Long.MIN_VALUE : date.toInstant().toEpochMilli() + offset;
+    }
+
+    private static PriceBoundaryTimeline of(List<Boundary> boundaries, long until) {
+        List<Boundary> sorted = boundaries.stream()
+                .sorted(Comparator.comparingLong(Boundary::instant).thenComparingLong(Boundary::productId))
+                .distinct()
+                .toList();
+        long[] instants = new long[sorted.size()];
+        long[] productIds = new long[sorted.size()];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = sorted.get(i).instant();
+            productIds[i] = sorted.get(i).productId();
+        }
+        return new PriceBoundaryTimeline(instants, productIds, until);
+    }
+
+    private record Boundary(long instant, long productId) {
+    }
+}
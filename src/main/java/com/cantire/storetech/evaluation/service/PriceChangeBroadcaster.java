@@ -0,0 +1,156 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans server-sent events out to many subscribers.
+ * <p>
+ * An event is formatted and encoded to bytes once; every subscriber is handed the same frame. Each subscriber has
+ * its own bounded queue, drained by at most one task at a time on the given executor, so a slow connection never
+ * holds up the publisher or the others. A subscriber whose queue is full when an event arrives has fallen too far
+ * behind: it is completed and dropped, and reconnects with a fresh view.
+ */
+public final class PriceChangeBroadcaster {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor executor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    /**
+     * @param executor      runs the tasks writing to subscribers
+     * @param bufferSize    events a subscriber may fall behind by before it is dropped
+     * @param timeoutMillis how long a subscription stays open; 0 for the container's default
+     */
+    public PriceChangeBroadcaster(Executor executor, int bufferSize, long timeoutMillis) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Registers an emitter created by the caller.
+     */
+    public SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Queues one event for every subscriber.
+     *
+     * @param data the event data, already serialized
+     */
+    public void broadcast(String name, String id, String data) {
+        if (!subscribers.isEmpty()) {
+            offer(frame(SseEmitter.event().name(name).id(id).data(data)));
+        }
+    }
+
+    /**
+     * Queues a comment line for every subscriber, keeping idle connections and the proxies between open.
+     */
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            offer(frame(SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    /**
+     * Completes and drops every subscriber.
+     */
+    public void close() {
+        subscribers.forEach(Subscriber::drop);
+    }
+
+    private void offer(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    private static Set<DataWithMediaType> frame(SseEmitter.SseEventBuilder event) {
+        StringBuilder text = new StringBuilder();
+        for (DataWithMediaType part : event.build()) {
+            text.append(part.getData());
+        }
+        return Set.of(new DataWithMediaType(text.toString().getBytes(StandardCharsets.UTF_8), MediaType.TEXT_PLAIN));
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (Set<DataWithMediaType> frame = queue.poll(); frame != null; frame = queue.poll()) {
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Completes the emitter off the calling thread, since completing waits for a write in progress.
+         */
+        void drop() {
+            if (subscribers.remove(this)) {
+                queue.clear();
+                executor.execute(emitter::complete);
+            }
+        }
+    }
+}
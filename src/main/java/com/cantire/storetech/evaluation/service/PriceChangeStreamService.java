@@ -0,0 +1,23 @@
+package com.cantire.storetech.evaluation.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface PriceChangeStreamService {
+
+    /**
+     * Opens a stream of price-change events; it is completed if the client falls too far behind.
+     */
+    SseEmitter subscribe();
+
+    int getSubscriberCount();
+
+    /**
+     * Reloads the upcoming price boundaries from the database and schedules the next one, while anyone is subscribed.
+     */
+    void refreshBoundaries();
+
+    /**
+     * Sends a comment to every subscriber so idle connections stay open.
+     */
+    void sendHeartbeat();
+}
@@ -0,0 +1,211 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.cantire.storetech.evaluation.dto.PriceChangeEvent;
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository;
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository.PriceRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes price-change events to subscribers through a {@link PriceChangeBroadcaster}, in place of polling the catalog.
+ * <p>
+ * Current prices change at the price boundaries held in a {@link PriceBoundaryTimeline} and when a product is written.
+ * A single task is scheduled for the next boundary; when it runs it sends the current prices of every product whose
+ * boundary has passed and schedules the one after. The timeline covers a horizon ahead and is reloaded on a schedule
+ * well inside it. A product written through {@link ProductService} has its prices re-read once the transaction commits,
+ * sent, and its boundaries replaced. With no subscribers nothing is loaded or read.
+ * <p>
+ * The catalog snapshot is invalidated before an event is sent, so a subscriber that reloads the catalog on an event
+ * reads the prices it announces.
+ */
+@Service
+public class PriceChangeStreamServiceImpl implements PriceChangeStreamService {
+
+    static final String EVENT_NAME = "price-change";
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    private final PriceInfoRepository priceInfoRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final TaskScheduler taskScheduler;
+    private final ObjectMapper objectMapper;
+    private final Duration horizon;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final PriceChangeBroadcaster broadcaster;
+    private final AtomicLong eventIds = new AtomicLong();
+
+    /** Guarded by this, as are firedUntil and nextBoundary; null while nobody is subscribed. */
+    private PriceBoundaryTimeline timeline;
+    /** Boundaries up to this instant, in epoch milliseconds, have been sent. */
+    private long firedUntil;
+    private ScheduledFuture<?> nextBoundary;
+
+    public PriceChangeStreamServiceImpl(PriceInfoRepository priceInfoRepository, CatalogSnapshotService catalogSnapshotService,
+                                        TaskScheduler taskScheduler, ObjectMapper objectMapper,
+                                        @Value("${storetech.price-stream.horizon:PT24H}") Duration horizon,
+                                        @Value("${storetech.price-stream.client-buffer:256}") int clientBuffer,
+                                        @Value("${storetech.price-stream.timeout:PT30M}") Duration timeout) {
+        this.priceInfoRepository = priceInfoRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.taskScheduler = taskScheduler;
+        this.objectMapper = objectMapper;
+        this.horizon = horizon;
+        this.broadcaster = new PriceChangeBroadcaster(senders, clientBuffer, timeout.toMillis());
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = broadcaster.subscribe();
+        synchronized (this) {
+            if (timeline == null) {
+                loadBoundaries();
+            }
+        }
+        return emitter;
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return broadcaster.getSubscriberCount();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.price-stream.boundary-refresh-interval:PT1H}",
+            initialDelayString = "${storetech.price-stream.boundary-refresh-interval:PT1H}")
+    public synchronized void refreshBoundaries() {
+        if (broadcaster.getSubscriberCount() > 0) {
+            loadBoundaries();
+        } else if (timeline != null) {
+            timeline = null;
+            cancelNextBoundary();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "${storetech.price-stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeat() {
+        broadcaster.heartbeat();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (broadcaster.getSubscriberCount() == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<PriceRow> prices = priceInfoRepository.findPriceRowsExpiringFrom(toDate(now), List.of(event.productId()));
+        synchronized (this) {
+            if (timeline != null) {
+                timeline = timeline.with(event.productId(), prices, Math.max(firedUntil, now));
+                scheduleNextBoundary();
+            }
+        }
+        // The snapshot's own listener may not have run yet
+        catalogSnapshotService.invalidate();
+        send(event.productId(), PriceChangeEvent.Reason.PRODUCT_WRITTEN, now, prices);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            cancelNextBoundary();
+        }
+        broadcaster.close();
+        senders.shutdown();
+    }
+
+    /**
+     * Loads boundaries from the last one sent, so none is skipped across a reload, up to the horizon.
+     */
+    private void loadBoundaries() {
+        long now = System.currentTimeMillis();
+        long after = timeline == null ? now : firedUntil;
+        long until = now + horizon.toMillis();
+        timeline = PriceBoundaryTimeline.of(priceInfoRepository.findPriceRowsChangingBetween(toDate(after), toDate(until)), after, until);
+        firedUntil = after;
+        scheduleNextBoundary();
+    }
+
+    private void scheduleNextBoundary() {
+        cancelNextBoundary();
+        OptionalLong next = timeline.next(firedUntil);
+        if (next.isPresent()) {
+            nextBoundary = taskScheduler.schedule(this::fireBoundaries, Instant.ofEpochMilli(next.getAsLong()));
+        }
+    }
+
+    private void cancelNextBoundary() {
+        if (nextBoundary != null) {
+            nextBoundary.cancel(false);
+            nextBoundary = null;
+        }
+    }
+
+    private void fireBoundaries() {
+        long now = System.currentTimeMillis();
+        long[] productIds;
+        synchronized (this) {
+            if (timeline == null) {
+                return;
+            }
+            productIds = timeline.productsBetween(firedUntil, now);
+            firedUntil = Math.max(firedUntil, now);
+            scheduleNextBoundary();
+        }
+        if (productIds.length > 0) {
+            catalogSnapshotService.invalidate();
+        }
+        for (int from = 0; from < productIds.length; from += MAX_IDS_PER_QUERY) {
+            long[] chunk = Arrays.copyOfRange(productIds, from, Math.min(productIds.length, from + MAX_IDS_PER_QUERY));
+            List<Long> ids = Arrays.stream(chunk).boxed().toList();
+            Map<Long, List<PriceRow>> pricesByProduct = new HashMap<>();
+            for (PriceRow row : priceInfoRepository.findPriceRowsExpiringFrom(toDate(now), ids)) {
+                pricesByProduct.computeIfAbsent(row.getProductId(), productId -> new ArrayList<>()).add(row);
+            }
+            for (long productId : chunk) {
+                send(productId, PriceChangeEvent.Reason.PRICE_BOUNDARY, now, pricesByProduct.getOrDefault(productId, List.of()));
+            }
+        }
+    }
+
+    private void send(long productId, PriceChangeEvent.Reason reason, long now, List<PriceRow> prices) {
+        List<ProductResponse.PricingInfo> current = prices.stream()
+                .filter(price -> price.getEffectiveDate().toInstant().toEpochMilli() <= now)
+                .map(price -> new ProductResponse.PricingInfo(price.getCurrencyCode(), price.getPrice()))
+                .toList();
+        PriceChangeEvent event = new PriceChangeEvent(productId, reason, Instant.ofEpochMilli(now), current);
+        try {
+            broadcaster.broadcast(EVENT_NAME, Long.toString(eventIds.incrementAndGet()), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Price change could not be serialized", e);
+        }
+    }
+
+    private static ZonedDateTime toDate(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,70 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+import java.util.Currency;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.PriceLookup;
+import com.cantire.storetech.evaluation.model.Product;
+
+/**
+ * Resolves a product's current price in a currency, preferring a price listed in that currency.
+ * Otherwise the first current price in another currency with a known FX rate is converted and rounded to the
+ * currency's minor units using the configured rounding mode.
+ */
+@Service
+public class PriceResolver implements PriceLookup {
+
+    private final FxRateService fxRateService;
+    private final RoundingMode roundingMode;
+
+    public PriceResolver(FxRateService fxRateService, @Value("${storetech.fx.rounding-mode:HALF_EVEN}") RoundingMode roundingMode) {
+        this.fxRateService = fxRateService;
+        this.roundingMode = roundingMode;
+    }
+
+    @Override
+    public Optional<BigDecimal> currentPrice(Product product, String currencyCode) {
+        return priceAt(product, currencyCode, ZonedDateTime.now());
+    }
+
+    /**
+     * The product's price in a currency as of the given instant, listed or converted at that instant's FX rate.
+     * Pricing several products at one instant keeps a price boundary from falling between them.
+     */
+    public Optional<BigDecimal> priceAt(Product product, String currencyCode, ZonedDateTime at) {
+        Optional<BigDecimal> listed = Product.findPriceAt(product, currencyCode, at);
+        if (listed.isPresent() || currencyCode == null) {
+            return listed;
+        }
+
+        for (PriceInfo price : product.getPriceInfos()) {
+            if (!price.isCurrent(at)) {
+                continue;
+            }
+            Optional<BigDecimal> rate = fxRateService.getRate(price.getCurrencyCode(), currencyCode, at);
+            if (rate.isPresent()) {
+                return Optional.of(convert(price.getPrice(), rate.get(), currencyCode));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private BigDecimal convert(BigDecimal amount, BigDecimal rate, String currencyCode) {
+        return amount.multiply(rate).setScale(minorUnits(currencyCode), roundingMode);
+    }
+
+    private static int minorUnits(String currencyCode) {
+        try {
+            return Math.max(Currency.getInstance(currencyCode).getDefaultFractionDigits(), 0);
+        } catch (IllegalArgumentException e) {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.cantire.storetech.evaluation.service;
+
+/**
+ * Published when a product or its prices are written through {@link ProductService}.
+ */
+public record ProductChangedEvent(Long productId) {
+}
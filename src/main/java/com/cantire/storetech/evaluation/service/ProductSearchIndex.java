@@ -0,0 +1,609 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, in-memory inverted index over product name terms, SKU prefixes and category name terms.
+ * <p>
+ * Every whitespace-separated query word must match a product, through the best of: a SKU starting with the word,
+ * a name term equal to it, a category term equal to it, or a name term starting with it. A product's score is the
+ * sum of its words' best weights; results are ordered by score, then product id.
+ * <p>
+ * Terms are kept in sorted arrays with a primitive posting list of document numbers each, so exact and prefix lookups
+ * are binary searches. Each batch of changed products becomes a new delta segment that supersedes the base and the
+ * older deltas. Deltas are merged while the newest is at least half the size of the one before it, so a write costs
+ * time in proportion to its own size, amortized, and a query sees a logarithmic number of segments. Deltas are merged
+ * into the base once they outgrow an eighth of it; until then {@link #with} never touches the base's arrays.
+ */
+public final class ProductSearchIndex {
+
+    static final int SKU_PREFIX_WEIGHT = 4;
+    static final int NAME_WEIGHT = 3;
+    static final int CATEGORY_WEIGHT = 2;
+    static final int NAME_PREFIX_WEIGHT = 1;
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_QUERY_WORDS = 8;
+    private static final int MIN_COMPACTION_SIZE = 1_024;
+    private static final int WEIGHT_BITS = 3;
+    private static final int SCORE_SHIFT = 55;
+    private static final long MAX_PRODUCT_ID = (1L << SCORE_SHIFT) - 1;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Segment base;
+    // Newest first; a segment supersedes every segment after it, and the base
+    private final List<Segment> deltas;
+    private final int size;
+
+    private ProductSearchIndex(Segment base, List<Segment> deltas, int size) {
+        this.base = base;
+        this.deltas = deltas;
+        this.size = size;
+    }
+
+    public static ProductSearchIndex of(Collection<Document> documents) {
+        Segment base = Segment.of(documents);
+        return new ProductSearchIndex(base, List.of(), base.size());
+    }
+
+    /**
+     * A new index where the given documents replace any with the same product id.
+     */
+    public ProductSearchIndex with(Collection<Document> changed) {
+        Map<Long, Document> changedById = new TreeMap<>();
+        for (Document document : changed) {
+            changedById.put(document.productId(), document);
+        }
+        if (changedById.isEmpty()) {
+            return this;
+        }
+        int added = 0;
+        for (long productId : changedById.keySet()) {
+            if (document(productId) == null) {
+                added++;
+            }
+        }
+
+        List<Segment> merged = new ArrayList<>(deltas.size() + 1);
+        merged.add(Segment.of(changedById.values()));
+        merged.addAll(deltas);
+        while (merged.size() > 1 && merged.get(0).size() * 2 >= merged.get(1).size()) {
+            merged.set(0, merged.get(0).supersede(merged.remove(1)));
+        }
+        int mergedDocuments = 0;
+        for (Segment delta : merged) {
+            mergedDocuments += delta.size();
+        }
+        if (mergedDocuments < Math.max(MIN_COMPACTION_SIZE, base.size() / 8)) {
+            return new ProductSearchIndex(base, List.copyOf(merged), size + added);
+        }
+
+        Segment newest = merged.get(0);
+        for (int i = 1; i < merged.size(); i++) {
+            newest = newest.supersede(merged.get(i));
+        }
+        Segment compacted = newest.supersede(base);
+        return new ProductSearchIndex(compacted, List.of(), compacted.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int deltaSegments() {
+        return deltas.size();
+    }
+
+    /**
+     * The indexed document for a product, or null when the index does not hold it.
+     */
+    public Document document(long productId) {
+        for (Segment delta : deltas) {
+            if (delta.contains(productId)) {
+                return delta.document(productId);
+            }
+        }
+        return base.contains(productId) ? base.document(productId) : null;
+    }
+
+    /**
+     * Ranked matches for a query.
+     *
+     * @param offset matches to skip
+     * @param limit  maximum matches to return
+     * @return the requested slice and the total number of matches
+     */
+    public Page search(String query, int offset, int limit) {
+        List<String> words = queryWords(query);
+        if (words.isEmpty()) {
+            return new Page(0, List.of());
+        }
+        TopMatches top = new TopMatches(offset + limit);
+        for (int i = 0; i < deltas.size(); i++) {
+            deltas.get(i).collect(words, deltas.subList(0, i), top);
+        }
+        base.collect(words, deltas, top);
+
+        long[] keys = top.sortedKeys();
+        List<Hit> hits = new ArrayList<>(Math.max(0, Math.min(limit, keys.length - offset)));
+        for (int i = offset; i < keys.length; i++) {
+            long productId = keys[i] & MAX_PRODUCT_ID;
+            int score = (int) (keys[i] >>> SCORE_SHIFT);
+            hits.add(new Hit(document(productId), Segment.MAX_SCORE - score));
+        }
+        return new Page(top.total(), hits);
+    }
+
+    /**
+     * Terms of a product or category name: each whitespace-separated word lowercased, split on punctuation,
+     * plus the word with its punctuation removed when it had any, so "x-ray" is found by "x", "ray" and "xray".
+     */
+    static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : WHITESPACE.split(text.toLowerCase(Locale.ROOT))) {
+            String[] parts = NON_ALPHANUMERIC.split(word);
+            for (String part : parts) {
+                if (!part.isEmpty()) {
+                    terms.add(part);
+                }
+            }
+            String joined = normalize(word);
+            if (!joined.isEmpty()) {
+                terms.add(joined);
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> queryWords(String query) {
+        Set<String> words = new LinkedHashSet<>();
+        if (query != null) {
+            for (String word : WHITESPACE.split(query.trim())) {
+                String normalized = normalize(word);
+                if (!normalized.isEmpty() && words.size() < MAX_QUERY_WORDS) {
+                    words.add(normalized);
+                }
+            }
+        }
+        return List.copyOf(words);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : NON_ALPHANUMERIC.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    /**
+     * A product as the index sees it.
+     *
+     * @param prices active and staged prices; which are current is decided at query time
+     */
+    public record Document(long productId, String name, String sku, int quantity, String categoryName, List<Price> prices) {
+
+        public Document {
+            if (productId < 0 || productId > MAX_PRODUCT_ID) {
+                throw new IllegalArgumentException("Product id out of range for the search index: " + productId);
+            }
+            prices = List.copyOf(prices);
+        }
+
+        public List<Price> currentPrices(long epochMilli) {
+            return prices.stream()
+                    .filter(price -> price.isCurrent(epochMilli))
+                    .toList();
+        }
+    }
+
+    /**
+     * A price window; both bounds are inclusive epoch milliseconds.
+     */
+    public record Price(String currencyCode, BigDecimal price, long effectiveFrom, long expiresAt) {
+
+        public boolean isCurrent(long epochMilli) {
+            return effectiveFrom <= epochMilli && epochMilli <= expiresAt;
+        }
+    }
+
+    public record Hit(Document document, int score) {
+    }
+
+    public record Page(int totalHits, List<Hit> hits) {
+    }
+
+    /**
+     * Documents ordered by product id; a document's number is its position.
+     */
+    private static final class Segment {
+
+        static final int MAX_SCORE = MAX_QUERY_WORDS * SKU_PREFIX_WEIGHT;
+
+        final Document[] documents;
+        final long[] productIds;
+        private final String[] nameTerms;
+        private final int[][] namePostings;
+        private final String[] categoryTerms;
+        private final int[][] categoryPostings;
+        private final String[] skus;
+        private final int[] skuDocuments;
+        private final String[] skuByDocument;
+
+        private Segment(Document[] documents, Map<String, PostingsBuilder> names, Map<String, PostingsBuilder> categories,
+                        String[] skus, int[] skuDocuments, String[] skuByDocument) {
+            this.documents = documents;
+            this.productIds = Arrays.stream(documents).mapToLong(Document::productId).toArray();
+            this.nameTerms = sortedTerms(names);
+            this.namePostings = postings(nameTerms, names);
+            this.categoryTerms = sortedTerms(categories);
+            this.categoryPostings = postings(categoryTerms, categories);
+            this.skus = skus;
+            this.skuDocuments = skuDocuments;
+            this.skuByDocument = skuByDocument;
+        }
+
+        static Segment of(Collection<Document> unordered) {
+            Document[] documents = unordered.toArray(Document[]::new);
+            Arrays.sort(documents, Comparator.comparingLong(Document::productId));
+
+            Map<String, PostingsBuilder> names = new HashMap<>();
+            Map<String, PostingsBuilder> categories = new HashMap<>();
+            for (int doc = 0; doc < documents.length; doc++) {
+                for (String term : terms(documents[doc].name())) {
+                    names.computeIfAbsent(term, t -> new PostingsBuilder()).add(doc);
+                }
+                for (String term : terms(documents[doc].categoryName())) {
+                    categories.computeIfAbsent(term, t -> new PostingsBuilder()).add(doc);
+                }
+            }
+
+            Integer[] bySku = new Integer[documents.length];
+            String[] normalizedSkus = new String[documents.length];
+            for (int doc = 0; doc < documents.length; doc++) {
+                bySku[doc] = doc;
+                normalizedSkus[doc] = normalize(documents[doc].sku());
+            }
+            Arrays.sort(bySku, Comparator.comparing(doc -> normalizedSkus[doc]));
+            String[] skus = new String[documents.length];
+            int[] skuDocuments = new int[documents.length];
+            for (int i = 0; i < bySku.length; i++) {
+                skus[i] = normalizedSkus[bySku[i]];
+                skuDocuments[i] = bySku[i];
+            }
+            return new Segment(documents, names, categories, skus, skuDocuments, normalizedSkus);
+        }
+
+        int size() {
+            return documents.length;
+        }
+
+        boolean contains(long productId) {
+            return Arrays.binarySearch(productIds, productId) >= 0;
+        }
+
+        Document document(long productId) {
+            return documents[Arrays.binarySearch(productIds, productId)];
+        }
+
+        /**
+         * A segment of this segment's documents and those of the older one that this does not replace.
+         */
+        Segment supersede(Segment older) {
+            List<Document> live = new ArrayList<>(documents.length + older.size());
+            live.addAll(Arrays.asList(documents));
+            for (Document document : older.documents) {
+                if (!contains(document.productId())) {
+                    live.add(document);
+                }
+            }
+            return of(live);
+        }
+
+        /**
+         * Adds this segment's matches to {@code top}, skipping products a superseding segment holds.
+         * Words are applied most selective first; a later word either has its matches materialized and intersected,
+         * or, when fewer candidates remain than it would match, is checked against each candidate's postings.
+         */
+        void collect(List<String> words, List<Segment> supersededBy, TopMatches top) {
+            List<String> ordered = new ArrayList<>(words);
+            ordered.sort(Comparator.comparingLong(this::estimatedMatches));
+
+            long[] matches = clause(ordered.get(0));
+            for (int w = 1; w < ordered.size() && matches.length > 0; w++) {
+                String word = ordered.get(w);
+                long probeCost = (long) matches.length * (upperBound(nameTerms, word) - lowerBound(nameTerms, word) + 2);
+                matches = probeCost < estimatedMatches(word) ? filter(matches, word) : intersect(matches, clause(word));
+            }
+            for (long match : matches) {
+                long productId = productIds[(int) (match >>> Integer.SIZE)];
+                if (!isSuperseded(productId, supersededBy)) {
+                    top.offer(productId, (int) match);
+                }
+            }
+        }
+
+        private static boolean isSuperseded(long productId, List<Segment> supersededBy) {
+            for (Segment segment : supersededBy) {
+                if (segment.contains(productId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Upper bound on the documents one query word matches, from posting list lengths.
+         */
+        private long estimatedMatches(String word) {
+            long estimate = upperBound(skus, word) - lowerBound(skus, word);
+            int categoryTerm = Arrays.binarySearch(categoryTerms, word);
+            if (categoryTerm >= 0) {
+                estimate += categoryPostings[categoryTerm].length;
+            }
+            int nameTerm = Arrays.binarySearch(nameTerms, word);
+            if (word.length() >= MIN_PREFIX_LENGTH) {
+                for (int t = lowerBound(nameTerms, word); t < upperBound(nameTerms, word); t++) {
+                    estimate += namePostings[t].length;
+                }
+            } else if (nameTerm >= 0) {
+                estimate += namePostings[nameTerm].length;
+            }
+            return estimate;
+        }
+
+        /**
+         * The candidates that also match the word, with its best weight added.
+         */
+        private long[] filter(long[] candidates, String word) {
+            int nameTerm = Arrays.binarySearch(nameTerms, word);
+            int categoryTerm = Arrays.binarySearch(categoryTerms, word);
+            int firstPrefixTerm = lowerBound(nameTerms, word);
+            int lastPrefixTerm = word.length() >= MIN_PREFIX_LENGTH ? upperBound(nameTerms, word) : firstPrefixTerm;
+
+            long[] result = new long[candidates.length];
+            int size = 0;
+            for (long candidate : candidates) {
+                int doc = (int) (candidate >>> Integer.SIZE);
+                int weight = 0;
+                if (skuByDocument[doc].startsWith(word)) {
+                    weight = SKU_PREFIX_WEIGHT;
+                } else if (nameTerm >= 0 && Arrays.binarySearch(namePostings[nameTerm], doc) >= 0) {
+                    weight = NAME_WEIGHT;
+                } else if (categoryTerm >= 0 && Arrays.binarySearch(categoryPostings[categoryTerm], doc) >= 0) {
+                    weight = CATEGORY_WEIGHT;
+                } else {
+                    for (int t = firstPrefixTerm; t < lastPrefixTerm && weight == 0; t++) {
+                        if (t != nameTerm && Arrays.binarySearch(namePostings[t], doc) >= 0) {
+                            weight = NAME_PREFIX_WEIGHT;
+                        }
+                    }
+                }
+                if (weight > 0) {
+                    result[size++] = candidate + weight;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * Documents matching one query word as {@code document << 32 | weight}, ordered by document,
+         * each with its best weight.
+         */
+        private long[] clause(String word) {
+            LongCollector candidates = new LongCollector();
+            int from = lowerBound(skus, word);
+            int to = upperBound(skus, word);
+            for (int i = from; i < to; i++) {
+                candidates.add(encode(skuDocuments[i], SKU_PREFIX_WEIGHT));
+            }
+            addPostings(candidates, nameTerms, namePostings, word, NAME_WEIGHT);
+            addPostings(candidates, categoryTerms, categoryPostings, word, CATEGORY_WEIGHT);
+            if (word.length() >= MIN_PREFIX_LENGTH) {
+                int firstTerm = lowerBound(nameTerms, word);
+                int lastTerm = upperBound(nameTerms, word);
+                for (int t = firstTerm; t < lastTerm; t++) {
+                    if (!nameTerms[t].equals(word)) {
+                        for (int doc : namePostings[t]) {
+                            candidates.add(encode(doc, NAME_PREFIX_WEIGHT));
+                        }
+                    }
+                }
+            }
+
+            long[] sorted = candidates.toSortedArray();
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                boolean lastOfDocument = i + 1 == sorted.length || sorted[i + 1] >>> WEIGHT_BITS != sorted[i] >>> WEIGHT_BITS;
+                if (lastOfDocument) {
+                    long document = sorted[i] >>> WEIGHT_BITS;
+                    sorted[unique++] = document << Integer.SIZE | (sorted[i] & ((1 << WEIGHT_BITS) - 1));
+                }
+            }
+            return Arrays.copyOf(sorted, unique);
+        }
+
+        private static void addPostings(LongCollector candidates, String[] terms, int[][] postings, String word, int weight) {
+            int term = Arrays.binarySearch(terms, word);
+            if (term >= 0) {
+                for (int doc : postings[term]) {
+                    candidates.add(encode(doc, weight));
+                }
+            }
+        }
+
+        private static long encode(int document, int weight) {
+            return (long) document << WEIGHT_BITS | weight;
+        }
+
+        /**
+         * Documents in both lists, with their weights summed.
+         */
+        private static long[] intersect(long[] left, long[] right) {
+            long[] result = new long[Math.min(left.length, right.length)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < left.length && j < right.length) {
+                long leftDocument = left[i] >>> Integer.SIZE;
+                long rightDocument = right[j] >>> Integer.SIZE;
+                if (leftDocument < rightDocument) {
+                    i++;
+                } else if (leftDocument > rightDocument) {
+                    j++;
+                } else {
+                    result[size++] = left[i++] + (int) right[j++];
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static int lowerBound(String[] sorted, String prefix) {
+            int index = Arrays.binarySearch(sorted, prefix);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private static int upperBound(String[] sorted, String prefix) {
+            int index = Arrays.binarySearch(sorted, prefix + Character.MAX_VALUE);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private static String[] sortedTerms(Map<String, PostingsBuilder> postings) {
+            String[] terms = postings.keySet().toArray(String[]::new);
+            Arrays.sort(terms);
+            return terms;
+        }
+
+        private static int[][] postings(String[] terms, Map<String, PostingsBuilder> builders) {
+            int[][] postings = new int[terms.length][];
+            for (int i = 0; i < terms.length; i++) {
+                postings[i] = builders.get(terms[i]).toArray();
+            }
+            return postings;
+        }
+    }
+
+    /**
+     * Keeps the best {@code capacity} matches, ranked by score then product id, in a max-heap of
+     * {@code (MAX_SCORE - score) << 55 | productId} keys so a smaller key is a better match.
+     */
+    private static final class TopMatches {
+
+        private final long[] heap;
+        private int heapSize;
+        private int total;
+
+        TopMatches(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(long productId, int score) {
+            total++;
+            if (heap.length == 0) {
+                return;
+            }
+            long key = (long) (Segment.MAX_SCORE - score) << SCORE_SHIFT | productId;
+            if (heapSize < heap.length) {
+                heap[heapSize] = key;
+                siftUp(heapSize++);
+            } else if (key < heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        int total() {
+            return total;
+        }
+
+        long[] sortedKeys() {
+            long[] keys = Arrays.copyOf(heap, heapSize);
+            Arrays.sort(keys);
+            return keys;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heap[parent] >= heap[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int largest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && heap[left] > heap[largest]) {
+                    largest = left;
+                }
+                if (right < heapSize && heap[right] > heap[largest]) {
+                    largest = right;
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long swapped = heap[i];
+            heap[i] = heap[j];
+            heap[j] = swapped;
+        }
+    }
+
+    private static final class PostingsBuilder {
+
+        private int[] documents = new int[2];
+        private int size;
+
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(documents, size);
+        }
+    }
+
+    private static final class LongCollector {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
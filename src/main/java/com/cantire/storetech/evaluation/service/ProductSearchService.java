@@ -0,0 +1,27 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.dto.ProductSearchResponse;
+
+public interface ProductSearchService {
+
+    ProductSearchResponse search(String query, int page, int size);
+
+    /**
+     * Products by id with current prices, from the index's in-memory snapshot; ids it does not hold are skipped.
+     */
+    List<ProductResponse> getProducts(long[] productIds);
+
+    /**
+     * Rebuilds the whole index from the database.
+     */
+    void rebuildIndex();
+
+    /**
+     * Re-reads the given products and replaces them in the index.
+     */
+    void reindex(Collection<Long> productIds);
+}
@@ -0,0 +1,120 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.dto.ProductSearchResponse;
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import com.cantire.storetech.evaluation.service.ProductSearchIndex.Document;
+import com.cantire.storetech.evaluation.service.ProductSearchIndex.Price;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves product search from an in-memory {@link ProductSearchIndex}, so a search never goes to the database.
+ * The index is built once, on first use, and swapped atomically. Products written through {@link ProductService} are
+ * re-read and replaced in it once their transaction commits. The scheduled full rebuild picks up rows written
+ * around the application, and any write that raced a rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSearchServiceImpl implements ProductSearchService {
+
+    private final ProductRepository productRepository;
+    private final PriceInfoRepository priceInfoRepository;
+    private final AtomicReference<ProductSearchIndex> index = new AtomicReference<>();
+
+    @Override
+    public ProductSearchResponse search(String query, int page, int size) {
+        ProductSearchIndex.Page result = currentIndex().search(query, page * size, size);
+        long now = System.currentTimeMillis();
+        List<ProductResponse> products = result.hits().stream()
+                .map(hit -> toProductResponse(hit.document(), now))
+                .toList();
+        return new ProductSearchResponse(query, page, size, result.totalHits(), products);
+    }
+
+    @Override
+    public List<ProductResponse> getProducts(long[] productIds) {
+        ProductSearchIndex current = currentIndex();
+        long now = System.currentTimeMillis();
+        List<ProductResponse> products = new ArrayList<>(productIds.length);
+        for (long productId : productIds) {
+            Document document = current.document(productId);
+            if (document != null) {
+                products.add(toProductResponse(document, now));
+            }
+        }
+        return products;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.search.rebuild-interval:PT15M}", initialDelayString = "${storetech.search.rebuild-interval:PT15M}")
+    public void rebuildIndex() {
+        index.set(ProductSearchIndex.of(documents(productRepository.findSearchRows(),
+                priceInfoRepository.findPriceRowsExpiringFrom(ZonedDateTime.now()))));
+    }
+
+    @Override
+    public void reindex(Collection<Long> productIds) {
+        if (index.get() == null) {
+            return;
+        }
+        List<Document> changed = documents(productRepository.findSearchRowsByIds(productIds),
+                priceInfoRepository.findPriceRowsExpiringFrom(ZonedDateTime.now(), productIds));
+        index.updateAndGet(current -> current.with(changed));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reindex(List.of(event.productId()));
+    }
+
+    private ProductSearchIndex currentIndex() {
+        ProductSearchIndex current = index.get();
+        if (current != null) {
+            return current;
+        }
+        // Searches arriving before the first build wait for it rather than each reading the whole catalog
+        synchronized (this) {
+            current = index.get();
+            if (current == null) {
+                rebuildIndex();
+                current = index.get();
+            }
+            return current;
+        }
+    }
+
+    private static List<Document> documents(List<ProductRepository.SearchRow> products, List<PriceInfoRepository.PriceRow> prices) {
+        Map<Long, List<Price>> pricesByProduct = new HashMap<>();
+        for (PriceInfoRepository.PriceRow row : prices) {
+            pricesByProduct.computeIfAbsent(row.getProductId(), productId -> new ArrayList<>())
+                    .add(new Price(row.getCurrencyCode(), row.getPrice(),
+                            row.getEffectiveDate().toInstant().toEpochMilli(), row.getExpiryDate().toInstant().toEpochMilli()));
+        }
+        return products.stream()
+                .map(row -> new Document(row.getId(), row.getName(), row.getSku(), row.getQuantity() == null ? 0 : row.getQuantity(),
+                        row.getCategoryName(), pricesByProduct.getOrDefault(row.getId(), List.of())))
+                .toList();
+    }
+
+    private static ProductResponse toProductResponse(Document document, long now) {
+        List<ProductResponse.PricingInfo> prices = document.currentPrices(now).stream()
+                .map(price -> new ProductResponse.PricingInfo(price.currencyCode(), price.price()))
+                .toList();
+        return new ProductResponse(document.productId(), document.name(), document.sku(), document.quantity(),
+                document.categoryName(), prices);
+    }
+}
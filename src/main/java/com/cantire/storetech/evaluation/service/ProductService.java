@@ -1,8 +1,10 @@
 package com.cantire.storetech.evaluation.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import com.cantire.storetech.evaluation.dto.PriceHistoryResponse;
 import com.cantire.storetech.evaluation.dto.ProductResponse;
 import com.cantire.storetech.evaluation.model.Product;
 
@@ -10,9 +12,13 @@ public interface ProductService {
 
     List<Product> getProducts();
 
+    List<Product> getProducts(Collection<Long> productIds);
+
     Product create(Product product);
 
     List<ProductResponse> getProductsWithPrices();
 
     Optional<Product> getProduct(Long productId);
+
+    List<PriceHistoryResponse> getPriceHistory(Long productId);
 }
@@ -1,14 +1,22 @@
 package com.cantire.storetech.evaluation.service;
 
+import java.time.Clock;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.cantire.storetech.evaluation.dto.PriceHistoryResponse;
 import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.model.PriceInfoHistory;
 import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.repo.PriceInfoHistoryRepository;
 import com.cantire.storetech.evaluation.repo.ProductRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,30 +26,71 @@ import lombok.RequiredArgsConstructor;
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final PriceInfoHistoryRepository priceInfoHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> getProducts() {
         return productRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Product> getProducts(Collection<Long> productIds) {
+        return productRepository.findAllById(productIds);
+    }
+
+    /**
+     * Saves a product and its prices. Writing through the session keeps the second-level cache entries
+     * for the product and its price collection in step with the database. Publishes a {@link ProductChangedEvent}.
+     */
+    @Override
+    @Transactional
     public Product create(Product product) {
-        return productRepository.save(product);
+        product.getPriceInfos().forEach(priceInfo -> priceInfo.setProduct(product));
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved.getId()));
+        return saved;
     }
 
+    /**
+     * Lists each product with the prices current now. A product's price collection may come from the second-level
+     * cache, where it can still hold prices that expired after it was loaded, so prices are checked against the clock.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<ProductResponse> getProductsWithPrices() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
         return productRepository.findAll().stream()
-                .map(this::toProductResponse)
+                .map(product -> toProductResponse(product, now))
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> getProduct(Long productId) {
         return productRepository.findById(productId);
     }
 
-    private ProductResponse toProductResponse(Product product) {
+    /**
+     * Expired prices for a product, newest first. Read straight from price_info_history without loading the product.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PriceHistoryResponse> getPriceHistory(Long productId) {
+        return priceInfoHistoryRepository.findByProductIdOrderByEffectiveDateDesc(productId).stream()
+                .map(ProductServiceImpl::toPriceHistoryResponse)
+                .toList();
+    }
+
+    private static PriceHistoryResponse toPriceHistoryResponse(PriceInfoHistory price) {
+        return new PriceHistoryResponse(price.getCurrencyCode(), price.getPrice(), price.getEffectiveDate(), price.getExpiryDate(),
+                price.getArchivedAt());
+    }
+
+    private ProductResponse toProductResponse(Product product, ZonedDateTime now) {
         ProductResponse response = new ProductResponse();
         response.setId(product.getId());
         response.setName(product.getName());
@@ -55,6 +104,7 @@ public class ProductServiceImpl implements ProductService {
         List<ProductResponse.PricingInfo> prices = new ArrayList<>();
         if (product.getPriceInfos() != null) {
             prices = product.getPriceInfos().stream()
+                    .filter(price -> price.isCurrent(now))
                     .map(price -> new ProductResponse.PricingInfo(
                             price.getCurrencyCode(),
                             price.getPrice()
@@ -0,0 +1,207 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cantire.storetech.evaluation.model.ProductQuantityView;
+import com.cantire.storetech.evaluation.model.Promotion;
+import com.cantire.storetech.evaluation.model.PromotionLookup;
+
+/**
+ * Immutable, in-memory promotions compiled for evaluation against cart lines.
+ * <p>
+ * Each promotion is compiled once into a rule with its validity window in epoch milliseconds and its arithmetic
+ * prepared, then indexed under the keys that can trigger it: a multi-buy and every item of a bundle under their
+ * product ids, a category discount under its category id. Evaluating a cart looks up each line's product and
+ * category, so the work grows with the lines and the rules that touch them, not with the number of promotions.
+ * <p>
+ * Promotions do not stack: each line gets the largest discount among the rules in effect for it, capped at the
+ * line's total. Percentage discounts are rounded half up to cents.
+ */
+public final class PromotionRules {
+
+    public static final PromotionRules EMPTY = new PromotionRules(Map.of(), Map.of(), 0);
+
+    private static final Rule[] NO_RULES = new Rule[0];
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final Map<Long, Rule[]> rulesByProduct;
+    private final Map<Long, Rule[]> rulesByCategory;
+    private final int size;
+
+    private PromotionRules(Map<Long, Rule[]> rulesByProduct, Map<Long, Rule[]> rulesByCategory, int size) {
+        this.rulesByProduct = rulesByProduct;
+        this.rulesByCategory = rulesByCategory;
+        this.size = size;
+    }
+
+    /**
+     * @throws IllegalArgumentException when a promotion lacks the fields its type needs
+     */
+    public static PromotionRules of(Collection<Promotion> promotions) {
+        Map<Long, List<Rule>> byProduct = new HashMap<>();
+        Map<Long, List<Rule>> byCategory = new HashMap<>();
+        for (Promotion promotion : promotions) {
+            long start = promotion.getEffectiveDate().toInstant().toEpochMilli();
+            long end = promotion.getExpiryDate() == null ? Long.MAX_VALUE : promotion.getExpiryDate().toInstant().toEpochMilli() + 1;
+            switch (promotion.getType()) {
+                case MULTI_BUY -> {
+                    int buy = require(promotion, promotion.getBuyQuantity(), "buyQuantity");
+                    int free = require(promotion, promotion.getFreeQuantity(), "freeQuantity");
+                    if (buy < 1 || free < 1 || free > buy) {
+                        throw invalid(promotion, "needs 0 < freeQuantity <= buyQuantity");
+                    }
+                    add(byProduct, require(promotion, promotion.getProductId(), "productId"), new MultiBuy(start, end, buy, free));
+                }
+                case CATEGORY_PERCENT_OFF -> add(byCategory, require(promotion, promotion.getCategoryId(), "categoryId"),
+                        new PercentOff(start, end, fraction(promotion)));
+                case BUNDLE -> {
+                    List<Promotion.BundleItem> items = promotion.getBundleItems();
+                    if (items.isEmpty()) {
+                        throw invalid(promotion, "has no bundle items");
+                    }
+                    long[] productIds = new long[items.size()];
+                    int[] quantities = new int[items.size()];
+                    for (int i = 0; i < productIds.length; i++) {
+                        productIds[i] = items.get(i).getProductId();
+                        quantities[i] = items.get(i).getQuantity();
+                        if (quantities[i] < 1) {
+                            throw invalid(promotion, "needs a positive quantity per bundle item");
+                        }
+                    }
+                    Bundle bundle = new Bundle(start, end, productIds, quantities, fraction(promotion));
+                    for (long productId : productIds) {
+                        add(byProduct, productId, bundle);
+                    }
+                }
+                default -> throw invalid(promotion, "has an unknown type");
+            }
+        }
+        return new PromotionRules(compile(byProduct), compile(byCategory), promotions.size());
+    }
+
+    /**
+     * The discount of each line at the given instant.
+     *
+     * @param lines       product ids and quantities, one line per position
+     * @param categoryIds category id of each line, {@link PromotionLookup#NO_CATEGORY} when it has none
+     * @param unitPrices  unit price of each line
+     * @param at          epoch milliseconds
+     */
+    public BigDecimal[] lineDiscounts(ProductQuantityView lines, long[] categoryIds, BigDecimal[] unitPrices, long at) {
+        BigDecimal[] discounts = new BigDecimal[lines.size()];
+        for (int line = 0; line < discounts.length; line++) {
+            BigDecimal best = best(BigDecimal.ZERO, rulesByProduct.getOrDefault(lines.productIdAt(line), NO_RULES), line, lines, unitPrices, at);
+            if (categoryIds[line] != PromotionLookup.NO_CATEGORY) {
+                best = best(best, rulesByCategory.getOrDefault(categoryIds[line], NO_RULES), line, lines, unitPrices, at);
+            }
+            discounts[line] = best.min(unitPrices[line].multiply(BigDecimal.valueOf(lines.quantityAt(line))));
+        }
+        return discounts;
+    }
+
+    /**
+     * Number of promotions compiled.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static BigDecimal best(BigDecimal best, Rule[] rules, int line, ProductQuantityView lines, BigDecimal[] unitPrices, long at) {
+        BigDecimal result = best;
+        for (Rule rule : rules) {
+            if (rule.start() <= at && at < rule.end()) {
+                result = result.max(rule.discount(lines.productIdAt(line), lines.quantityAt(line), unitPrices[line], lines));
+            }
+        }
+        return result;
+    }
+
+    private static void add(Map<Long, List<Rule>> index, long key, Rule rule) {
+        index.computeIfAbsent(key, ignored -> new ArrayList<>()).add(rule);
+    }
+
+    private static Map<Long, Rule[]> compile(Map<Long, List<Rule>> index) {
+        Map<Long, Rule[]> compiled = new HashMap<>(index.size() * 4 / 3 + 1);
+        index.forEach((key, rules) -> compiled.put(key, rules.toArray(NO_RULES)));
+        return compiled;
+    }
+
+    private static BigDecimal fraction(Promotion promotion) {
+        BigDecimal percentOff = require(promotion, promotion.getPercentOff(), "percentOff");
+        if (percentOff.signum() <= 0 || percentOff.compareTo(ONE_HUNDRED) > 0) {
+            throw invalid(promotion, "needs 0 < percentOff <= 100");
+        }
+        return percentOff.divide(ONE_HUNDRED);
+    }
+
+    private static <T> T require(Promotion promotion, T value, String field) {
+        if (value == null) {
+            throw invalid(promotion, "has no " + field);
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(Promotion promotion, String problem) {
+        return new IllegalArgumentException("Promotion " + promotion.getId() + " (" + promotion.getType() + ") " + problem);
+    }
+
+    private static BigDecimal percentOf(BigDecimal amount, BigDecimal fraction) {
+        return amount.multiply(fraction).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * A compiled promotion, in effect over [start, end) in epoch milliseconds.
+     */
+    private sealed interface Rule permits MultiBuy, PercentOff, Bundle {
+
+        long start();
+
+        long end();
+
+        BigDecimal discount(long productId, int quantity, BigDecimal unitPrice, ProductQuantityView lines);
+    }
+
+    private record MultiBuy(long start, long end, int buyQuantity, int freeQuantity) implements Rule {
+
+        @Override
+        public BigDecimal discount(long productId, int quantity, BigDecimal unitPrice, ProductQuantityView lines) {
+            return unitPrice.multiply(BigDecimal.valueOf((long) quantity / buyQuantity * freeQuantity));
+        }
+    }
+
+    private record PercentOff(long start, long end, BigDecimal fraction) implements Rule {
+
+        @Override
+        public BigDecimal discount(long productId, int quantity, BigDecimal unitPrice, ProductQuantityView lines) {
+            return percentOf(unitPrice.multiply(BigDecimal.valueOf(quantity)), fraction);
+        }
+    }
+
+    /**
+     * Discounts, on each of its lines, the units that make up complete sets.
+     */
+    private record Bundle(long start, long end, long[] productIds, int[] quantities, BigDecimal fraction) implements Rule {
+
+        @Override
+        public BigDecimal discount(long productId, int quantity, BigDecimal unitPrice, ProductQuantityView lines) {
+            int sets = Integer.MAX_VALUE;
+            int perSet = 0;
+            for (int i = 0; i < productIds.length && sets > 0; i++) {
+                sets = Math.min(sets, lines.quantity(productIds[i]) / quantities[i]);
+                if (productIds[i] == productId) {
+                    perSet = quantities[i];
+                }
+            }
+            if (sets == 0) {
+                return BigDecimal.ZERO;
+            }
+            return percentOf(unitPrice.multiply(BigDecimal.valueOf((long) sets * perSet)), fraction);
+        }
+    }
+}
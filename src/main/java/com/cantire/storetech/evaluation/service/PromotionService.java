@@ -0,0 +1,22 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+import com.cantire.storetech.evaluation.model.ProductQuantityView;
+import com.cantire.storetech.evaluation.model.PromotionLookup;
+
+public interface PromotionService extends PromotionLookup {
+
+    /**
+     * The discount of each line under the promotions in effect at the given instant.
+     *
+     * @see PromotionLookup#lineDiscounts(ProductQuantityView, long[], BigDecimal[])
+     */
+    BigDecimal[] lineDiscountsAt(ProductQuantityView lines, long[] categoryIds, BigDecimal[] unitPrices, ZonedDateTime at);
+
+    /**
+     * Recompiles the in-memory promotion rules from the database.
+     */
+    void refreshPromotions();
+}
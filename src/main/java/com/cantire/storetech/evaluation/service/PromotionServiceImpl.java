@@ -0,0 +1,76 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.cantire.storetech.evaluation.model.ProductQuantityView;
+import com.cantire.storetech.evaluation.model.Promotion;
+import com.cantire.storetech.evaluation.repo.PromotionRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evaluates promotions against {@link PromotionRules} compiled from every unexpired promotion. The rules are compiled
+ * once and swapped atomically, so pricing a cart never goes to the database for promotions. They are recompiled on the
+ * first lookup after a transaction that wrote a promotion commits, so new and edited promotions apply straight away;
+ * the scheduled refresh only picks up rows written outside the application.
+ */
+@Service
+@RequiredArgsConstructor
+public class PromotionServiceImpl implements PromotionService {
+
+    private final PromotionRepository promotionRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<CompiledRules> rules = new AtomicReference<>();
+
+    @PostConstruct
+    void listenForPromotionWrites() {
+        CommittedWriteListener.register(entityManagerFactory, Promotion.class, generation::incrementAndGet);
+    }
+
+    @Override
+    public BigDecimal[] lineDiscounts(ProductQuantityView lines, long[] categoryIds, BigDecimal[] unitPrices) {
+        return currentRules().lineDiscounts(lines, categoryIds, unitPrices, System.currentTimeMillis());
+    }
+
+    @Override
+    public BigDecimal[] lineDiscountsAt(ProductQuantityView lines, long[] categoryIds, BigDecimal[] unitPrices, ZonedDateTime at) {
+        return currentRules().lineDiscounts(lines, categoryIds, unitPrices, at.toInstant().toEpochMilli());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.promotions.refresh-interval:PT5M}", initialDelayString = "${storetech.promotions.refresh-interval:PT5M}")
+    public void refreshPromotions() {
+        compile();
+    }
+
+    private PromotionRules currentRules() {
+        CompiledRules current = rules.get();
+        if (current == null || current.generation() != generation.get()) {
+            return compile();
+        }
+        return current.rules();
+    }
+
+    /**
+     * Tags the rules with the write generation read before loading, so a write committed during the load leaves them
+     * stale and the next lookup compiles again.
+     */
+    private PromotionRules compile() {
+        long compiled = generation.get();
+        PromotionRules compiledRules = PromotionRules.of(promotionRepository.findUnexpiredAt(ZonedDateTime.now()));
+        rules.set(new CompiledRules(compiled, compiledRules));
+        return compiledRules;
+    }
+
+    private record CompiledRules(long generation, PromotionRules rules) {
+    }
+}
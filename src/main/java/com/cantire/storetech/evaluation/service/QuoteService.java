@@ -0,0 +1,16 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.QuoteRequest;
+import com.cantire.storetech.evaluation.dto.QuoteResponse;
+
+public interface QuoteService {
+
+    /**
+     * Price a batch of baskets without persisting anything.
+     *
+     * @param request baskets to quote
+     * @return one quote per basket, in request order
+     * @throws IllegalArgumentException when a basket, a line or a line's product id is missing
+     */
+    QuoteResponse quote(QuoteRequest request);
+}
@@ -0,0 +1,199 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.cantire.storetech.evaluation.dto.QuoteRequest;
+import com.cantire.storetech.evaluation.dto.QuoteResponse;
+import com.cantire.storetech.evaluation.exception.InvalidCurrencyCodeException;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.TaxInfo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stateless quoting of many baskets at once.
+ * Prices and tax rates for every product, currency and region in the batch are resolved once up front;
+ * the baskets are then evaluated in parallel on the common fork-join pool against that read-only data.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuoteServiceImpl implements QuoteService {
+
+    private static final int BASKETS_PER_TASK = 64;
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProductService productService;
+    private final TaxService taxService;
+    private final PriceResolver priceResolver;
+
+    @Override
+    public QuoteResponse quote(QuoteRequest request) {
+        List<QuoteRequest.Basket> baskets = request.getBaskets() == null ? List.of() : request.getBaskets();
+        validate(baskets);
+        PricingData pricingData = loadPricingData(baskets);
+
+        QuoteResponse.BasketQuote[] quotes = new QuoteResponse.BasketQuote[baskets.size()];
+        ForkJoinPool.commonPool().invoke(new QuoteTask(baskets, pricingData, quotes, 0, baskets.size()));
+        return new QuoteResponse(Arrays.asList(quotes));
+    }
+
+    private static void validate(List<QuoteRequest.Basket> baskets) {
+        for (int i = 0; i < baskets.size(); i++) {
+            QuoteRequest.Basket basket = baskets.get(i);
+            if (basket == null) {
+                throw new IllegalArgumentException("Basket " + i + " is missing");
+            }
+            List<QuoteRequest.Line> lines = basket.getLines() == null ? List.of() : basket.getLines();
+            for (int j = 0; j < lines.size(); j++) {
+                if (lines.get(j) == null || lines.get(j).getProductId() == null) {
+                    throw new IllegalArgumentException("Line " + j + " of basket " + i + " has no product");
+                }
+            }
+        }
+    }
+
+    private PricingData loadPricingData(List<QuoteRequest.Basket> baskets) {
+        List<Long> productIds = baskets.stream()
+                .filter(basket -> basket.getLines() != null)
+                .flatMap(basket -> basket.getLines().stream())
+                .map(QuoteRequest.Line::getProductId)
+                .distinct()
+                .toList();
+        Map<Long, Product> products = productService.getProducts(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Map<String, Map<Long, BigDecimal>> prices = new HashMap<>();
+        Map<String, BigDecimal> taxRates = new HashMap<>();
+        for (QuoteRequest.Basket basket : baskets) {
+            prices.computeIfAbsent(basket.getCurrencyCode(), currencyCode -> currentPrices(products, currencyCode));
+            String taxKey = taxKey(basket.getRegion(), basket.getCurrencyCode());
+            if (!taxRates.containsKey(taxKey)) {
+                taxRates.put(taxKey, combinedTaxRate(basket.getRegion(), basket.getCurrencyCode()));
+            }
+        }
+        return new PricingData(Set.copyOf(products.keySet()), prices, taxRates);
+    }
+
+    private Map<Long, BigDecimal> currentPrices(Map<Long, Product> products, String currencyCode) {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        products.forEach((productId, product) ->
+                priceResolver.currentPrice(product, currencyCode).ifPresent(price -> prices.put(productId, price)));
+        return prices;
+    }
+
+    /**
+     * Sum of all tax percentages for the region, or null when the currency is not supported.
+     */
+    private BigDecimal combinedTaxRate(String region, String currencyCode) {
+        try {
+            return taxService.getTaxesForRegion(region, currencyCode).stream()
+                    .map(TaxInfo::getPercentage)
+                    .map(BigDecimal::valueOf)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        } catch (InvalidCurrencyCodeException e) {
+            return null;
+        }
+    }
+
+    private static String taxKey(String region, String currencyCode) {
+        return region + ":" + currencyCode;
+    }
+
+    static QuoteResponse.BasketQuote quoteBasket(QuoteRequest.Basket basket, PricingData pricingData) {
+        QuoteResponse.BasketQuote quote = new QuoteResponse.BasketQuote();
+        quote.setReference(basket.getReference());
+        quote.setRegion(basket.getRegion());
+        quote.setCurrencyCode(basket.getCurrencyCode());
+        quote.setSuccess(false);
+
+        BigDecimal taxRate = pricingData.taxRates().get(taxKey(basket.getRegion(), basket.getCurrencyCode()));
+        if (taxRate == null) {
+            quote.setMessage("Invalid currency code: " + basket.getCurrencyCode());
+            return quote;
+        }
+
+        Map<Long, BigDecimal> prices = pricingData.prices().get(basket.getCurrencyCode());
+        List<QuoteRequest.Line> lines = basket.getLines() == null ? List.of() : basket.getLines();
+        BigDecimal subtotal = BigDecimal.ZERO;
+        int totalItems = 0;
+        for (QuoteRequest.Line line : lines) {
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                quote.setMessage("Quantity must be greater than zero for product: " + line.getProductId());
+                return quote;
+            }
+            if (!pricingData.productIds().contains(line.getProductId())) {
+                quote.setMessage("Unknown product: " + line.getProductId());
+                return quote;
+            }
+            BigDecimal price = prices.get(line.getProductId());
+            if (price == null) {
+                quote.setMessage("No " + basket.getCurrencyCode() + " price for product: " + line.getProductId());
+                return quote;
+            }
+            subtotal = subtotal.add(price.multiply(BigDecimal.valueOf(line.getQuantity())));
+            totalItems += line.getQuantity();
+        }
+
+        BigDecimal taxTotal = subtotal.multiply(taxRate).divide(ONE_HUNDRED, 2, RoundingMode.HALF_UP);
+        quote.setTotalItems(totalItems);
+        quote.setSubtotal(subtotal);
+        quote.setTaxTotal(taxTotal);
+        quote.setTotal(subtotal.add(taxTotal));
+        quote.setSuccess(true);
+        quote.setMessage("Quoted");
+        return quote;
+    }
+
+    /**
+     * Read-only ids of the products that exist, prices (currency to product id to current price) and combined tax rates
+     * (region:currency to percentage).
+     */
+    record PricingData(Set<Long> productIds, Map<String, Map<Long, BigDecimal>> prices, Map<String, BigDecimal> taxRates) {
+    }
+
+    /**
+     * Splits the basket range in half until it is small enough to quote sequentially.
+     */
+    private static final class QuoteTask extends RecursiveAction {
+
+        private final transient List<QuoteRequest.Basket> baskets;
+        private final transient PricingData pricingData;
+        private final QuoteResponse.BasketQuote[] quotes;
+        private final int from;
+        private final int to;
+
+        private QuoteTask(List<QuoteRequest.Basket> baskets, PricingData pricingData,
+                          QuoteResponse.BasketQuote[] quotes, int from, int to) {
+            this.baskets = baskets;
+            this.pricingData = pricingData;
+            this.quotes = quotes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BASKETS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    quotes[i] = quoteBasket(baskets.get(i), pricingData);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new QuoteTask(baskets, pricingData, quotes, from, middle),
+                    new QuoteTask(baskets, pricingData, quotes, middle, to));
+        }
+    }
+}
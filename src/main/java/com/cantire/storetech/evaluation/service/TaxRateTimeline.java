@@ -0,0 +1,92 @@
+package com.cantire.storetech.evaluation.service;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.cantire.storetech.evaluation.model.TaxInfo;
+
+/**
+ * Immutable, in-memory view of effective-dated tax rates.
+ * For each country and province the rate boundaries are flattened into sorted segments, each holding the
+ * taxes valid for its whole span, so finding the rates valid at an instant is a binary search.
+ */
+public final class TaxRateTimeline {
+
+    private final Map<String, Segments> segmentsByRegion;
+
+    private TaxRateTimeline(Map<String, Segments> segmentsByRegion) {
+        this.segmentsByRegion = segmentsByRegion;
+    }
+
+    public static TaxRateTimeline of(List<TaxInfo> taxes) {
+        Map<String, List<TaxInfo>> taxesByRegion = taxes.stream()
+                .collect(Collectors.groupingBy(tax -> key(tax.getCountryCode(), tax.getStateProvince()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        Map<String, Segments> segmentsByRegion = new LinkedHashMap<>();
+        taxesByRegion.forEach((region, regionTaxes) -> segmentsByRegion.put(region, Segments.of(regionTaxes)));
+        return new TaxRateTimeline(segmentsByRegion);
+    }
+
+    /**
+     * Taxes valid at the given instant for a country and province.
+     *
+     * @return the valid taxes, or an empty list when the region is unknown or has no rate at that instant
+     */
+    public List<TaxInfo> ratesAt(String countryCode, String stateProvince, ZonedDateTime at) {
+        Segments segments = segmentsByRegion.get(key(countryCode, stateProvince));
+        return segments == null ? List.of() : segments.ratesAt(at.toInstant().toEpochMilli());
+    }
+
+    private static String key(String countryCode, String stateProvince) {
+        return countryCode + ":" + stateProvince;
+    }
+
+    private static long startOf(TaxInfo tax) {
+        return tax.getEffectiveDate() == null ? Long.MIN_VALUE : tax.getEffectiveDate().toInstant().toEpochMilli();
+    }
+
+    /**
+     * Exclusive end, one millisecond after the inclusive expiry date.
+     */
+    private static long endOf(TaxInfo tax) {
+        return tax.getExpiryDate() == null ? Long.MAX_VALUE : tax.getExpiryDate().toInstant().toEpochMilli() + 1;
+    }
+
+    /**
+     * Segment i covers [starts[i], starts[i + 1]) and holds the taxes valid throughout it.
+     */
+    private record Segments(long[] starts, List<List<TaxInfo>> taxes) {
+
+        static Segments of(List<TaxInfo> regionTaxes) {
+            TreeSet<Long> boundaries = new TreeSet<>();
+            for (TaxInfo tax : regionTaxes) {
+                boundaries.add(startOf(tax));
+                boundaries.add(endOf(tax));
+            }
+
+            long[] starts = boundaries.stream().mapToLong(Long::longValue).toArray();
+            List<List<TaxInfo>> taxes = new ArrayList<>(starts.length);
+            for (long start : starts) {
+                taxes.add(regionTaxes.stream()
+                        .filter(tax -> startOf(tax) <= start && start < endOf(tax))
+                        .toList());
+            }
+            return new Segments(starts, taxes);
+        }
+
+        List<TaxInfo> ratesAt(long epochMilli) {
+            int index = Arrays.binarySearch(starts, epochMilli);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return index < 0 ? List.of() : taxes.get(index);
+        }
+    }
+}
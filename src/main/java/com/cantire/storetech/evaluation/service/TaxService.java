@@ -2,8 +2,17 @@ package com.cantire.storetech.evaluation.service;
 
 import com.cantire.storetech.evaluation.model.TaxInfo;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface TaxService {
     List<TaxInfo> getTaxesForRegion(String region, String countryCode);
+
+    List<TaxInfo> getTaxesForRegion(String region, String currencyCode, ZonedDateTime at);
+
+    /**
+     * Reloads tax rates from the database. Rates written through JPA are visible without it; this picks up rows
+     * written to tax_info by other means.
+     */
+    void refreshTaxRates();
 }
@@ -3,21 +3,40 @@ package com.cantire.storetech.evaluation.service;
 import com.cantire.storetech.evaluation.exception.InvalidCurrencyCodeException;
 import com.cantire.storetech.evaluation.model.TaxInfo;
 import com.cantire.storetech.evaluation.repo.TaxInfoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.ZonedDateTime;
 import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Resolves tax rates from an in-memory {@link TaxRateTimeline}. The timeline is rebuilt on the first lookup after a
+ * transaction that wrote tax_info commits, so new and edited rates are visible straight away; the scheduled refresh
+ * only picks up rows written outside the application.
+ */
 @Service
 @RequiredArgsConstructor
 public class TaxServiceImpl implements TaxService {
 
     private static final Set<Locale> AVAILABLE_LOCALES = Set.of(Locale.CANADA);
     private final TaxInfoRepository taxInfoRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<BuiltTimeline> timeline = new AtomicReference<>();
+
+    @PostConstruct
+    void listenForTaxWrites() {
+        CommittedWriteListener.register(entityManagerFactory, TaxInfo.class, generation::incrementAndGet);
+    }
 
     public static Optional<Locale> getLocaleFromCurrencyCode(String currencyCode) {
         return AVAILABLE_LOCALES.stream()
@@ -40,10 +59,51 @@ public class TaxServiceImpl implements TaxService {
      */
     @Override
     public List<TaxInfo> getTaxesForRegion(String region, String currencyCode) {
+        return getTaxesForRegion(region, currencyCode, ZonedDateTime.now());
+    }
+
+    /**
+     * Get the taxes valid for a region at a given instant, resolved from the in-memory rate timeline.
+     *
+     * @param region       The region (province abbreviation)
+     * @param currencyCode the currency code (e.g., "CAD") to determine the country for tax lookup
+     * @param at           the instant the rates must be valid at
+     * @return List of applicable TaxInfo for the region
+     */
+    @Override
+    public List<TaxInfo> getTaxesForRegion(String region, String currencyCode, ZonedDateTime at) {
 
         Locale locale = getLocaleFromCurrencyCode(currencyCode).
                 orElseThrow(() -> new InvalidCurrencyCodeException("Invalid currency code: " + currencyCode));
 
-        return taxInfoRepository.findByStateProvinceAndCountryCode(region, locale.getCountry());
+        return currentTimeline().ratesAt(locale.getCountry(), region, at);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${storetech.tax.refresh-interval:PT5M}", initialDelayString = "${storetech.tax.refresh-interval:PT5M}")
+    public void refreshTaxRates() {
+        build();
+    }
+
+    private TaxRateTimeline currentTimeline() {
+        BuiltTimeline current = timeline.get();
+        if (current == null || current.generation() != generation.get()) {
+            return build();
+        }
+        return current.timeline();
+    }
+
+    /**
+     * Tags the timeline with the write generation read before loading, so a write committed during the load leaves it
+     * stale and the next lookup builds again.
+     */
+    private TaxRateTimeline build() {
+        long built = generation.get();
+        TaxRateTimeline rebuilt = TaxRateTimeline.of(taxInfoRepository.findAll());
+        timeline.set(new BuiltTimeline(built, rebuilt));
+        return rebuilt;
+    }
+
+    private record BuiltTimeline(long generation, TaxRateTimeline timeline) {
     }
 }
@@ -0,0 +1,45 @@
+package com.cantire.storetech.evaluation.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * SHA-256 over every Liquibase changelog file, used to tell whether a database snapshot still matches the migrations.
+ */
+public final class ChangelogChecksum {
+
+    public static final String CHANGELOG_PATTERN = "classpath*:db.changelog/**/*.xml";
+
+    private ChangelogChecksum() {
+    }
+
+    public static String compute(ClassLoader classLoader) {
+        try {
+            Resource[] changelogs = new PathMatchingResourcePatternResolver(classLoader).getResources(CHANGELOG_PATTERN);
+            Arrays.sort(changelogs, Comparator.comparing(Resource::getFilename));
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource changelog : changelogs) {
+                digest.update(changelog.getFilename().getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = changelog.getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read Liquibase changelogs", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.cantire.storetech.evaluation.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import liquibase.integration.spring.SpringLiquibase;
+
+/**
+ * Build-time tool that applies the Liquibase changelog to a scratch in-memory H2 database and writes a compressed
+ * SQL snapshot of it, together with the checksum of the changelogs it was built from.
+ * Run by the {@code db-snapshot} Maven profile; the output directory is the only argument.
+ */
+public final class DatabaseSnapshotBuilder {
+
+    private DatabaseSnapshotBuilder() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path outputDirectory = Path.of(args[0]);
+        Files.createDirectories(outputDirectory);
+        Path snapshot = outputDirectory.resolve(DatabaseSnapshotRestorer.SNAPSHOT_FILE).toAbsolutePath();
+
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource("jdbc:h2:mem:snapshot", "sa", "", true);
+        try {
+            SpringLiquibase liquibase = new SpringLiquibase();
+            liquibase.setDataSource(dataSource);
+            liquibase.setChangeLog(DatabaseSnapshotRestorer.CHANGELOG);
+            liquibase.setResourceLoader(new DefaultResourceLoader());
+            liquibase.afterPropertiesSet();
+
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT TO '" + snapshot.toString().replace("'", "''") + "' COMPRESSION GZIP");
+            }
+        } finally {
+            dataSource.destroy();
+        }
+
+        String checksum = ChangelogChecksum.compute(DatabaseSnapshotBuilder.class.getClassLoader());
+        Files.writeString(outputDirectory.resolve(DatabaseSnapshotRestorer.CHECKSUM_FILE), checksum, StandardCharsets.UTF_8);
+    }
+}
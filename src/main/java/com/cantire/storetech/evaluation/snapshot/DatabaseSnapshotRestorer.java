@@ -0,0 +1,137 @@
+package com.cantire.storetech.evaluation.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fast-boot support: before the Liquibase bean runs, restores a prebuilt H2 snapshot into an empty database and
+ * tells Liquibase to skip the changelog replay. Falls back to the normal migrations when fast boot is disabled,
+ * no snapshot is packaged, its changelog checksum differs from the changelogs on the classpath, or the database
+ * is not an empty H2 database. Either way the time spent initializing the database is logged and kept for metrics.
+ */
+@Slf4j
+public class DatabaseSnapshotRestorer implements BeanPostProcessor {
+
+    public static final String CHANGELOG = "classpath:db.changelog/db.changelog-master.xml";
+    public static final String SNAPSHOT_FILE = "snapshot.sql.gz";
+    public static final String CHECKSUM_FILE = "snapshot.sha256";
+
+    public enum InitPath {
+        SNAPSHOT,
+        LIQUIBASE
+    }
+
+    private final boolean enabled;
+    private final String snapshotLocation;
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    private long startNanos;
+
+    @Getter
+    private InitPath initPath;
+
+    @Getter
+    private Duration initDuration;
+
+    /**
+     * @param enabled          whether to try the snapshot at all
+     * @param snapshotLocation directory holding the snapshot and its checksum, as a {@code classpath:} or {@code file:} location
+     */
+    public DatabaseSnapshotRestorer(boolean enabled, String snapshotLocation) {
+        this.enabled = enabled;
+        this.snapshotLocation = snapshotLocation.endsWith("/") ? snapshotLocation : snapshotLocation + "/";
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SpringLiquibase liquibase) {
+            startNanos = System.nanoTime();
+            initPath = InitPath.LIQUIBASE;
+            if (enabled && restore(liquibase.getDataSource())) {
+                liquibase.setShouldRun(false);
+                initPath = InitPath.SNAPSHOT;
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SpringLiquibase) {
+            initDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+            log.info("Database initialized from {} in {} ms", initPath == InitPath.SNAPSHOT ? "snapshot" : "Liquibase changelog",
+                    initDuration.toMillis());
+        }
+        return bean;
+    }
+
+    private boolean restore(DataSource dataSource) {
+        Resource snapshot = resourceLoader.getResource(snapshotLocation + SNAPSHOT_FILE);
+        Resource checksum = resourceLoader.getResource(snapshotLocation + CHECKSUM_FILE);
+        if (!snapshot.exists() || !checksum.exists()) {
+            log.info("No database snapshot at {}, running Liquibase migrations", snapshotLocation);
+            return false;
+        }
+        String expected = ChangelogChecksum.compute(resourceLoader.getClassLoader());
+        String actual = read(checksum);
+        if (!expected.equals(actual)) {
+            log.warn("Database snapshot checksum {} does not match changelog checksum {}, running Liquibase migrations", actual, expected);
+            return false;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isEmptyH2Database(connection)) {
+                log.info("Database is not an empty H2 database, running Liquibase migrations");
+                return false;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("RUNSCRIPT FROM '" + h2Path(snapshotLocation + SNAPSHOT_FILE) + "' COMPRESSION GZIP");
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not restore database snapshot from " + snapshotLocation, e);
+        }
+    }
+
+    private static boolean isEmptyH2Database(Connection connection) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return false;
+        }
+        try (ResultSet tables = connection.getMetaData().getTables(null, null, "DATABASECHANGELOG", null)) {
+            return !tables.next();
+        }
+    }
+
+    /**
+     * H2 reads {@code classpath:} locations itself; {@code file:} locations are passed as plain paths.
+     */
+    private static String h2Path(String location) {
+        String path = location.startsWith("file:") ? location.substring("file:".length()) : location;
+        return path.replace("'", "''");
+    }
+
+    private static String read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + resource, e);
+        }
+    }
+}
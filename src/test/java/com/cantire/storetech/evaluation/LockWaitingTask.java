@@ -0,0 +1,75 @@
+package com.cantire.storetech.evaluation;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a task on its own thread so a test can confirm it is waiting for a database lock held by the test's transaction,
+ * rather than assuming so after a sleep.
+ */
+public final class LockWaitingTask<T> {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Thread thread;
+
+    private LockWaitingTask(Supplier<T> task) {
+        this.thread = new Thread(() -> {
+            started.countDown();
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, "lock-waiting-task");
+    }
+
+    public static <T> LockWaitingTask<T> start(Supplier<T> task) {
+        LockWaitingTask<T> waiting = new LockWaitingTask<>(task);
+        waiting.thread.start();
+        return waiting;
+    }
+
+    /**
+     * Waits until the task has started and is parked inside the H2 driver, i.e. waiting for a lock.
+     *
+     * @throws AssertionError when the task finished, or did not reach a lock wait, within the timeout
+     */
+    public void awaitLockWait() {
+        try {
+            if (!started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AssertionError("Task did not start");
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (!isWaitingInDatabase()) {
+                if (result.isDone()) {
+                    throw new AssertionError("Task finished without waiting for a lock");
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new AssertionError("Task did not wait for a lock");
+                }
+                Thread.sleep(5);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for the task", e);
+        }
+    }
+
+    public T get() throws InterruptedException, ExecutionException, TimeoutException {
+        return result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private boolean isWaitingInDatabase() {
+        Thread.State state = thread.getState();
+        return (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) &&
+                Arrays.stream(thread.getStackTrace()).anyMatch(frame -> frame.getClassName().startsWith("org.h2."));
+    }
+}
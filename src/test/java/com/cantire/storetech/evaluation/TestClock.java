@@ -0,0 +1,53 @@
+package com.cantire.storetech.evaluation;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A clock that follows the system clock until a test moves it forward, e.g. past a price boundary.
+ * Import {@link Config} to make it the application's clock, and {@link #reset} it after each test.
+ */
+public final class TestClock extends Clock {
+
+    private final AtomicReference<Duration> offset = new AtomicReference<>(Duration.ZERO);
+
+    public void advance(Duration duration) {
+        offset.accumulateAndGet(duration, Duration::plus);
+    }
+
+    public void reset() {
+        offset.set(Duration.ZERO);
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.now().plus(offset.get());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneId.systemDefault();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("TestClock uses the system zone");
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        @Primary
+        public TestClock testClock() {
+            return new TestClock();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.cantire.storetech.evaluation.controller;
+
+import com.cantire.storetech.evaluation.TestClock;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import com.cantire.storetech.evaluation.service.CatalogEncoding;
+import com.cantire.storetech.evaluation.service.CatalogPayload;
+import com.cantire.storetech.evaluation.service.CatalogSnapshotService;
+import com.cantire.storetech.evaluation.service.ProductService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * SpringBootTest for serving the catalog from precompressed snapshots.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestClock.Config.class)
+class CatalogSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TestClock clock;
+
+    @AfterEach
+    void tearDown() {
+        clock.reset();
+        if (productRepository.existsById(9003L)) {
+            productRepository.deleteById(9003L);
+            catalogSnapshotService.invalidate();
+        }
+    }
+
+    @Test
+    void testGetProducts_ServesNegotiatedCompression() throws Exception {
+        // When
+        MockHttpServletResponse identity = getProducts(null);
+        MockHttpServletResponse gzip = getProducts("br;q=1.0, gzip;q=0.8");
+
+        // Then
+        assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("Accept, Accept-Encoding", String.join(", ", gzip.getHeaders(HttpHeaders.VARY)));
+        assertEquals(gzip.getContentAsByteArray().length, gzip.getContentLength());
+        assertArrayEquals(identity.getContentAsByteArray(), gunzip(gzip.getContentAsByteArray()));
+        assertNotEquals(identity.getHeader(HttpHeaders.ETAG), gzip.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testGetProducts_RevalidatesByEntityTagUntilCatalogChanges() throws Exception {
+        // Given
+        String etag = getProducts("gzip").getHeader(HttpHeaders.ETAG);
+
+        // When
+        MockHttpServletResponse unchanged = mockMvc.perform(get("/api/products")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse();
+        Product product = productService.getProduct(5L).orElseThrow();
+        product.setQuantity(product.getQuantity() + 1);
+        productService.create(product);
+        MockHttpServletResponse changed = mockMvc.perform(get("/api/products")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse();
+
+        // Then
+        assertEquals(304, unchanged.getStatus());
+        assertEquals(0, unchanged.getContentAsByteArray().length);
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testGetProducts_RebuildsSnapshotOncePriceExpires() throws Exception {
+        // Given - a price that expires in an hour, followed by the next one
+        ZonedDateTime boundary = ZonedDateTime.now(clock).plusHours(1);
+        Product product = new Product();
+        product.setId(9003L);
+        product.setName("Expiring Catalog Product");
+        product.setSku("CATALOG-003");
+        product.setQuantity(1);
+        product.setPriceInfos(new ArrayList<>(List.of(
+                createPrice("10.00", boundary.minusDays(1), boundary),
+                createPrice("12.00", boundary.plusNanos(1_000), boundary.plusDays(30)))));
+        productService.create(product);
+        MockHttpServletResponse before = getProducts(null);
+
+        // When
+        clock.advance(Duration.ofHours(2));
+        MockHttpServletResponse after = getProducts(null);
+
+        // Then
+        assertEquals(List.of(new BigDecimal("10.00")), prices(before, 9003L));
+        assertEquals(List.of(new BigDecimal("12.00")), prices(after, 9003L));
+        assertNotEquals(before.getHeader(HttpHeaders.ETAG), after.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testGetCatalog_EncodesEachVariantOnce() {
+        // When
+        CatalogPayload first = catalogSnapshotService.getCatalog(MediaType.APPLICATION_CBOR, CatalogEncoding.DEFLATE);
+        CatalogPayload second = catalogSnapshotService.getCatalog(MediaType.APPLICATION_CBOR, CatalogEncoding.DEFLATE);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(MediaType.APPLICATION_CBOR, first.contentType());
+    }
+
+    @Test
+    void testGetProducts_RejectsUnsupportedFormat() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/products").accept(MediaType.TEXT_HTML)).andReturn().getResponse();
+
+        assertEquals(406, response.getStatus());
+    }
+
+    private MockHttpServletResponse getProducts(String acceptEncoding) throws Exception {
+        var request = get("/api/products");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private List<BigDecimal> prices(MockHttpServletResponse response, long productId) throws IOException {
+        JsonNode catalog = objectMapper.readTree(response.getContentAsByteArray());
+        JsonNode listed = StreamSupport.stream(catalog.spliterator(), false)
+                .filter(node -> node.get("id").asLong() == productId)
+                .findFirst()
+                .orElseThrow();
+        return StreamSupport.stream(listed.get("prices").spliterator(), false)
+                .map(price -> price.get("price").decimalValue().setScale(2))
+                .toList();
+    }
+
+    private static PriceInfo createPrice(String price, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode("CAD");
+        priceInfo.setPrice(new BigDecimal(price));
+        priceInfo.setEffectiveDate(effectiveDate);
+        priceInfo.setExpiryDate(expiryDate);
+        return priceInfo;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cantire.storetech.evaluation.controller;
+
+import com.cantire.storetech.evaluation.dto.CartSaveRequest;
+import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * SpringBootTest for serving and accepting CBOR and Smile alongside JSON.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testGetProducts_BinaryFormatsCarrySameCatalogAsJson() throws Exception {
+        // When
+        MockHttpServletResponse json = mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+        MockHttpServletResponse cbor = mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_CBOR)).andReturn().getResponse();
+        MockHttpServletResponse smile = mockMvc.perform(get("/api/products").accept(SMILE)).andReturn().getResponse();
+
+        // Then
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.getContentType());
+        assertEquals(SMILE.toString(), smile.getContentType());
+        List<ProductResponse> expected = List.of(objectMapper.readValue(json.getContentAsByteArray(), ProductResponse[].class));
+        assertEquals(expected, List.of(new CBORMapper().readValue(cbor.getContentAsByteArray(), ProductResponse[].class)));
+        assertEquals(expected, List.of(new SmileMapper().readValue(smile.getContentAsByteArray(), ProductResponse[].class)));
+        assertTrue(cbor.getContentAsByteArray().length < json.getContentAsByteArray().length);
+        assertTrue(smile.getContentAsByteArray().length < json.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testGetProducts_DefaultsToJson() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/products")).andReturn().getResponse();
+
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType())));
+    }
+
+    @Test
+    void testAddProductToCart_AcceptsCborAndAnswersInSmile() throws Exception {
+        // Given
+        CartSaveRequest request = new CartSaveRequest();
+        request.setProductId(1L);
+        request.setQuantity(2);
+        request.setRegion("ON");
+        request.setCurrencyCode("CAD");
+
+        // When
+        MockHttpServletResponse response = mockMvc.perform(post("/api/carts")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(new CBORMapper().writeValueAsBytes(request))
+                        .accept(SMILE))
+                .andReturn().getResponse();
+
+        // Then
+        assertEquals(200, response.getStatus());
+        CartSaveResponse cart = new SmileMapper().readValue(response.getContentAsByteArray(), CartSaveResponse.class);
+        assertTrue(cart.getSuccess());
+        assertEquals(2, cart.getTotalItems());
+        assertEquals(1L, cart.getItems().get(0).getProductId());
+    }
+}
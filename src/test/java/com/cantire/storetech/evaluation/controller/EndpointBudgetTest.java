@@ -0,0 +1,228 @@
+package com.cantire.storetech.evaluation.controller;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+
+import com.cantire.storetech.evaluation.controller.RequestCostMeter.RequestCost;
+import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.service.CatalogSnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * SpringBootTest guarding the SQL statement count and allocation of each controller endpoint.
+ * Budgets are fixed numbers: an N+1 select or an accidental copy of the catalog fails the build instead of
+ * showing up as latency in production. Each request is performed once before it is measured, so class loading
+ * and first-call initialization are not counted. Allocation budgets leave several times the measured headroom,
+ * so only a change in kind fails them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointBudgetTest {
+
+    private static final long FIRST_EXTRA_ID = 9300L;
+    private static final int EXTRA_PRODUCTS = 20;
+
+    // The next price boundary, which bounds how long the snapshot is valid, then the catalog
+    private static final long PRODUCTS_WARM_STATEMENTS = 2;
+    private static final long PRODUCTS_COLD_STATEMENTS = 4;
+    private static final long PRODUCTS_ALLOCATED_BYTES = 1024 * 1024;
+    private static final long CATALOG_SNAPSHOT_ALLOCATED_BYTES = 512 * 1024;
+    // Cart insert, its three collections, the outbox event, and a sequence call each when the pooled cart or outbox ids run out
+    private static final long NEW_CART_STATEMENTS = 7;
+    // Cart and its three collections loaded, cart updated, one row added to each product collection, the outbox event
+    // and a sequence call when the pooled outbox ids run out
+    private static final long ADD_TO_CART_STATEMENTS = 9;
+    private static final long GET_CART_STATEMENTS = 4;
+    // Cart locked and its three collections loaded, the order inserted with one batch each for its lines and taxes,
+    // the cart updated, the outbox event, and a sequence call each when the pooled order or outbox ids run out
+    private static final long CHECKOUT_STATEMENTS = 11;
+    // Cart, then the order with its lines and taxes in one join
+    private static final long GET_CHECKED_OUT_CART_STATEMENTS = 2;
+    private static final long SEARCH_ALLOCATED_BYTES = 512 * 1024;
+    private static final long CART_ALLOCATED_BYTES = 1024 * 1024;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+    private RequestCostMeter meter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meter = new RequestCostMeter(mockMvc, entityManagerFactory);
+        // Cart budgets exclude product lookups, which the second-level cache serves once the catalog is listed
+        catalogSnapshotService.invalidate();
+        meter.measure(get("/api/products"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        long lastExtraId = FIRST_EXTRA_ID + EXTRA_PRODUCTS;
+        jdbcTemplate.update("DELETE FROM price_info WHERE product_id >= ? AND product_id < ?", FIRST_EXTRA_ID, lastExtraId);
+        jdbcTemplate.update("DELETE FROM product WHERE id >= ? AND id < ?", FIRST_EXTRA_ID, lastExtraId);
+        jdbcTemplate.update("DELETE FROM product_category WHERE id >= ? AND id < ?", FIRST_EXTRA_ID, lastExtraId);
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        catalogSnapshotService.invalidate();
+    }
+
+    @Test
+    void testGetProducts_ServedFromSnapshot() throws Exception {
+        RequestCost cost = warmAndMeasure(get("/api/products").header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        assertStatements(0, cost, "GET /api/products (snapshot)");
+        assertAllocated(CATALOG_SNAPSHOT_ALLOCATED_BYTES, cost, "GET /api/products (snapshot)");
+    }
+
+    @Test
+    void testGetProducts_WarmCacheWithinBudget() throws Exception {
+        // When - the snapshot is rebuilt from the second-level cache
+        meter.measure(get("/api/products"));
+        catalogSnapshotService.invalidate();
+        RequestCost cost = meter.measure(get("/api/products"));
+
+        // Then
+        assertStatements(PRODUCTS_WARM_STATEMENTS, cost, "GET /api/products (warm cache)");
+        assertAllocated(PRODUCTS_ALLOCATED_BYTES, cost, "GET /api/products (warm cache)");
+    }
+
+    @Test
+    void testGetProducts_ColdCacheStatementsDoNotGrowWithCatalog() throws Exception {
+        // Given
+        catalogSnapshotService.invalidate();
+        RequestCost sampleCatalog = meter.measureCold(get("/api/products"));
+
+        // When - every extra product brings its own category and price
+        insertExtraProducts();
+        catalogSnapshotService.invalidate();
+        RequestCost largerCatalog = meter.measureCold(get("/api/products"));
+
+        // Then
+        assertStatements(PRODUCTS_COLD_STATEMENTS, sampleCatalog, "GET /api/products (cold cache)");
+        assertEquals(sampleCatalog.statements(), largerCatalog.statements(),
+                "GET /api/products ran more statements after " + EXTRA_PRODUCTS + " products were added; " +
+                        "an association is loaded per product");
+    }
+
+    @Test
+    void testSearchProducts_ServedFromMemory() throws Exception {
+        RequestCost cost = warmAndMeasure(get("/api/products/search").param("q", "drill"));
+
+        assertStatements(0, cost, "GET /api/products/search");
+        assertAllocated(SEARCH_ALLOCATED_BYTES, cost, "GET /api/products/search");
+    }
+
+    @Test
+    void testGetCategoryProducts_ServedFromMemory() throws Exception {
+        RequestCost cost = warmAndMeasure(get("/api/categories/1/products"));
+
+        assertStatements(0, cost, "GET /api/categories/{categoryId}/products");
+        assertAllocated(SEARCH_ALLOCATED_BYTES, cost, "GET /api/categories/{categoryId}/products");
+    }
+
+    @Test
+    void testAddProductToCart_WithinBudget() throws Exception {
+        // When
+        RequestCost newCart = warmAndMeasure(addToCart(null, 1L));
+        Long cartId = createCart();
+        meter.measure(addToCart(cartId, 2L));
+        RequestCost existingCart = meter.measure(addToCart(cartId, 3L));
+
+        // Then
+        assertStatements(NEW_CART_STATEMENTS, newCart, "POST /api/carts (new cart)");
+        assertAllocated(CART_ALLOCATED_BYTES, newCart, "POST /api/carts (new cart)");
+        assertStatements(ADD_TO_CART_STATEMENTS, existingCart, "POST /api/carts (existing cart)");
+        assertAllocated(CART_ALLOCATED_BYTES, existingCart, "POST /api/carts (existing cart)");
+    }
+
+    @Test
+    void testGetCart_WithinBudget() throws Exception {
+        // Given
+        Long cartId = createCart();
+
+        // When
+        RequestCost cost = warmAndMeasure(get("/api/carts/{cartId}", cartId));
+
+        // Then
+        assertStatements(GET_CART_STATEMENTS, cost, "GET /api/carts/{cartId}");
+        assertAllocated(CART_ALLOCATED_BYTES, cost, "GET /api/carts/{cartId}");
+    }
+
+    @Test
+    void testCheckout_WithinBudget() throws Exception {
+        // Given
+        meter.measure(post("/api/carts/{cartId}/checkout", createCart()));
+        Long cartId = createCart();
+
+        // When
+        RequestCost checkout = meter.measure(post("/api/carts/{cartId}/checkout", cartId));
+        RequestCost getCheckedOut = warmAndMeasure(get("/api/carts/{cartId}", cartId));
+
+        // Then
+        assertStatements(CHECKOUT_STATEMENTS, checkout, "POST /api/carts/{cartId}/checkout");
+        assertAllocated(CART_ALLOCATED_BYTES, checkout, "POST /api/carts/{cartId}/checkout");
+        assertStatements(GET_CHECKED_OUT_CART_STATEMENTS, getCheckedOut, "GET /api/carts/{cartId} (checked out)");
+        assertAllocated(CART_ALLOCATED_BYTES, getCheckedOut, "GET /api/carts/{cartId} (checked out)");
+    }
+
+    private RequestCost warmAndMeasure(RequestBuilder request) throws Exception {
+        meter.measure(request);
+        return meter.measure(request);
+    }
+
+    private RequestBuilder addToCart(Long cartId, Long productId) {
+        String body = "{\"cartId\":" + cartId + ",\"productId\":" + productId +
+                ",\"quantity\":1,\"region\":\"ON\",\"currencyCode\":\"CAD\"}";
+        return post("/api/carts").contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private Long createCart() throws Exception {
+        String response = mockMvc.perform(addToCart(null, 1L)).andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, CartSaveResponse.class).getCartId();
+    }
+
+    private void insertExtraProducts() {
+        Timestamp effective = Timestamp.from(ZonedDateTime.now().minusDays(1).toInstant());
+        Timestamp expiry = Timestamp.from(ZonedDateTime.now().plusDays(30).toInstant());
+        for (long id = FIRST_EXTRA_ID; id < FIRST_EXTRA_ID + EXTRA_PRODUCTS; id++) {
+            jdbcTemplate.update("INSERT INTO product_category (id, name) VALUES (?, ?)", id, "Budget Category " + id);
+            jdbcTemplate.update("INSERT INTO product (id, name, sku, quantity, category_id) VALUES (?, ?, ?, 1, ?)",
+                    id, "Budget Product " + id, "BUDGET-" + id, id);
+            jdbcTemplate.update("INSERT INTO price_info (id, product_id, currency_code, price, effective_date, expiry_date) " +
+                    "VALUES (?, ?, 'CAD', 9.99, ?, ?)", id * 10, id, effective, expiry);
+        }
+    }
+
+    private static void assertStatements(long budget, RequestCost cost, String endpoint) {
+        assertTrue(cost.statements() <= budget,
+                endpoint + " prepared " + cost.statements() + " statements, budget is " + budget);
+    }
+
+    private static void assertAllocated(long budget, RequestCost cost, String endpoint) {
+        assertTrue(cost.allocatedBytes() <= budget,
+                endpoint + " allocated " + cost.allocatedBytes() + " bytes, budget is " + budget);
+    }
+}
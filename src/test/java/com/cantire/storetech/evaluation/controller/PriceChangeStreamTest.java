@@ -0,0 +1,168 @@
+package com.cantire.storetech.evaluation.controller;
+
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.service.CatalogEncoding;
+import com.cantire.storetech.evaluation.service.CatalogSnapshotService;
+import com.cantire.storetech.evaluation.service.PriceChangeStreamService;
+import com.cantire.storetech.evaluation.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * SpringBootTest for the server-sent stream of price changes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PriceChangeStreamTest {
+
+    private static final List<Long> PRODUCT_IDS = List.of(9600L, 9601L, 9602L);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PriceChangeStreamService priceChangeStreamService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MvcResult stream;
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.getRequest().getAsyncContext().complete();
+        }
+        for (Long productId : PRODUCT_IDS) {
+            jdbcTemplate.update("DELETE FROM price_info WHERE product_id = ?", productId);
+            jdbcTemplate.update("DELETE FROM product WHERE id = ?", productId);
+        }
+        priceChangeStreamService.refreshBoundaries();
+        catalogSnapshotService.invalidate();
+    }
+
+    @Test
+    void testStream_SendsCurrentPricesWhenProductWritten() throws Exception {
+        // Given
+        stream = subscribe();
+
+        // When
+        productService.create(createProduct(9600L, createPrice("249.99", ZonedDateTime.now().minusDays(1))));
+
+        // Then
+        String events = awaitEvent(stream.getResponse(), "\"productId\":9600");
+        assertTrue(events.contains("event:price-change"));
+        assertTrue(events.contains("\"reason\":\"PRODUCT_WRITTEN\""));
+        assertTrue(events.contains("\"prices\":[{\"currencyCode\":\"CAD\",\"price\":249.99"));
+    }
+
+    @Test
+    void testStream_SendsPriceWhenItTakesEffect() throws Exception {
+        // Given
+        stream = subscribe();
+
+        // When - a price is staged to take effect a moment from now
+        productService.create(createProduct(9601L, createPrice("19.99", ZonedDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(1500)))));
+
+        // Then - the write reports no current price, then the boundary reports the staged one
+        String written = awaitEvent(stream.getResponse(), "\"productId\":9601");
+        assertTrue(written.contains("\"reason\":\"PRODUCT_WRITTEN\",\"at\":"));
+        assertTrue(written.contains("\"prices\":[]"));
+        String boundary = awaitEvent(stream.getResponse(), "\"reason\":\"PRICE_BOUNDARY\"");
+        assertTrue(boundary.contains("{\"productId\":9601,\"reason\":\"PRICE_BOUNDARY\""));
+        assertTrue(boundary.contains("\"price\":19.99"));
+    }
+
+    @Test
+    void testStream_BoundaryIsInTheCatalogOnceAnnounced() throws Exception {
+        // Given - the catalog is read before a staged price takes effect
+        stream = subscribe();
+        productService.create(createProduct(9602L, createPrice("29.99", ZonedDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(1500)))));
+        awaitEvent(stream.getResponse(), "\"reason\":\"PRODUCT_WRITTEN\"");
+        assertFalse(catalog().contains("\"price\":29.99"));
+
+        // When
+        awaitEvent(stream.getResponse(), "\"reason\":\"PRICE_BOUNDARY\"");
+
+        // Then
+        assertTrue(catalog().contains("\"price\":29.99"));
+    }
+
+    @Test
+    void testStream_ClosedStreamUnsubscribes() throws Exception {
+        // Given
+        int before = priceChangeStreamService.getSubscriberCount();
+        MvcResult closed = subscribe();
+        assertEquals(before + 1, priceChangeStreamService.getSubscriberCount());
+
+        // When
+        closed.getRequest().getAsyncContext().complete();
+
+        // Then
+        assertEquals(before, priceChangeStreamService.getSubscriberCount());
+    }
+
+    private MvcResult subscribe() throws Exception {
+        return mockMvc.perform(get("/api/products/price-changes").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String catalog() {
+        return new String(catalogSnapshotService.getCatalog(MediaType.APPLICATION_JSON, CatalogEncoding.IDENTITY).body(), StandardCharsets.UTF_8);
+    }
+
+    private static String awaitEvent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), () -> "No event with " + expected + " in " + response);
+        return content;
+    }
+
+    private Product createProduct(Long id, PriceInfo price) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Streamed Product " + id);
+        product.setSku("STREAM-" + id);
+        product.setQuantity(1);
+        product.setPriceInfos(new ArrayList<>(List.of(price)));
+        return product;
+    }
+
+    private PriceInfo createPrice(String price, ZonedDateTime effectiveDate) {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode("CAD");
+        priceInfo.setPrice(new BigDecimal(price));
+        priceInfo.setEffectiveDate(effectiveDate);
+        priceInfo.setExpiryDate(ZonedDateTime.now().plusDays(30));
+        return priceInfo;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cantire.storetech.evaluation.controller;
+
+import java.lang.management.ManagementFactory;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures what one MockMvc request costs: JDBC statements prepared by Hibernate and bytes allocated by the test thread.
+ * MockMvc dispatches on the calling thread, so the allocation counter covers the whole request, including serialization.
+ * Statements are read from the global Hibernate statistics, so measurements must not run concurrently.
+ */
+class RequestCostMeter {
+
+    private final MockMvc mockMvc;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Statistics statistics;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    RequestCostMeter(MockMvc mockMvc, EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.entityManagerFactory = entityManagerFactory;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Performs the request and returns its cost. The response must be 2xx.
+     */
+    RequestCost measure(RequestBuilder request) throws Exception {
+        statistics.clear();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        ResultActions result = mockMvc.perform(request);
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long statements = statistics.getPrepareStatementCount();
+        result.andExpect(status().is2xxSuccessful());
+        return new RequestCost(statements, allocated);
+    }
+
+    /**
+     * Evicts every second-level cache region, collections included, and performs the request,
+     * so the cost includes every entity and collection load.
+     */
+    RequestCost measureCold(RequestBuilder request) throws Exception {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        return measure(request);
+    }
+
+    record RequestCost(long statements, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.cantire.storetech.evaluation.datagen;
+
+import java.time.Duration;
+
+/**
+ * What a {@link SyntheticDataGenerator} run inserted. Generated ids are contiguous from
+ * {@link SyntheticDataGenerator#FIRST_ID} in every table.
+ */
+public record SyntheticData(int products, int categories, long prices, long taxes, int carts, Duration elapsed) {
+
+    public long productId(int index) {
+        return SyntheticDataGenerator.FIRST_ID + index;
+    }
+
+    public long cartId(int index) {
+        return SyntheticDataGenerator.FIRST_ID + index;
+    }
+
+    public String summary() {
+        return String.format("%,d products in %,d categories, %,d prices, %,d tax rows, %,d open carts in %d ms",
+                products, categories, prices, taxes, carts, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,355 @@
+package com.cantire.storetech.evaluation.datagen;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.cantire.storetech.evaluation.snapshot.DatabaseSnapshotRestorer;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk-loads a deterministic synthetic data set through batched JDBC: categories, products, multi-currency price
+ * histories with overlapping windows, yearly tax history behind the current tax rows, and open carts with their
+ * tax snapshots. Rows are inserted parents first in chunks, one commit per chunk.
+ * <p>
+ * Generated ids start at {@link #FIRST_ID}, above the sample data and the ids tests use, and the pooled id sequences
+ * are moved past them so the application keeps inserting after a load. Load into a database without generated rows.
+ * <p>
+ * {@link #main} migrates the database at the given JDBC URL with Liquibase and loads it, sized by
+ * {@code datagen.*} system properties (see {@link SyntheticDataShape#fromSystemProperties()}); the {@code datagen}
+ * Maven profile runs it against a file database the application can then be started on.
+ */
+@Slf4j
+public final class SyntheticDataGenerator {
+
+    public static final long FIRST_ID = 1_000_000L;
+    static final OffsetDateTime FAR_FUTURE = OffsetDateTime.parse("2099-12-31T23:59:59-05:00");
+
+    // A 512 MB page cache keeps the price indexes in memory; with the 16 MB default a million-product load takes twice as long
+    private static final String DEFAULT_URL = "jdbc:h2:file:./target/datagen/storetech;CACHE_SIZE=524288";
+    private static final int CHUNK_SIZE = 2_000;
+    private static final int ID_ALLOCATION = 50;
+    private static final int STAGED_PRICE_ONE_IN = 10;
+
+    private final DataSource dataSource;
+
+    public SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : DEFAULT_URL;
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+        try {
+            SpringLiquibase liquibase = new SpringLiquibase();
+            liquibase.setDataSource(dataSource);
+            liquibase.setChangeLog(DatabaseSnapshotRestorer.CHANGELOG);
+            liquibase.setResourceLoader(new DefaultResourceLoader());
+            liquibase.afterPropertiesSet();
+
+            SyntheticData data = new SyntheticDataGenerator(dataSource).generate(SyntheticDataShape.fromSystemProperties());
+            log.info("Loaded {} into {}", data.summary(), url);
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    public SyntheticData generate(SyntheticDataShape shape) throws SQLException {
+        long started = System.nanoTime();
+        SplittableRandom root = new SplittableRandom(shape.seed());
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            setReferentialIntegrity(connection, false);
+            try {
+                insertCategories(connection, shape);
+                long[] listedCents = new long[shape.products()];
+                long prices = insertProducts(connection, shape, root.split(), listedCents);
+                Map<String, List<TaxRow>> currentTaxes = currentTaxes(connection, shape);
+                long taxes = insertTaxHistory(connection, shape, root.split(), currentTaxes);
+                insertCarts(connection, shape, root.split(), listedCents, currentTaxes);
+
+                restartSequence(connection, "price_info_seq", "price_info");
+                restartSequence(connection, "tax_info_seq", "tax_info");
+                restartSequence(connection, "cart_seq", "cart");
+                connection.commit();
+                return new SyntheticData(shape.products(), shape.categories(), prices, taxes, shape.openCarts(),
+                        Duration.ofNanos(System.nanoTime() - started));
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                setReferentialIntegrity(connection, true);
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Foreign keys are not checked while loading: every generated row references a row inserted before it, and
+     * skipping the parent lookups saves a B-tree search per inserted row. The setting is database-wide in H2,
+     * so load before the application starts taking traffic.
+     */
+    private static void setReferentialIntegrity(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("set referential_integrity " + enabled);
+        }
+    }
+
+    private void insertCategories(Connection connection, SyntheticDataShape shape) throws SQLException {
+        try (Batch categories = new Batch(connection, "insert into product_category (id, name) values (?, ?)")) {
+            for (int i = 0; i < shape.categories(); i++) {
+                categories.add(FIRST_ID + i, "Category " + i);
+                if (categories.size() == CHUNK_SIZE) {
+                    categories.flush();
+                    connection.commit();
+                }
+            }
+            categories.flush();
+            connection.commit();
+        }
+    }
+
+    /**
+     * Every product gets a current price in the first currency and, with {@code extraCurrencyRatio}, in each other one.
+     * Each current price has {@code priceHistory} expired windows behind it, every window overlapping the next by up
+     * to a week, and one in ten is followed by a staged future price. Current prices start at least eight days before
+     * {@code asOf}, so exactly one price per currency is current at it.
+     *
+     * @param listedCents receives each product's current price in the first currency, in cents
+     * @return price rows inserted
+     */
+    private long insertProducts(Connection connection, SyntheticDataShape shape, SplittableRandom random,
+                                long[] listedCents) throws SQLException {
+        OffsetDateTime asOf = shape.asOf().atOffset(ZoneOffset.UTC);
+        long priceId = FIRST_ID;
+        try (Batch products = new Batch(connection, "insert into product (id, name, sku, quantity, category_id) values (?, ?, ?, ?, ?)");
+             Batch prices = new Batch(connection, "insert into price_info (id, product_id, currency_code, price, effective_date, expiry_date) " +
+                     "values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < shape.products(); i++) {
+                long productId = FIRST_ID + i;
+                products.add(productId, "Synthetic Product " + i, String.format("SYN-%08d", i), random.nextInt(1_000),
+                        FIRST_ID + random.nextInt(shape.categories()));
+
+                listedCents[i] = 100 + random.nextLong(99_900);
+                for (int c = 0; c < shape.currencies().size(); c++) {
+                    if (c > 0 && random.nextDouble() >= shape.extraCurrencyRatio()) {
+                        continue;
+                    }
+                    String currency = shape.currencies().get(c);
+                    long current = c == 0 ? listedCents[i] : Math.round(listedCents[i] * (0.6 + random.nextDouble() * 0.3));
+                    OffsetDateTime effective = asOf.minusDays(8 + random.nextInt(83));
+                    prices.add(priceId++, productId, currency, money(current), effective, FAR_FUTURE);
+
+                    OffsetDateTime nextStart = effective;
+                    for (int h = 0; h < shape.priceHistory(); h++) {
+                        OffsetDateTime expiry = nextStart.plusDays(random.nextInt(8));
+                        OffsetDateTime start = expiry.minusDays(30 + random.nextInt(151));
+                        prices.add(priceId++, productId, currency, money(Math.round(current * (0.8 + random.nextDouble() * 0.4))),
+                                start, expiry);
+                        nextStart = start;
+                    }
+                    if (random.nextInt(STAGED_PRICE_ONE_IN) == 0) {
+                        prices.add(priceId++, productId, currency, money(Math.round(current * (0.9 + random.nextDouble() * 0.2))),
+                                asOf.plusDays(1 + random.nextInt(60)), FAR_FUTURE);
+                    }
+                }
+
+                if (products.size() == CHUNK_SIZE) {
+                    products.flush();
+                    prices.flush();
+                    connection.commit();
+                }
+            }
+            products.flush();
+            prices.flush();
+            connection.commit();
+        }
+        return priceId - FIRST_ID;
+    }
+
+    /**
+     * Tax rows valid at {@code asOf}, by province in a stable order.
+     */
+    private Map<String, List<TaxRow>> currentTaxes(Connection connection, SyntheticDataShape shape) throws SQLException {
+        OffsetDateTime asOf = shape.asOf().atOffset(ZoneOffset.UTC);
+        Map<String, List<TaxRow>> taxes = new TreeMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select country_code, state_province, percentage, tax_type, name, effective_date from tax_info " +
+                        "where effective_date <= ? and expiry_date >= ? order by id")) {
+            statement.setObject(1, asOf);
+            statement.setObject(2, asOf);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    TaxRow row = new TaxRow(rows.getString(1), rows.getString(2), rows.getDouble(3), rows.getString(4),
+                            rows.getString(5), rows.getObject(6, OffsetDateTime.class));
+                    taxes.computeIfAbsent(row.stateProvince(), province -> new ArrayList<>()).add(row);
+                }
+            }
+        }
+        return taxes;
+    }
+
+    /**
+     * Yearly windows ending the second before each current tax row starts, each rate moved by up to a point.
+     */
+    private long insertTaxHistory(Connection connection, SyntheticDataShape shape, SplittableRandom random,
+                                  Map<String, List<TaxRow>> currentTaxes) throws SQLException {
+        long taxId = FIRST_ID;
+        try (Batch taxes = new Batch(connection, "insert into tax_info (id, country_code, state_province, percentage, tax_type, name, " +
+                "effective_date, expiry_date) values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (List<TaxRow> provinceTaxes : currentTaxes.values()) {
+                for (TaxRow tax : provinceTaxes) {
+                    for (int year = 1; year <= shape.taxHistoryYears(); year++) {
+                        double percentage = tax.percentage() == 0 ? 0 : Math.max(0, tax.percentage() + (random.nextInt(5) - 2) * 0.5);
+                        taxes.add(taxId++, tax.countryCode(), tax.stateProvince(), percentage, tax.taxType(), tax.name(),
+                                tax.effectiveDate().minusYears(year), tax.effectiveDate().minusYears(year - 1).minusSeconds(1));
+                    }
+                }
+            }
+            taxes.flush();
+            connection.commit();
+        }
+        return taxId - FIRST_ID;
+    }
+
+    /**
+     * Carts in the first currency with up to {@code maxCartLines} distinct products, the subtotal of their current
+     * prices and the tax snapshot of a random province.
+     */
+    private void insertCarts(Connection connection, SyntheticDataShape shape, SplittableRandom random, long[] listedCents,
+                             Map<String, List<TaxRow>> currentTaxes) throws SQLException {
+        if (shape.openCarts() == 0) {
+            return;
+        }
+        List<String> provinces = List.copyOf(currentTaxes.keySet());
+        int maxLines = Math.min(shape.maxCartLines(), shape.products());
+        try (Batch carts = new Batch(connection, "insert into cart (id, region, currency_code, subtotal) values (?, ?, ?, ?)");
+             Batch cartProducts = new Batch(connection, "insert into cart_product (cart_id, product_id) values (?, ?)");
+             Batch quantities = new Batch(connection, "insert into cart_product_quantities (cart_id, product_id, quantity) values (?, ?, ?)");
+             Batch cartTaxes = new Batch(connection, "insert into cart_applicable_taxes (cart_id, locale, state_province, percentage, tax_type, name) " +
+                     "values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < shape.openCarts(); i++) {
+                long cartId = FIRST_ID + i;
+                String region = provinces.get(random.nextInt(provinces.size()));
+
+                int[] lines = distinctIndexes(random, 1 + random.nextInt(maxLines), shape.products());
+                long subtotalCents = 0;
+                for (int index : lines) {
+                    int quantity = 1 + random.nextInt(5);
+                    subtotalCents += quantity * listedCents[index];
+                    cartProducts.add(cartId, FIRST_ID + index);
+                    quantities.add(cartId, FIRST_ID + index, quantity);
+                }
+                carts.add(cartId, region, shape.currencies().get(0), money(subtotalCents));
+                for (TaxRow tax : currentTaxes.get(region)) {
+                    cartTaxes.add(cartId, tax.countryCode(), tax.stateProvince(), tax.percentage(), tax.taxType(), tax.name());
+                }
+
+                if (carts.size() == CHUNK_SIZE) {
+                    flushCarts(connection, carts, cartProducts, quantities, cartTaxes);
+                }
+            }
+            flushCarts(connection, carts, cartProducts, quantities, cartTaxes);
+        }
+    }
+
+    private static void flushCarts(Connection connection, Batch carts, Batch... children) throws SQLException {
+        carts.flush();
+        for (Batch child : children) {
+            child.flush();
+        }
+        connection.commit();
+    }
+
+    private static int[] distinctIndexes(SplittableRandom random, int count, int bound) {
+        int[] indexes = new int[count];
+        int filled = 0;
+        while (filled < count) {
+            int candidate = random.nextInt(bound);
+            boolean seen = false;
+            for (int j = 0; j < filled && !seen; j++) {
+                seen = indexes[j] == candidate;
+            }
+            if (!seen) {
+                indexes[filled++] = candidate;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Moves a pooled sequence far enough past the table's highest id that the next block Hibernate allocates from it
+     * starts above every generated row.
+     */
+    private static void restartSequence(Connection connection, String sequence, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet maxId = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            maxId.next();
+            statement.execute("alter sequence " + sequence + " restart with " + (maxId.getLong(1) + ID_ALLOCATION + 1));
+        }
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private record TaxRow(String countryCode, String stateProvince, double percentage, String taxType, String name,
+                          OffsetDateTime effectiveDate) {
+    }
+
+    /**
+     * A prepared statement whose rows are sent in one batch when flushed.
+     */
+    private static final class Batch implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private int size;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void flush() throws SQLException {
+            if (size > 0) {
+                statement.executeBatch();
+                size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
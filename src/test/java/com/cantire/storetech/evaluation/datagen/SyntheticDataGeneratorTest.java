@@ -0,0 +1,142 @@
+package com.cantire.storetech.evaluation.datagen;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import com.cantire.storetech.evaluation.snapshot.DatabaseSnapshotRestorer;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for SyntheticDataGenerator against scratch in-memory H2 databases migrated by Liquibase.
+ */
+class SyntheticDataGeneratorTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-06-15T00:00:00Z");
+    private static final SyntheticDataShape SHAPE =
+            new SyntheticDataShape(7L, AS_OF, 300, 4, List.of("CAD", "USD"), 0.5, 3, 2, 40, 4);
+    private static final List<String> TABLES = List.of("product_category", "product", "price_info", "tax_info", "cart",
+            "cart_product", "cart_product_quantities", "cart_applicable_taxes");
+
+    private SingleConnectionDataSource first;
+    private SingleConnectionDataSource second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        first = migratedDatabase("datagen_first");
+        second = migratedDatabase("datagen_second");
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.destroy();
+        second.destroy();
+    }
+
+    @Test
+    void testGenerate_SameShapeProducesSameRows() throws Exception {
+        // When
+        SyntheticData data = new SyntheticDataGenerator(first).generate(SHAPE);
+        new SyntheticDataGenerator(second).generate(SHAPE);
+
+        // Then
+        assertEquals(300, data.products());
+        assertEquals(40, data.carts());
+        for (String table : TABLES) {
+            assertEquals(rows(first, table), rows(second, table), table + " differs between runs with the same seed");
+        }
+    }
+
+    @Test
+    void testGenerate_DifferentSeedProducesDifferentRows() throws Exception {
+        // When
+        new SyntheticDataGenerator(first).generate(SHAPE);
+        new SyntheticDataGenerator(second).generate(new SyntheticDataShape(8L, AS_OF, 300, 4, List.of("CAD", "USD"), 0.5, 3, 2, 40, 4));
+
+        // Then
+        assertNotEquals(rows(first, "price_info"), rows(second, "price_info"));
+    }
+
+    @Test
+    void testGenerate_OneCurrentPricePerCurrencyWithOverlappingHistory() throws Exception {
+        // When
+        SyntheticData data = new SyntheticDataGenerator(first).generate(SHAPE);
+
+        // Then
+        JdbcTemplate jdbc = new JdbcTemplate(first);
+        OffsetDateTime asOf = AS_OF.atOffset(ZoneOffset.UTC);
+        Integer productsWithoutCad = jdbc.queryForObject("select count(*) from product p where p.id >= ? and not exists " +
+                "(select 1 from price_info pi where pi.product_id = p.id and pi.currency_code = 'CAD')", Integer.class, SyntheticDataGenerator.FIRST_ID);
+        Integer ambiguousPrices = jdbc.queryForObject("select count(*) from (select product_id, currency_code from price_info " +
+                "where effective_date <= ? and expiry_date >= ? group by product_id, currency_code having count(*) > 1)", Integer.class, asOf, asOf);
+        Integer overlappingWindows = jdbc.queryForObject("select count(*) from price_info a join price_info b " +
+                "on a.product_id = b.product_id and a.currency_code = b.currency_code and a.id < b.id " +
+                "and a.effective_date < b.expiry_date and b.effective_date < a.expiry_date", Integer.class);
+        Integer usdPrices = jdbc.queryForObject("select count(distinct product_id) from price_info where currency_code = 'USD'", Integer.class);
+
+        assertEquals(0, productsWithoutCad);
+        assertEquals(0, ambiguousPrices);
+        assertTrue(overlappingWindows > 0, "Price history should contain overlapping windows");
+        assertTrue(usdPrices > 0 && usdPrices < data.products(), "Only some products should be priced in USD");
+    }
+
+    @Test
+    void testGenerate_CartSubtotalsMatchCurrentPrices() throws Exception {
+        // When
+        new SyntheticDataGenerator(first).generate(SHAPE);
+
+        // Then
+        JdbcTemplate jdbc = new JdbcTemplate(first);
+        OffsetDateTime asOf = AS_OF.atOffset(ZoneOffset.UTC);
+        Integer mispricedCarts = jdbc.queryForObject("select count(*) from cart c where c.id >= ? and c.subtotal <> " +
+                "(select sum(q.quantity * pi.price) from cart_product_quantities q join price_info pi on pi.product_id = q.product_id " +
+                "and pi.currency_code = c.currency_code and pi.effective_date <= ? and pi.expiry_date >= ? where q.cart_id = c.id)",
+                Integer.class, SyntheticDataGenerator.FIRST_ID, asOf, asOf);
+        Integer cartsWithoutTaxes = jdbc.queryForObject("select count(*) from cart c where c.id >= ? and not exists " +
+                "(select 1 from cart_applicable_taxes t where t.cart_id = c.id and t.state_province = c.region)",
+                Integer.class, SyntheticDataGenerator.FIRST_ID);
+
+        assertEquals(0, mispricedCarts);
+        assertEquals(0, cartsWithoutTaxes);
+    }
+
+    @Test
+    void testGenerate_SequencesContinuePastGeneratedIds() throws Exception {
+        // When
+        new SyntheticDataGenerator(first).generate(SHAPE);
+
+        // Then - Hibernate's pooled optimizer hands out the 50 ids ending at the value it reads
+        JdbcTemplate jdbc = new JdbcTemplate(first);
+        for (String table : List.of("price_info", "tax_info", "cart")) {
+            Long maxId = jdbc.queryForObject("select max(id) from " + table, Long.class);
+            Long next = jdbc.queryForObject("select next value for " + table + "_seq", Long.class);
+            assertTrue(next - 49 > maxId, table + "_seq would reuse generated ids");
+        }
+    }
+
+    private static SingleConnectionDataSource migratedDatabase(String name) throws Exception {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + name, "sa", "", true);
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(DatabaseSnapshotRestorer.CHANGELOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private static List<Map<String, Object>> rows(SingleConnectionDataSource dataSource, String table) {
+        return new JdbcTemplate(dataSource).queryForList("select * from " + table + " order by 1, 2");
+    }
+}
@@ -0,0 +1,56 @@
+package com.cantire.storetech.evaluation.datagen;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Size and shape of a synthetic data set. Two generations with the same shape produce identical rows.
+ *
+ * @param seed              seed for every random choice
+ * @param asOf              instant the price and tax windows are laid out around; current prices are valid at it
+ * @param products          products to generate
+ * @param categories        categories the products are spread over
+ * @param currencies        price currencies; every product is priced in the first, the others with {@code extraCurrencyRatio}
+ * @param extraCurrencyRatio probability that a product also has a price in each additional currency
+ * @param priceHistory      expired prices per product and currency, each window overlapping the next by up to a week
+ * @param taxHistoryYears   yearly tax windows generated before each current tax row
+ * @param openCarts         carts to generate, priced in the first currency
+ * @param maxCartLines      maximum distinct products per cart
+ */
+public record SyntheticDataShape(long seed, Instant asOf, int products, int categories, List<String> currencies,
+                                 double extraCurrencyRatio, int priceHistory, int taxHistoryYears, int openCarts,
+                                 int maxCartLines) {
+
+    /**
+     * A small catalog with the default shape, laid out around the start of the current day so repeated runs on the
+     * same day match.
+     */
+    public static SyntheticDataShape ofProducts(int products, long seed) {
+        return new SyntheticDataShape(seed, Instant.now().truncatedTo(ChronoUnit.DAYS), products,
+                Math.max(1, products / 2_000), List.of("CAD", "USD"), 0.5, 3, 5, products / 10, 5);
+    }
+
+    /**
+     * Shape read from {@code datagen.*} system properties, defaulting to a million products.
+     */
+    public static SyntheticDataShape fromSystemProperties() {
+        int products = Integer.parseInt(property("products", "1000000"));
+        SyntheticDataShape defaults = ofProducts(products, Long.parseLong(property("seed", "42")));
+        return new SyntheticDataShape(
+                defaults.seed(),
+                Instant.parse(property("as-of", defaults.asOf().toString())),
+                products,
+                Integer.parseInt(property("categories", String.valueOf(defaults.categories()))),
+                List.of(property("currencies", String.join(",", defaults.currencies())).split(",")),
+                Double.parseDouble(property("extra-currency-ratio", String.valueOf(defaults.extraCurrencyRatio()))),
+                Integer.parseInt(property("price-history", String.valueOf(defaults.priceHistory()))),
+                Integer.parseInt(property("tax-history-years", String.valueOf(defaults.taxHistoryYears()))),
+                Integer.parseInt(property("open-carts", String.valueOf(defaults.openCarts()))),
+                Integer.parseInt(property("max-cart-lines", String.valueOf(defaults.maxCartLines()))));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("datagen." + name, defaultValue);
+    }
+}
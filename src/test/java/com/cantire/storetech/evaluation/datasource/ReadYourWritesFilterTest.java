@@ -0,0 +1,119 @@
+package com.cantire.storetech.evaluation.datasource;
+
+import com.cantire.storetech.evaluation.datasource.ReplicaRoutingDataSource.Route;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReadYourWritesFilter.
+ */
+class ReadYourWritesFilterTest {
+
+    private Clock clock;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(10_000L);
+        routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class), Duration.ofSeconds(1), clock);
+        filter = new ReadYourWritesFilter(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testWriteSetsCookieBeforeBodyIsWritten() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest(), response, (FilterChain) (req, res) -> {
+            commitWrite();
+            res.getWriter().write("{}");
+            res.flushBuffer();
+        });
+
+        // Then
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals("10000", cookie.getValue());
+        assertEquals(2, cookie.getMaxAge());
+        assertEquals(Long.MIN_VALUE, routingDataSource.getLastCommitMillis());
+    }
+
+    @Test
+    void testNextRequestFromClientReadsFromPrimaryWithinMaxLag() throws Exception {
+        // Given - the client's write committed at t=9.5s on another thread
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "9500"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Route[] routes = new Route[2];
+
+        // When
+        filter.doFilter(request, response, (FilterChain) (req, res) -> {
+            inTransaction(true);
+            routes[0] = routingDataSource.determineCurrentLookupKey();
+            when(clock.millis()).thenReturn(10_500L);
+            routes[1] = routingDataSource.determineCurrentLookupKey();
+        });
+
+        // Then - reads see the primary until the replica has caught up, and the client's cookie is left as it was
+        assertEquals(Route.PRIMARY, routes[0]);
+        assertEquals(Route.REPLICA, routes[1]);
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void testReadOnlyRequestWithoutCookieReadsFromReplica() throws Exception {
+        // Given - this pooled thread committed a write for an earlier client
+        commitWrite();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Route[] route = new Route[1];
+
+        // When
+        filter.doFilter(new MockHttpServletRequest(), response, (FilterChain) (req, res) -> {
+            inTransaction(true);
+            route[0] = routingDataSource.determineCurrentLookupKey();
+        });
+
+        // Then
+        assertEquals(Route.REPLICA, route[0]);
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    private void commitWrite() {
+        TransactionSynchronizationManager.initSynchronization();
+        inTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,141 @@
+package com.cantire.storetech.evaluation.datasource;
+
+import com.cantire.storetech.evaluation.datasource.ReplicaRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private Clock clock;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(10_000L);
+        routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class), Duration.ofSeconds(1), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testReadOnlyTransactionGoesToReplica() {
+        inTransaction(true);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadWriteAndNonTransactionalWorkGoesToPrimary() {
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        inTransaction(false);
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadsStayOnPrimaryWithinMaxLagOfOwnCommit() {
+        // Given - a write committed on this thread at t=10s
+        commitWrite();
+
+        // Then - reads within the lag window see the primary, later reads the replica
+        inTransaction(true);
+        when(clock.millis()).thenReturn(10_999L);
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        when(clock.millis()).thenReturn(11_000L);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testUncommittedWriteDoesNotMoveReadsToPrimary() {
+        // Given - a write that takes its connection, then rolls back
+        TransactionSynchronizationManager.initSynchronization();
+        inTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        inTransaction(true);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testOtherThreadsReadFromReplicaWhileWritesCommit() throws Exception {
+        // Given - another thread commits writes
+        Thread writer = Thread.ofPlatform().start(() -> {
+            commitWrite();
+            tearDown();
+        });
+        writer.join();
+
+        // Then - reads on this thread still use the replica, and a write in progress here does not change that
+        inTransaction(true);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+        TransactionSynchronizationManager.initSynchronization();
+        inTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+        inTransaction(true);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReplicaMayLagWithinMaxLagOfAnyThreadsCommit() throws Exception {
+        // Given
+        assertFalse(routingDataSource.replicaMayLag());
+        Thread writer = Thread.ofPlatform().start(() -> {
+            commitWrite();
+            tearDown();
+        });
+        writer.join();
+
+        // Then
+        when(clock.millis()).thenReturn(10_999L);
+        assertTrue(routingDataSource.replicaMayLag());
+        when(clock.millis()).thenReturn(11_000L);
+        assertFalse(routingDataSource.replicaMayLag());
+    }
+
+    @Test
+    void testReadsStayOnPrimaryWithinMaxLagOfGivenCommit() {
+        // Given - the client committed on another thread at t=9.5s
+        routingDataSource.setLastCommitMillis(9_500L);
+
+        // Then
+        inTransaction(true);
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        routingDataSource.setLastCommitMillis(Long.MIN_VALUE);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    private void commitWrite() {
+        TransactionSynchronizationManager.initSynchronization();
+        inTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,156 @@
+package com.cantire.storetech.evaluation.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.cantire.storetech.evaluation.datagen.SyntheticDataGenerator;
+
+/**
+ * Drives the cart and product endpoints and records per-endpoint latency in HdrHistogram recorders.
+ * Latency is recorded in microseconds. In OPEN mode it is measured from the time a request was scheduled to be sent,
+ * so a stalled server shows up as latency instead of as fewer requests (no coordinated omission).
+ */
+final class LoadGenerator {
+
+    enum Endpoint {
+        ADD_TO_CART,
+        GET_PRODUCTS
+    }
+
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    LoadGenerator(LoadTestSettings settings, URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * Runs the warm-up, discards what it recorded, then runs the measured phase.
+     */
+    LoadReport run() throws InterruptedException {
+        drive(settings.warmup());
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        long start = System.nanoTime();
+        drive(settings.duration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<LoadReport.EndpointResult> results = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            results.add(LoadReport.EndpointResult.of(endpoint.name(), histogram, errors.get(endpoint).sum(), elapsed));
+        }
+        return new LoadReport(settings.mode().name(), settings.concurrency(), settings.rate(), settings.cartRatio(), settings.catalogSize(),
+                elapsed.toMillis(), results);
+    }
+
+    private void drive(Duration duration) throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        if (settings.mode() == LoadTestSettings.Mode.CLOSED) {
+            driveClosed(deadline);
+        } else {
+            driveOpen(deadline);
+        }
+    }
+
+    private void driveClosed(long deadline) throws InterruptedException {
+        try (ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency())) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(System.nanoTime());
+                    }
+                });
+            }
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.HOURS);
+        }
+    }
+
+    private void driveOpen(long deadline) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        Semaphore inFlight = new Semaphore(settings.concurrency());
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = System.nanoTime();
+            while (intended < deadline) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+                long scheduled = intended;
+                senders.execute(() -> {
+                    try {
+                        send(scheduled);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                intended += interval;
+            }
+        }
+    }
+
+    private void send(long scheduledNanos) {
+        boolean addToCart = ThreadLocalRandom.current().nextDouble() < settings.cartRatio();
+        Endpoint endpoint = addToCart ? Endpoint.ADD_TO_CART : Endpoint.GET_PRODUCTS;
+        HttpRequest request = addToCart ? addToCartRequest() : getProductsRequest();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                errors.get(endpoint).increment();
+            }
+        } catch (IOException e) {
+            errors.get(endpoint).increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorders.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos));
+    }
+
+    private HttpRequest addToCartRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long productId = SyntheticDataGenerator.FIRST_ID + random.nextInt(settings.catalogSize());
+        String body = "{\"productId\":" + productId + ",\"quantity\":" + (1 + random.nextInt(3)) +
+                ",\"region\":\"ON\",\"currencyCode\":\"CAD\"}";
+        return HttpRequest.newBuilder(baseUri.resolve("/api/carts"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest getProductsRequest() {
+        return HttpRequest.newBuilder(baseUri.resolve("/api/products")).GET().build();
+    }
+}
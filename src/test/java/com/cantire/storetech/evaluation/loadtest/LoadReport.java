@@ -0,0 +1,85 @@
+package com.cantire.storetech.evaluation.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Throughput and latency percentiles of one load test run, per endpoint. Latencies are in milliseconds.
+ * The load shape, including the share of cart requests in the mix, is kept so runs are only compared like for like.
+ */
+record LoadReport(String mode, int concurrency, int rate, double cartRatio, int catalogSize, long elapsedMillis,
+                  List<EndpointResult> endpoints) {
+
+    record EndpointResult(String endpoint, long requests, long errors, double throughput,
+                          double p50, double p99, double p999, double max) {
+
+        static EndpointResult of(String endpoint, Histogram micros, long errors, Duration elapsed) {
+            return new EndpointResult(endpoint, micros.getTotalCount(), errors,
+                    micros.getTotalCount() / (elapsed.toNanos() / 1e9),
+                    millis(micros.getValueAtPercentile(50)), millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)), millis(micros.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    /**
+     * Endpoints whose p99 latency rose, or whose throughput fell, by more than the allowed fraction of the baseline.
+     * Throughput is only compared in CLOSED mode; in OPEN mode it is the offered rate. Endpoints that recorded errors
+     * are always reported, and a baseline recorded with a different load shape is reported instead of compared.
+     */
+    List<String> regressionsAgainst(LoadReport baseline, double maxRegression) {
+        if (!shape().equals(baseline.shape())) {
+            return List.of("baseline was recorded with a different load shape: " + baseline.shape() + ", this run: " + shape());
+        }
+
+        Map<String, EndpointResult> baselineByEndpoint = baseline.endpoints().stream()
+                .collect(Collectors.toMap(EndpointResult::endpoint, Function.identity()));
+
+        List<String> regressions = new ArrayList<>();
+        for (EndpointResult result : endpoints) {
+            if (result.errors() > 0) {
+                regressions.add(result.endpoint() + ": " + result.errors() + " failed requests");
+            }
+            EndpointResult before = baselineByEndpoint.get(result.endpoint());
+            if (before == null) {
+                continue;
+            }
+            if (result.p99() > before.p99() * (1 + maxRegression)) {
+                regressions.add(String.format("%s: p99 %.2f ms exceeds baseline %.2f ms by more than %.0f%%",
+                        result.endpoint(), result.p99(), before.p99(), maxRegression * 100));
+            }
+            if ("CLOSED".equals(mode) && result.throughput() < before.throughput() * (1 - maxRegression)) {
+                regressions.add(String.format("%s: throughput %.1f/s is below baseline %.1f/s by more than %.0f%%",
+                        result.endpoint(), result.throughput(), before.throughput(), maxRegression * 100));
+            }
+        }
+        return regressions;
+    }
+
+    String shape() {
+        if ("OPEN".equals(mode)) {
+            return String.format("OPEN loop at %d/s, concurrency %d, cart ratio %.2f, %d products", rate, concurrency, cartRatio, catalogSize);
+        }
+        return String.format("CLOSED loop, concurrency %d, cart ratio %.2f, %d products", concurrency, cartRatio, catalogSize);
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%s, %d ms%n", shape(), elapsedMillis));
+        summary.append(String.format("%-13s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (EndpointResult result : endpoints) {
+            summary.append(String.format("%-13s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", result.endpoint(), result.requests(),
+                    result.errors(), result.throughput(), result.p50(), result.p99(), result.p999(), result.max()));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.cantire.storetech.evaluation.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the baseline comparison in LoadReport.
+ */
+class LoadReportTest {
+
+    private static final LoadReport BASELINE = closedReport(new LoadReport.EndpointResult("GET_PRODUCTS", 1000, 0, 100.0, 5.0, 20.0, 30.0, 40.0));
+
+    @Test
+    void testRegressionsAgainst_WithinThresholdPasses() {
+        LoadReport report = closedReport(new LoadReport.EndpointResult("GET_PRODUCTS", 900, 0, 90.0, 5.5, 23.0, 35.0, 50.0));
+
+        assertTrue(report.regressionsAgainst(BASELINE, 0.2).isEmpty());
+    }
+
+    @Test
+    void testRegressionsAgainst_ReportsSlowerP99AndLowerThroughput() {
+        LoadReport report = closedReport(new LoadReport.EndpointResult("GET_PRODUCTS", 700, 0, 70.0, 6.0, 25.0, 35.0, 50.0));
+
+        List<String> regressions = report.regressionsAgainst(BASELINE, 0.2);
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).contains("p99 25.00 ms"));
+        assertTrue(regressions.get(1).contains("throughput 70.0/s"));
+    }
+
+    @Test
+    void testRegressionsAgainst_ReportsErrorsAndDifferentLoadShape() {
+        LoadReport failing = closedReport(new LoadReport.EndpointResult("GET_PRODUCTS", 1000, 3, 100.0, 5.0, 20.0, 30.0, 40.0));
+        LoadReport open = new LoadReport("OPEN", 16, 200, 0.2, 1000, 30_000, BASELINE.endpoints());
+
+        assertEquals(List.of("GET_PRODUCTS: 3 failed requests"), failing.regressionsAgainst(BASELINE, 0.2));
+        assertTrue(open.regressionsAgainst(BASELINE, 0.2).get(0).startsWith("baseline was recorded with a different load shape"));
+    }
+
+    @Test
+    void testRegressionsAgainst_ReportsDifferentCartRatio() {
+        LoadReport cartHeavy = closedReport(0.8, BASELINE.endpoints().get(0));
+
+        assertTrue(cartHeavy.regressionsAgainst(BASELINE, 0.2).get(0).startsWith("baseline was recorded with a different load shape"));
+    }
+
+    private static LoadReport closedReport(LoadReport.EndpointResult result) {
+        return closedReport(0.2, result);
+    }
+
+    private static LoadReport closedReport(double cartRatio, LoadReport.EndpointResult result) {
+        return new LoadReport("CLOSED", 16, 200, cartRatio, 1000, 30_000, List.of(result));
+    }
+}
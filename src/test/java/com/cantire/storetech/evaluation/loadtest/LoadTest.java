@@ -0,0 +1,72 @@
+package com.cantire.storetech.evaluation.loadtest;
+
+import com.cantire.storetech.evaluation.datagen.SyntheticDataGenerator;
+import com.cantire.storetech.evaluation.datagen.SyntheticDataShape;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test against the application on an in-memory H2 database seeded with a synthetic catalog.
+ * Only runs with -Dloadtest.enabled=true, which the loadtest Maven profile sets.
+ * <p>
+ * The regression gate is opt-in: latency depends on the machine, so no baseline is committed. Record one on the
+ * machine that gates with -Dloadtest.update-baseline=true; later runs there fail when an endpoint regresses against it.
+ * Without a baseline the run only writes its report.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "logging.level.com.cantire.storetech.evaluation.metrics=ERROR"
+})
+class LoadTest {
+
+    private static final long CATALOG_SEED = 42L;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void testLoad_StaysWithinBaseline() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        new SyntheticDataGenerator(dataSource).generate(SyntheticDataShape.ofProducts(settings.catalogSize(), CATALOG_SEED));
+
+        // When
+        LoadReport report = new LoadGenerator(settings, URI.create("http://localhost:" + port)).run();
+
+        // Then
+        log.info("Load test results:\n{}", report.summary());
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        objectMapper.writeValue(settings.report().toFile(), report);
+
+        if (settings.updateBaseline()) {
+            Files.createDirectories(settings.baseline().toAbsolutePath().getParent());
+            objectMapper.writeValue(settings.baseline().toFile(), report);
+            log.info("Recorded load test baseline {}", settings.baseline());
+        } else if (Files.exists(settings.baseline())) {
+            LoadReport baseline = objectMapper.readValue(settings.baseline().toFile(), LoadReport.class);
+            List<String> regressions = report.regressionsAgainst(baseline, settings.maxRegression());
+            assertTrue(regressions.isEmpty(), "Load test regressed against " + settings.baseline() + ": " + regressions);
+        } else {
+            log.info("No load test baseline at {}; regressions are not checked", settings.baseline());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.cantire.storetech.evaluation.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test options, read from {@code loadtest.*} system properties.
+ *
+ * @param mode            CLOSED runs {@code concurrency} workers back to back; OPEN issues {@code rate} requests per second
+ *                        regardless of how fast they complete, measuring latency from the intended send time
+ * @param concurrency     workers in CLOSED mode, maximum requests in flight in OPEN mode
+ * @param rate            requests per second in OPEN mode
+ * @param cartRatio       fraction of requests that are POST /api/carts; the rest are GET /api/products
+ * @param catalogSize     synthetic products seeded before the run
+ * @param warmup          run time discarded before measuring
+ * @param duration        measured run time
+ * @param maxRegression   allowed relative regression of p99 latency or throughput against the baseline, e.g. 0.2 for 20%
+ * @param baseline        report to compare against; the comparison is skipped when the file does not exist
+ * @param updateBaseline  write this run's report as the new baseline instead of comparing
+ * @param report          where this run's report is written
+ */
+record LoadTestSettings(Mode mode, int concurrency, int rate, double cartRatio, int catalogSize, Duration warmup,
+                        Duration duration, double maxRegression, Path baseline, boolean updateBaseline, Path report) {
+
+    enum Mode {
+        CLOSED,
+        OPEN
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Mode.valueOf(property("mode", "CLOSED")),
+                Integer.parseInt(property("concurrency", "16")),
+                Integer.parseInt(property("rate", "200")),
+                Double.parseDouble(property("cart-ratio", "0.5")),
+                Integer.parseInt(property("catalog-size", "1000")),
+                Duration.parse(property("warmup", "PT5S")),
+                Duration.parse(property("duration", "PT30S")),
+                Double.parseDouble(property("max-regression", "0.2")),
+                Path.of(property("baseline", "src/test/resources/loadtest/baseline.json")),
+                Boolean.parseBoolean(property("update-baseline", "false")),
+                Path.of(property("report", "target/loadtest/report.json")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
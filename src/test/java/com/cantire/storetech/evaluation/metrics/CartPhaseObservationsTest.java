@@ -0,0 +1,95 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for CartPhaseObservations and CartPhaseJfrHandler.
+ */
+class CartPhaseObservationsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObservationRegistry observationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+    }
+
+    @Test
+    void testObserve_RecordsTimerPerPhaseWithCartSizeAtStop() {
+        // Given
+        CartPhaseObservations phases = new CartPhaseObservations(observationRegistry, "ON", "CAD");
+
+        // When - the cart loaded inside the phase has 7 products
+        phases.observe(CartPhaseObservations.Phase.CART_LOAD, () -> phases.cartSize(7));
+        phases.observe(CartPhaseObservations.Phase.RESPONSE, () -> "response");
+
+        // Then
+        Timer cartLoad = meterRegistry.get(CartPhaseObservations.OBSERVATION_NAME)
+                .tags("phase", "cart.load", "region", "ON", "currency", "CAD", "cart.size", "6-20", "error", "none")
+                .timer();
+        assertEquals(1, cartLoad.count());
+        assertEquals(1, meterRegistry.get(CartPhaseObservations.OBSERVATION_NAME).tag("phase", "response").timer().count());
+    }
+
+    @Test
+    void testObserve_TagsErrorsAndBoundsCardinality() {
+        // Given - free-form region and currency values
+        CartPhaseObservations phases = new CartPhaseObservations(observationRegistry, "Ontario; drop table", null);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> phases.observe(CartPhaseObservations.Phase.TAX_LOOKUP, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Then
+        Timer taxLookup = meterRegistry.get(CartPhaseObservations.OBSERVATION_NAME)
+                .tags("phase", "tax.lookup", "region", "OTHER", "currency", "OTHER", "error", "IllegalStateException")
+                .timer();
+        assertEquals(1, taxLookup.count());
+    }
+
+    @Test
+    void testJfrHandler_CommitsEventPerPhase(@TempDir Path directory) throws Exception {
+        // Given
+        observationRegistry.observationConfig().observationHandler(new CartPhaseJfrHandler());
+        Path file = directory.resolve("phases.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(CartPhaseEvent.class);
+            recording.start();
+            new CartPhaseObservations(observationRegistry, "BC", "CAD").observe(CartPhaseObservations.Phase.SUBTOTAL, () -> "done");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.cantire.storetech.CartPhase"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("subtotal", events.get(0).getString("phase"));
+        assertEquals("BC", events.get(0).getString("region"));
+        assertEquals("0", events.get(0).getString("cartSize"));
+        assertNotNull(events.get(0).getDuration());
+    }
+}
@@ -0,0 +1,117 @@
+package com.cantire.storetech.evaluation.metrics;
+
+import com.cantire.storetech.evaluation.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for RepositoryMetricsInterceptor.
+ */
+class RepositoryMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        ProxyFactory proxyFactory = new ProxyFactory(new SampleRepository() {
+            @Override
+            public List<String> findAll() {
+                return List.of("a", "b", "c");
+            }
+
+            @Override
+            public Optional<String> findById(Long id) {
+                if (id < 0) {
+                    throw new IllegalArgumentException("Negative id");
+                }
+                return Optional.empty();
+            }
+
+            @Override
+            public long count() {
+                return 3;
+            }
+
+            @Override
+            public Product save(Product entity) {
+                return entity;
+            }
+        });
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(meterRegistry, SampleRepository.class, Duration.ofSeconds(1)));
+        repository = (SampleRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    void testInvoke_RecordsLatencyAndRowsPerMethod() {
+        // When
+        repository.findAll();
+        repository.findAll();
+        repository.findById(1L);
+
+        // Then
+        assertEquals(2, meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS_METRIC)
+                .tags("repository", "SampleRepository", "method", "findAll", "exception", "none").timer().count());
+        assertEquals(6, meterRegistry.get(RepositoryMetricsInterceptor.ROWS_METRIC)
+                .tags("method", "findAll").summary().totalAmount());
+        assertEquals(0, meterRegistry.get(RepositoryMetricsInterceptor.ROWS_METRIC)
+                .tags("method", "findById").summary().totalAmount());
+    }
+
+    @Test
+    void testInvoke_RecordsNoRowsForWritesAndCounts() {
+        // When
+        repository.save(new Product());
+        repository.count();
+
+        // Then
+        assertEquals(1, meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS_METRIC).tags("method", "save").timer().count());
+        assertEquals(1, meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS_METRIC).tags("method", "count").timer().count());
+        assertNull(meterRegistry.find(RepositoryMetricsInterceptor.ROWS_METRIC).tags("method", "save").summary());
+        assertNull(meterRegistry.find(RepositoryMetricsInterceptor.ROWS_METRIC).tags("method", "count").summary());
+    }
+
+    @Test
+    void testInvoke_TagsFailedCallsWithException() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> repository.findById(-1L));
+
+        // Then
+        assertEquals(1, meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS_METRIC)
+                .tags("method", "findById", "exception", "IllegalArgumentException").timer().count());
+    }
+
+    @Test
+    void testRowCount_CountsSupportedResultTypes() {
+        assertEquals(0, RepositoryMetricsInterceptor.rowCount(null));
+        assertEquals(2, RepositoryMetricsInterceptor.rowCount(List.of(1, 2)));
+        assertEquals(1, RepositoryMetricsInterceptor.rowCount(Optional.of(1)));
+        assertEquals(1, RepositoryMetricsInterceptor.rowCount(new Product()));
+        assertEquals(-1, RepositoryMetricsInterceptor.rowCount(42L));
+        assertEquals(-1, RepositoryMetricsInterceptor.rowCount(true));
+        assertEquals(-1, RepositoryMetricsInterceptor.rowCount(List.of(1).stream()));
+    }
+
+    interface SampleRepository {
+        List<String> findAll();
+
+        Optional<String> findById(Long id);
+
+        long count();
+
+        Product save(Product entity);
+    }
+}
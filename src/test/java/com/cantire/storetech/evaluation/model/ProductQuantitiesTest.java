@@ -0,0 +1,123 @@
+package com.cantire.storetech.evaluation.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ProductQuantities.
+ */
+class ProductQuantitiesTest {
+
+    @Test
+    void testSet_KeepsInsertionOrderAndReplacesQuantities() {
+        // Given
+        ProductQuantities quantities = new ProductQuantities();
+
+        // When
+        quantities.set(30L, 1);
+        quantities.set(10L, 2);
+        quantities.set(20L, 3);
+        int previous = quantities.set(10L, 5);
+
+        // Then
+        assertEquals(2, previous);
+        assertEquals(List.of(30L, 10L, 20L), new ArrayList<>(quantities.keySet()));
+        assertEquals(5, quantities.quantity(10L));
+        assertEquals(0, quantities.quantity(99L));
+        assertEquals(9, quantities.totalQuantity());
+    }
+
+    @Test
+    void testReadOnlyView_ReadsThroughToTheMap() {
+        // Given
+        ProductQuantities quantities = new ProductQuantities();
+        quantities.set(30L, 1);
+        ProductQuantityView view = quantities.readOnlyView();
+
+        // When
+        quantities.set(10L, 2);
+
+        // Then
+        assertFalse(view instanceof Map);
+        assertEquals(2, view.size());
+        assertEquals(10L, view.productIdAt(1));
+        assertEquals(2, view.quantity(10L));
+        assertEquals(3, view.totalQuantity());
+    }
+
+    @Test
+    void testGrowth_FindsEveryProductAcrossResizes() {
+        // Given - ids that collide in the low bits
+        ProductQuantities quantities = new ProductQuantities();
+        for (long i = 0; i < 1_000; i++) {
+            quantities.set(i << 32, (int) i);
+        }
+
+        // Then
+        assertEquals(1_000, quantities.size());
+        for (long i = 0; i < 1_000; i++) {
+            assertEquals((int) i, quantities.quantity(i << 32));
+        }
+        assertFalse(quantities.contains(1_000L << 32));
+    }
+
+    @Test
+    void testDelete_ShiftsLaterEntriesAndKeepsThemFindable() {
+        // Given
+        ProductQuantities quantities = new ProductQuantities();
+        for (long id = 1; id <= 10; id++) {
+            quantities.set(id, (int) id);
+        }
+
+        // When
+        assertTrue(quantities.delete(3L));
+        assertFalse(quantities.delete(3L));
+        Iterator<Map.Entry<Long, Integer>> entries = quantities.entrySet().iterator();
+        while (entries.hasNext()) {
+            if (entries.next().getKey() % 2 == 0) {
+                entries.remove();
+            }
+        }
+
+        // Then
+        assertEquals(List.of(1L, 5L, 7L, 9L), new ArrayList<>(quantities.keySet()));
+        assertEquals(7, quantities.quantity(7L));
+        assertEquals(0, quantities.quantity(4L));
+        assertEquals(5L, quantities.productIdAt(1));
+        assertEquals(5, quantities.quantityAt(1));
+    }
+
+    @Test
+    void testMapView_EqualsBoxedMapWithSameEntries() {
+        // Given
+        ProductQuantities quantities = new ProductQuantities();
+        Map<Long, Integer> boxed = new LinkedHashMap<>();
+
+        // When
+        for (long id = 1; id <= 5; id++) {
+            quantities.put(id, (int) id * 2);
+            boxed.put(id, (int) id * 2);
+        }
+
+        // Then
+        assertEquals(boxed, quantities);
+        assertEquals(quantities, boxed);
+        assertEquals(boxed.hashCode(), quantities.hashCode());
+        assertEquals(4, quantities.remove(2L));
+        assertNull(quantities.remove(2L));
+        assertNull(quantities.get("2"));
+        quantities.clear();
+        assertTrue(quantities.isEmpty());
+        assertEquals(0, quantities.quantity(1L));
+    }
+}
@@ -0,0 +1,143 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import com.cantire.storetech.evaluation.LockWaitingTask;
+import com.cantire.storetech.evaluation.dto.CartSaveRequest;
+import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.service.CartService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for cart events written to the outbox with the cart and relayed to the in-memory sink.
+ */
+@SpringBootTest
+class CartOutboxRelayTest {
+
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private CartOutboxRelay cartOutboxRelay;
+    @Autowired
+    private InMemoryCartEventSink sink;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testRelay_PublishesCartEventsInSequenceAndEmptiesOutbox() throws Exception {
+        // Given
+        Long cartId = cartService.addProductToCart(request(null, 1L, 2)).getCartId();
+        cartService.addProductToCart(request(cartId, 2L, 1));
+        cartService.addProductToCart(request(cartId, 1L, 3));
+
+        // When
+        cartOutboxRelay.relay();
+
+        // Then
+        List<OutboxMessage> published = sink.getMessages().stream()
+                .filter(message -> message.cartId() == cartId)
+                .toList();
+        assertEquals(List.of(1L, 2L, 3L), published.stream().map(OutboxMessage::sequence).toList());
+        CartEvent last = objectMapper.readValue(published.get(2).payload(), CartEvent.class);
+        assertEquals(CartEvent.PRODUCT_ADDED, last.type());
+        assertEquals(1L, last.productId());
+        assertEquals(3, last.quantity());
+        assertEquals(4L, last.totalQuantity());
+        assertEquals("CAD", last.currencyCode());
+        assertTrue(last.subtotal().compareTo(BigDecimal.ZERO) > 0);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_outbox WHERE cart_id = ?", Integer.class, cartId));
+        assertEquals(3L, jdbcTemplate.queryForObject("SELECT event_sequence FROM cart WHERE id = ?", Long.class, cartId));
+        assertTrue(meterRegistry.get(CartOutboxRelay.LAG_METRIC).timer().count() >= 3);
+    }
+
+    @Test
+    void testCheckout_WritesCheckedOutEventWithTheOrder() throws Exception {
+        // Given
+        Long cartId = cartService.addProductToCart(request(null, 1L, 2)).getCartId();
+
+        // When
+        CartSaveResponse order = cartService.checkout(cartId);
+        cartOutboxRelay.relay();
+
+        // Then
+        List<OutboxMessage> published = sink.getMessages().stream()
+                .filter(message -> message.cartId() == cartId)
+                .toList();
+        assertEquals(List.of(1L, 2L), published.stream().map(OutboxMessage::sequence).toList());
+        CartEvent checkedOut = objectMapper.readValue(published.get(1).payload(), CartEvent.class);
+        assertEquals(CartEvent.CHECKED_OUT, checkedOut.type());
+        assertEquals(order.getOrderId(), checkedOut.orderId());
+        assertNull(checkedOut.productId());
+        assertEquals(2L, checkedOut.totalQuantity());
+        assertEquals(0, order.getSubtotal().compareTo(checkedOut.subtotal()));
+    }
+
+    @Test
+    void testAddProductToCart_FailedAddWritesNoEvent() {
+        // Given
+        Long cartId = cartService.addProductToCart(request(null, 1L, 1)).getCartId();
+        cartOutboxRelay.relay();
+
+        // When - the product does not exist, so the transaction rolls back
+        try {
+            cartService.addProductToCart(request(cartId, 987_654L, 1));
+        } catch (RuntimeException expected) {
+            // the cart is unchanged
+        }
+
+        // Then
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_outbox WHERE cart_id = ?", Integer.class, cartId));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT event_sequence FROM cart WHERE id = ?", Long.class, cartId));
+    }
+
+    @Test
+    void testAddProductToCart_ConcurrentAddsToOneCartTakeConsecutiveSequences() throws Exception {
+        // Given
+        Long cartId = cartService.addProductToCart(request(null, 1L, 1)).getCartId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When - the second add waits for the first one's row lock, and runs once it commits
+        LockWaitingTask<CartSaveResponse> second = transaction.execute(status -> {
+            cartService.addProductToCart(request(cartId, 2L, 1));
+            LockWaitingTask<CartSaveResponse> waiting = LockWaitingTask.start(() -> cartService.addProductToCart(request(cartId, 1L, 2)));
+            waiting.awaitLockWait();
+            return waiting;
+        });
+
+        // Then - the second add saw the first one's product
+        CartSaveResponse response = second.get();
+        assertEquals(2, response.getItems().size());
+        assertEquals(3, response.getTotalItems());
+        assertEquals(3L, jdbcTemplate.queryForObject("SELECT event_sequence FROM cart WHERE id = ?", Long.class, cartId));
+        assertEquals(List.of(1L, 2L, 3L), jdbcTemplate.queryForList(
+                "SELECT cart_sequence FROM cart_outbox WHERE cart_id = ? ORDER BY cart_sequence", Long.class, cartId));
+    }
+
+    private static CartSaveRequest request(Long cartId, Long productId, int quantity) {
+        CartSaveRequest request = new CartSaveRequest();
+        request.setCartId(cartId);
+        request.setProductId(productId);
+        request.setQuantity(quantity);
+        request.setRegion("ON");
+        request.setCurrencyCode("CAD");
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for CartSequenceTracker.
+ */
+class CartSequenceTrackerTest {
+
+    private static final Instant NOW = Instant.parse("2026-07-01T13:00:00Z");
+
+    private final CartSequenceTracker tracker = new CartSequenceTracker(100, Duration.ofSeconds(10));
+
+    @Test
+    void testSelect_OrdersEachCartBySequence() {
+        // Given - cart 1's events arrive with ids out of sequence order
+        OutboxMessage second = message(1, 1L, 2, NOW);
+        OutboxMessage first = message(2, 1L, 1, NOW);
+        OutboxMessage other = message(3, 2L, 5, NOW);
+
+        // When
+        List<OutboxMessage> ready = tracker.select(List.of(second, first, other), NOW);
+
+        // Then
+        assertEquals(List.of(first, second, other), ready);
+    }
+
+    @Test
+    void testSelect_HoldsCartBackUntilMissingEventArrives() {
+        // Given
+        tracker.published(List.of(message(1, 1L, 1, NOW)));
+        OutboxMessage third = message(3, 1L, 3, NOW);
+        OutboxMessage unrelated = message(4, 2L, 1, NOW);
+
+        // When - sequence 2 has not been fetched yet
+        List<OutboxMessage> ready = tracker.select(List.of(third, unrelated), NOW);
+
+        // Then
+        assertEquals(List.of(unrelated), ready);
+
+        // When - it arrives in a later batch
+        OutboxMessage second = message(9, 1L, 2, NOW);
+        assertEquals(List.of(second, third), tracker.select(List.of(third, second), NOW));
+    }
+
+    @Test
+    void testSelect_PublishesThroughGapAfterTimeout() {
+        // Given
+        tracker.published(List.of(message(1, 1L, 1, NOW)));
+        OutboxMessage fourth = message(4, 1L, 4, NOW);
+
+        // Then
+        assertEquals(List.of(), tracker.select(List.of(fourth), NOW.plusSeconds(9)));
+        assertEquals(List.of(fourth), tracker.select(List.of(fourth), NOW.plusSeconds(11)));
+    }
+
+    @Test
+    void testSelect_UnknownCartAcceptsAnySequence() {
+        OutboxMessage message = message(1, 7L, 42, NOW);
+
+        assertEquals(List.of(message), tracker.select(List.of(message), NOW));
+    }
+
+    private static OutboxMessage message(long id, long cartId, long sequence, Instant createdAt) {
+        return new OutboxMessage(id, cartId, sequence, CartEvent.PRODUCT_ADDED, "{}", createdAt);
+    }
+}
@@ -0,0 +1,51 @@
+package com.cantire.storetech.evaluation.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for NdjsonFileCartEventSink.
+ */
+class NdjsonFileCartEventSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testPublish_AppendsOneJsonLinePerMessageWithPayloadInlined() throws Exception {
+        // Given
+        Path file = directory.resolve("events/cart-events.ndjson");
+        Instant createdAt = Instant.parse("2026-07-01T13:00:00Z");
+
+        // When - two batches, the second through a reopened sink
+        try (NdjsonFileCartEventSink sink = new NdjsonFileCartEventSink(file, objectMapper)) {
+            sink.publish(List.of(new OutboxMessage(1, 10L, 1, CartEvent.PRODUCT_ADDED, "{\"productId\":3,\"quantity\":2}", createdAt),
+                    new OutboxMessage(2, 11L, 1, CartEvent.PRODUCT_ADDED, "{\"productId\":4,\"quantity\":1}", createdAt)));
+        }
+        try (NdjsonFileCartEventSink sink = new NdjsonFileCartEventSink(file, objectMapper)) {
+            sink.publish(List.of(new OutboxMessage(3, 10L, 2, CartEvent.PRODUCT_ADDED, "{\"productId\":5,\"quantity\":1}", createdAt)));
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(10L, first.get("cartId").asLong());
+        assertEquals(1L, first.get("sequence").asLong());
+        assertEquals("PRODUCT_ADDED", first.get("type").asText());
+        assertEquals("2026-07-01T13:00:00Z", first.get("createdAt").asText());
+        assertEquals(2, first.get("payload").get("quantity").asInt());
+        assertEquals(2L, objectMapper.readTree(lines.get(2)).get("sequence").asLong());
+    }
+}
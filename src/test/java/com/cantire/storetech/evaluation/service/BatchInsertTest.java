@@ -0,0 +1,116 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.CartSaveRequest;
+import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.TaxInfo;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for JDBC batching of pooled-sequence inserts: carts with their collections, and bulk price rows.
+ * Each write runs in a transaction that is flushed, measured and rolled back, so nothing is left in the shared database.
+ * Statement counts are budgets, with one sequence call to spare since other tests may have left ids in the pool; with
+ * IDENTITY keys every row was its own statement, executed on its own. Throughput is only logged, since in-process H2 has no network round
+ * trip for batching to save.
+ */
+@Slf4j
+@SpringBootTest
+class BatchInsertTest {
+
+    private static final int CARTS = 250;
+    private static final int LINES_PER_CART = 3;
+    private static final int PRICES = 1000;
+    // One batched insert each for carts, their product links, quantities and tax snapshots, plus a sequence call per 50 carts
+    private static final long CART_STATEMENTS = 4 + 6;
+    // One batched insert, plus a sequence call per 50 prices
+    private static final long PRICE_STATEMENTS = 1 + 21;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TaxService taxService;
+
+    @Test
+    void testCartInsertsAreBatched() {
+        // Given
+        CartSaveRequest request = new CartSaveRequest();
+        request.setRegion("ON");
+        request.setCurrencyCode("CAD");
+        List<Product> products = productRepository.findAllById(List.of(1L, 2L, 3L));
+        List<TaxInfo> taxes = taxService.getTaxesForRegion("ON", "CAD");
+
+        // When
+        long statements = measureRolledBack("carts", CARTS, () -> {
+            for (int i = 0; i < CARTS; i++) {
+                Cart cart = Cart.create(request, taxes);
+                for (int line = 0; line < LINES_PER_CART; line++) {
+                    cart.addProduct(products.get(line), line + 1);
+                }
+                entityManager.persist(cart);
+            }
+        });
+
+        // Then
+        assertTrue(statements <= CART_STATEMENTS, "Cart inserts took " + statements + " statements");
+    }
+
+    @Test
+    void testPriceInsertsAreBatched() {
+        // When
+        long statements = measureRolledBack("prices", PRICES, () -> {
+            Product product = entityManager.getReference(Product.class, 1L);
+            ZonedDateTime effective = ZonedDateTime.now().plusYears(1);
+            for (int i = 0; i < PRICES; i++) {
+                entityManager.persist(new PriceInfo(null, product, "CAD", BigDecimal.valueOf(i), effective.plusDays(i),
+                        effective.plusDays(i + 1)));
+            }
+        });
+
+        // Then
+        assertTrue(statements <= PRICE_STATEMENTS, "Price inserts took " + statements + " statements");
+    }
+
+    /**
+     * Runs the writes in a transaction, flushes them, logs the rate and rolls back. Returns the statements prepared.
+     */
+    private long measureRolledBack(String rows, int count, Runnable writes) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Long statements = new TransactionTemplate(transactionManager).execute(status -> {
+            statistics.clear();
+            long start = System.nanoTime();
+            writes.run();
+            entityManager.flush();
+            long elapsedNanos = System.nanoTime() - start;
+            long prepared = statistics.getPrepareStatementCount();
+            log.info("Inserted {} {} in {} ms ({} /s) with {} statements", count, rows, elapsedNanos / 1_000_000,
+                    count * 1_000_000_000L / elapsedNanos, prepared);
+            status.setRollbackOnly();
+            return prepared;
+        });
+        return statements;
+    }
+}
@@ -0,0 +1,67 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.LockWaitingTask;
+import com.cantire.storetech.evaluation.dto.CartSaveRequest;
+import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.exception.CartCheckedOutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SpringBootTest for a checkout racing an add to the same cart, each in its own transaction.
+ */
+@SpringBootTest
+class CartCheckoutConcurrencyTest {
+
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testAddProductToCart_WaitsForCheckoutThenRejectsCheckedOutCart() throws Exception {
+        // Given
+        Long cartId = cartService.addProductToCart(request(null, 1L, 1)).getCartId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When - the add waits for the checkout's row lock, and runs once the order is committed
+        LockWaitingTask<CartSaveResponse> add = transaction.execute(status -> {
+            cartService.checkout(cartId);
+            LockWaitingTask<CartSaveResponse> waiting = LockWaitingTask.start(() -> cartService.addProductToCart(request(cartId, 2L, 1)));
+            waiting.awaitLockWait();
+            return waiting;
+        });
+
+        // Then - the cart keeps its order and its lines, and checking out again returns the same order
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> add.get());
+        assertInstanceOf(CartCheckedOutException.class, failure.getCause());
+        Long orderId = jdbcTemplate.queryForObject("SELECT order_id FROM cart WHERE id = ?", Long.class, cartId);
+        assertNotNull(orderId);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_order WHERE cart_id = ?", Integer.class, cartId));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_product_quantities WHERE cart_id = ?", Integer.class, cartId));
+        assertEquals(orderId, cartService.checkout(cartId).getOrderId());
+    }
+
+    private static CartSaveRequest request(Long cartId, Long productId, int quantity) {
+        CartSaveRequest request = new CartSaveRequest();
+        request.setCartId(cartId);
+        request.setProductId(productId);
+        request.setQuantity(quantity);
+        request.setRegion("ON");
+        request.setCurrencyCode("CAD");
+        return request;
+    }
+}
@@ -2,13 +2,22 @@ package com.cantire.storetech.evaluation.service;
 
 import com.cantire.storetech.evaluation.dto.CartSaveRequest;
 import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.exception.CartCheckedOutException;
 import com.cantire.storetech.evaluation.exception.InvalidCurrencyCodeException;
 import com.cantire.storetech.evaluation.model.Cart;
+import com.cantire.storetech.evaluation.model.CartOrder;
+import com.cantire.storetech.evaluation.model.CartOrderLine;
+import com.cantire.storetech.evaluation.model.CartOrderTax;
 import com.cantire.storetech.evaluation.model.PriceInfo;
 import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.ProductQuantityView;
+import com.cantire.storetech.evaluation.model.PromotionLookup;
 import com.cantire.storetech.evaluation.model.TaxInfo;
 import com.cantire.storetech.evaluation.model.TaxInfo.TaxType;
+import com.cantire.storetech.evaluation.outbox.CartOutbox;
+import com.cantire.storetech.evaluation.repo.CartOrderRepository;
 import com.cantire.storetech.evaluation.repo.CartRepository;
+import io.micrometer.observation.ObservationRegistry;
 import org.hibernate.ObjectNotFoundException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -25,11 +35,14 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,6 +62,21 @@ class CartServiceMockitoTest {
     @Mock
     private TaxService taxService;
 
+    @Mock
+    private PriceResolver priceResolver;
+
+    @Mock
+    private CartOutbox cartOutbox;
+
+    @Mock
+    private CartOrderRepository cartOrderRepository;
+
+    @Mock
+    private PromotionService promotionService;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @InjectMocks
     private CartServiceImpl cartService;
 
@@ -61,6 +89,12 @@ class CartServiceMockitoTest {
         validProduct = createProduct(1L, "Test Product 1", "SKU-001", new BigDecimal("29.99"));
         otherProduct = createProduct(2L, "Test Product 2", "SKU-002", new BigDecimal("49.99"));
         ontarioTaxes = createOntarioTaxes();
+        lenient().when(priceResolver.currentPrice(any(Product.class), anyString()))
+                .thenAnswer(invocation -> Product.findCurrentPrice(invocation.getArgument(0), invocation.getArgument(1)));
+        lenient().when(promotionService.lineDiscounts(any(ProductQuantityView.class), any(long[].class), any(BigDecimal[].class)))
+                .thenAnswer(invocation -> PromotionLookup.NONE.lineDiscounts(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        lenient().when(promotionService.lineDiscountsAt(any(ProductQuantityView.class), any(long[].class), any(BigDecimal[].class), any(ZonedDateTime.class)))
+                .thenAnswer(invocation -> PromotionLookup.NONE.lineDiscounts(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
     }
 
     /**
@@ -97,7 +131,8 @@ class CartServiceMockitoTest {
         verify(productService).getProduct(1L);
         verify(taxService).getTaxesForRegion("ON", "CAD");
         verify(cartRepository).save(any(Cart.class));
-        verify(cartRepository, never()).findById(anyLong());
+        verify(cartOutbox).productAdded(any(Cart.class), eq(1L));
+        verify(cartRepository, never()).findForUpdateById(anyLong());
     }
 
     /**
@@ -113,7 +148,7 @@ class CartServiceMockitoTest {
 
         when(productService.getProduct(2L)).thenReturn(Optional.of(otherProduct));
         when(taxService.getTaxesForRegion("ON", "CAD")).thenReturn(ontarioTaxes);
-        when(cartRepository.findById(100L)).thenReturn(Optional.of(existingCart));
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(existingCart));
         when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -129,11 +164,120 @@ class CartServiceMockitoTest {
         assertEquals(4, response.getTotalItems(), "Should have 4 total items (1 + 3)");
         assertEquals(expectedSubtotal, response.getSubtotal(), "Subtotal should reflect total quantity");
 
-        verify(cartRepository).findById(100L);
+        verify(cartRepository).findForUpdateById(100L);
         verify(productService).getProduct(2L);
         verify(cartRepository).save(any(Cart.class));
     }
 
+    /**
+     * Test: Adding a product to an existing cart that already has a tax snapshot for the region.
+     * Expected: The persisted snapshot is reused and no tax lookup is made.
+     */
+    @Test
+    void testAddProductToExistingCartReusesTaxSnapshot() {
+        // Given
+        Cart existingCart = createExistingCart(100L, validProduct, 1, "ON", "CAD");
+        existingCart.setApplicableTaxes(ontarioTaxes);
+
+        CartSaveRequest request = createCartSaveRequest(100L, 2L, 1, "ON", "CAD");
+
+        when(productService.getProduct(2L)).thenReturn(Optional.of(otherProduct));
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(existingCart));
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CartSaveResponse response = cartService.addProductToCart(request);
+
+        // Then
+        assertTrue(response.getSuccess());
+        assertEquals(1, response.getTaxBreakdown().size());
+        assertEquals("HST", response.getTaxBreakdown().get(0).getTaxType());
+        verify(taxService, never()).getTaxesForRegion(anyString(), anyString());
+    }
+
+    /**
+     * Test: Adding a product to an existing cart whose region has no taxes.
+     * Expected: The empty snapshot captured for the region is reused and no tax lookup is made.
+     */
+    @Test
+    void testAddProductToExistingCartReusesEmptyTaxSnapshot() {
+        // Given
+        Cart existingCart = createExistingCart(100L, validProduct, 1, "NU", "CAD");
+        existingCart.setApplicableTaxes(List.of());
+
+        CartSaveRequest request = createCartSaveRequest(100L, 2L, 1, "NU", "CAD");
+
+        when(productService.getProduct(2L)).thenReturn(Optional.of(otherProduct));
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(existingCart));
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CartSaveResponse response = cartService.addProductToCart(request);
+
+        // Then
+        assertTrue(response.getSuccess());
+        assertTrue(response.getTaxBreakdown().isEmpty());
+        verify(taxService, never()).getTaxesForRegion(anyString(), anyString());
+    }
+
+    /**
+     * Test: Moving an existing cart to another region.
+     * Expected: The tax snapshot is replaced with the taxes of the new region.
+     */
+    @Test
+    void testAddProductWithChangedRegionRefreshesTaxSnapshot() {
+        // Given
+        Cart existingCart = createExistingCart(100L, validProduct, 1, "ON", "CAD");
+        existingCart.setApplicableTaxes(ontarioTaxes);
+
+        CartSaveRequest request = createCartSaveRequest(100L, 2L, 1, "AB", "CAD");
+
+        TaxInfo gst = new TaxInfo();
+        gst.setCountryCode("CA");
+        gst.setStateProvince("AB");
+        gst.setPercentage(5.0);
+        gst.setTaxType(TaxType.GST);
+        gst.setName("Goods and Services Tax");
+
+        when(productService.getProduct(2L)).thenReturn(Optional.of(otherProduct));
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(existingCart));
+        when(taxService.getTaxesForRegion("AB", "CAD")).thenReturn(List.of(gst));
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CartSaveResponse response = cartService.addProductToCart(request);
+
+        // Then
+        assertEquals("AB", response.getRegion());
+        assertEquals(1, response.getTaxBreakdown().size());
+        assertEquals("GST", response.getTaxBreakdown().get(0).getTaxType());
+    }
+
+    /**
+     * Test: Adding a product that is only priced in another currency.
+     * Expected: The line is priced with the converted price from the price resolver instead of counting as zero.
+     */
+    @Test
+    void testAddProductPricedInOtherCurrencyUsesConvertedPrice() {
+        // Given
+        Product usdProduct = createProduct(3L, "Test Product 3", "SKU-003", new BigDecimal("30.00"));
+        usdProduct.getPriceInfos().get(0).setCurrencyCode("USD");
+        CartSaveRequest request = createCartSaveRequest(null, 3L, 2, "ON", "CAD");
+
+        when(productService.getProduct(3L)).thenReturn(Optional.of(usdProduct));
+        when(taxService.getTaxesForRegion("ON", "CAD")).thenReturn(ontarioTaxes);
+        when(priceResolver.currentPrice(usdProduct, "CAD")).thenReturn(Optional.of(new BigDecimal("41.10")));
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CartSaveResponse response = cartService.addProductToCart(request);
+
+        // Then
+        assertEquals(new BigDecimal("82.20"), response.getSubtotal(), "Subtotal should use the converted price 41.10 * 2");
+        assertEquals(new BigDecimal("41.10"), response.getItems().get(0).getPrice());
+        assertEquals("CAD", response.getItems().get(0).getCurrencyCode());
+    }
+
     /**
      * Test: Adding an invalid product (product does not exist).
      * Expected: Cart operation should fail with appropriate error message.
@@ -173,6 +317,179 @@ class CartServiceMockitoTest {
         verify(cartRepository, never()).save(any(Cart.class));
     }
 
+    /**
+     * Test: Adding a product with a promotion in effect.
+     * Expected: The cart subtotal is net of the promotion discount.
+     */
+    @Test
+    void testAddProductAppliesPromotionDiscount() {
+        // Given - buy 3, get 1 free
+        CartSaveRequest request = createCartSaveRequest(null, 1L, 3, "ON", "CAD");
+
+        when(productService.getProduct(1L)).thenReturn(Optional.of(validProduct));
+        when(taxService.getTaxesForRegion("ON", "CAD")).thenReturn(ontarioTaxes);
+        when(promotionService.lineDiscounts(any(ProductQuantityView.class), any(long[].class), any(BigDecimal[].class)))
+                .thenReturn(new BigDecimal[]{new BigDecimal("29.99")});
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CartSaveResponse response = cartService.addProductToCart(request);
+
+        // Then
+        assertEquals(new BigDecimal("29.99"), response.getDiscount());
+        assertEquals(new BigDecimal("59.98"), response.getSubtotal(), "Subtotal should be 29.99 * 3 less one free unit");
+    }
+
+    /**
+     * Test: Checking out a cart.
+     * Expected: Line prices, tax amounts and totals are frozen into an order and the cart points at it.
+     */
+    @Test
+    void testCheckoutFreezesPricesTaxesAndTotals() {
+        // Given
+        Cart cart = createExistingCart(100L, validProduct, 2, "ON", "CAD");
+        cart.setApplicableTaxes(ontarioTaxes);
+
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(cart));
+        when(priceResolver.priceAt(eq(validProduct), eq("CAD"), any(ZonedDateTime.class))).thenReturn(Optional.of(new BigDecimal("29.99")));
+        when(cartOrderRepository.save(any(CartOrder.class))).thenAnswer(invocation -> {
+            CartOrder order = invocation.getArgument(0);
+            order.setId(500L);
+            return order;
+        });
+
+        // When
+        CartSaveResponse response = cartService.checkout(100L);
+
+        // Then
+        assertTrue(response.getSuccess());
+        assertEquals(500L, response.getOrderId());
+        assertEquals(2, response.getTotalItems());
+        assertEquals(new BigDecimal("59.98"), response.getSubtotal());
+        assertEquals(new BigDecimal("59.98"), response.getItems().get(0).getLineTotal());
+        assertEquals(new BigDecimal("7.80"), response.getTaxBreakdown().get(0).getAmount(), "13% of 59.98, rounded half up");
+        assertEquals(new BigDecimal("7.80"), response.getTaxTotal());
+        assertEquals(new BigDecimal("67.78"), response.getTotal());
+        assertEquals(500L, cart.getOrderId());
+        verify(cartOutbox).checkedOut(eq(cart), any(CartOrder.class));
+        verify(cartRepository).flush();
+        verify(taxService, never()).getTaxesForRegion(anyString(), anyString());
+    }
+
+    /**
+     * Test: Checking out a cart with a promotion in effect at checkout.
+     * Expected: The line discount is frozen and the line total and subtotal are net of it.
+     */
+    @Test
+    void testCheckoutFreezesPromotionDiscount() {
+        // Given
+        Cart cart = createExistingCart(100L, validProduct, 3, "ON", "CAD");
+
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(cart));
+        when(priceResolver.priceAt(eq(validProduct), eq("CAD"), any(ZonedDateTime.class))).thenReturn(Optional.of(new BigDecimal("29.99")));
+        when(promotionService.lineDiscountsAt(any(ProductQuantityView.class), any(long[].class), any(BigDecimal[].class), any(ZonedDateTime.class)))
+                .thenReturn(new BigDecimal[]{new BigDecimal("29.99")});
+        when(cartOrderRepository.save(any(CartOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CartSaveResponse response = cartService.checkout(100L);
+
+        // Then
+        assertEquals(new BigDecimal("29.99"), response.getDiscount());
+        assertEquals(new BigDecimal("29.99"), response.getItems().get(0).getDiscount());
+        assertEquals(new BigDecimal("59.98"), response.getItems().get(0).getLineTotal());
+        assertEquals(new BigDecimal("59.98"), response.getSubtotal());
+    }
+
+    /**
+     * Test: Checking out a cart that is already checked out.
+     * Expected: The existing order is returned and nothing is priced or written.
+     */
+    @Test
+    void testCheckoutAgainReturnsExistingOrder() {
+        // Given
+        Cart cart = createExistingCart(100L, validProduct, 1, "ON", "CAD");
+        cart.checkout(500L);
+        CartOrder order = createOrder(500L, 100L);
+
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(cart));
+        when(cartOrderRepository.findWithLinesById(500L)).thenReturn(Optional.of(order));
+
+        // When
+        CartSaveResponse response = cartService.checkout(100L);
+
+        // Then
+        assertEquals(500L, response.getOrderId());
+        assertEquals(new BigDecimal("33.89"), response.getTotal());
+        verify(cartOrderRepository, never()).save(any(CartOrder.class));
+        verify(priceResolver, never()).priceAt(any(Product.class), anyString(), any(ZonedDateTime.class));
+    }
+
+    /**
+     * Test: Checking out a cart without products.
+     * Expected: Checkout fails and no order is written.
+     */
+    @Test
+    void testCheckoutEmptyCartFails() {
+        // Given
+        Cart cart = new Cart();
+        cart.setId(100L);
+        cart.setCurrencyCode("CAD");
+
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(cart));
+
+        // When/Then
+        Assertions.assertThrows(IllegalStateException.class, () -> cartService.checkout(100L));
+
+        verify(cartOrderRepository, never()).save(any(CartOrder.class));
+        assertFalse(cart.isCheckedOut());
+    }
+
+    /**
+     * Test: Reading a checked-out cart after its product's price changed.
+     * Expected: The cart renders from the order snapshot without pricing anything.
+     */
+    @Test
+    void testGetCheckedOutCartRendersFromOrder() {
+        // Given
+        Cart cart = createExistingCart(100L, validProduct, 1, "ON", "CAD");
+        cart.checkout(500L);
+        validProduct.getPriceInfos().get(0).setPrice(new BigDecimal("99.99"));
+
+        when(cartRepository.findById(100L)).thenReturn(Optional.of(cart));
+        when(cartOrderRepository.findWithLinesById(500L)).thenReturn(Optional.of(createOrder(500L, 100L)));
+
+        // When
+        CartSaveResponse response = cartService.getCart(100L);
+
+        // Then
+        assertEquals(new BigDecimal("29.99"), response.getItems().get(0).getPrice());
+        assertEquals(new BigDecimal("29.99"), response.getSubtotal());
+        assertEquals(new BigDecimal("3.90"), response.getTaxBreakdown().get(0).getAmount());
+        verify(priceResolver, never()).currentPrice(any(Product.class), anyString());
+    }
+
+    /**
+     * Test: Adding a product to a checked-out cart.
+     * Expected: The add is rejected and the cart is not saved.
+     */
+    @Test
+    void testAddProductToCheckedOutCartFails() {
+        // Given
+        Cart cart = createExistingCart(100L, validProduct, 1, "ON", "CAD");
+        cart.setApplicableTaxes(ontarioTaxes);
+        cart.checkout(500L);
+        CartSaveRequest request = createCartSaveRequest(100L, 2L, 1, "ON", "CAD");
+
+        when(productService.getProduct(2L)).thenReturn(Optional.of(otherProduct));
+        when(cartRepository.findForUpdateById(100L)).thenReturn(Optional.of(cart));
+
+        // When/Then
+        Assertions.assertThrows(CartCheckedOutException.class, () -> cartService.addProductToCart(request));
+
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
     // ========== Private Helper Methods for Test Data Creation ==========
 
     private CartSaveRequest createCartSaveRequest(Long cartId, Long productId, int quantity,
@@ -233,6 +550,14 @@ class CartServiceMockitoTest {
         return cart;
     }
 
+    private CartOrder createOrder(Long orderId, Long cartId) {
+        BigDecimal price = new BigDecimal("29.99");
+        BigDecimal tax = new BigDecimal("3.90");
+        return new CartOrder(orderId, cartId, "ON", "CAD", 1, BigDecimal.ZERO, price, tax, price.add(tax), ZonedDateTime.now(),
+                new ArrayList<>(List.of(new CartOrderLine(1L, "Test Product 1", "SKU-001", 1, price, BigDecimal.ZERO, price))),
+                new ArrayList<>(List.of(new CartOrderTax(TaxType.HST, "Ontario HST", 13.0, tax))));
+    }
+
     private List<TaxInfo> createOntarioTaxes() {
         TaxInfo hst = new TaxInfo();
         hst.setId(1L);
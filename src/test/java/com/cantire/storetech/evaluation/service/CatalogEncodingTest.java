@@ -0,0 +1,55 @@
+package com.cantire.storetech.evaluation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for CatalogEncoding.
+ */
+class CatalogEncodingTest {
+
+    @Test
+    void testNegotiate_PrefersHighestQualityThenGzip() {
+        assertEquals(CatalogEncoding.IDENTITY, CatalogEncoding.negotiate(null));
+        assertEquals(CatalogEncoding.GZIP, CatalogEncoding.negotiate("gzip, deflate, br"));
+        assertEquals(CatalogEncoding.GZIP, CatalogEncoding.negotiate("deflate, x-gzip"));
+        assertEquals(CatalogEncoding.DEFLATE, CatalogEncoding.negotiate("gzip;q=0.5, deflate"));
+        assertEquals(CatalogEncoding.GZIP, CatalogEncoding.negotiate("*"));
+        assertEquals(CatalogEncoding.IDENTITY, CatalogEncoding.negotiate("br"));
+        assertEquals(CatalogEncoding.IDENTITY, CatalogEncoding.negotiate("gzip;q=0, identity"));
+        assertEquals(CatalogEncoding.GZIP, CatalogEncoding.negotiate("identity;q=0, gzip;q=0.1"));
+    }
+
+    @Test
+    void testEncode_RoundTripsAndShrinksRepetitivePayload() throws IOException {
+        // Given
+        byte[] payload = "{\"name\":\"Cordless Drill\",\"currencyCode\":\"CAD\"},".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] gzip = CatalogEncoding.GZIP.encode(payload);
+        byte[] deflate = CatalogEncoding.DEFLATE.encode(payload);
+
+        // Then
+        assertSame(payload, CatalogEncoding.IDENTITY.encode(payload));
+        assertTrue(gzip.length < payload.length / 10);
+        assertArrayEquals(payload, readAll(new GZIPInputStream(new ByteArrayInputStream(gzip))));
+        assertArrayEquals(payload, readAll(new InflaterInputStream(new ByteArrayInputStream(deflate))));
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
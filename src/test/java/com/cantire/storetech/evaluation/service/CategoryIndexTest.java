@@ -0,0 +1,81 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.service.CategoryIndex.Category;
+import com.cantire.storetech.evaluation.service.CategoryIndex.Listing;
+import com.cantire.storetech.evaluation.service.CategoryIndex.Page;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for CategoryIndex.
+ */
+class CategoryIndexTest {
+
+    private static final Map<Long, String> NAMES = Map.of(1L, "Tools", 2L, "Automotive", 3L, "Garden");
+
+    @Test
+    void testCategories_SortedByNameWithCounts() {
+        CategoryIndex index = CategoryIndex.of(NAMES, List.of(new Listing(5, 1), new Listing(2, 1), new Listing(3, 2)));
+
+        assertEquals(List.of(new Category(2, "Automotive", 1), new Category(3, "Garden", 0), new Category(1, "Tools", 2)),
+                index.categories());
+    }
+
+    @Test
+    void testPage_WalksCategoryByCursor() {
+        // Given
+        List<Listing> listings = new ArrayList<>();
+        for (long productId = 25; productId > 0; productId--) {
+            listings.add(new Listing(productId, 1));
+        }
+        CategoryIndex index = CategoryIndex.of(NAMES, listings);
+
+        // When
+        Page first = index.page(1, null, 10).orElseThrow();
+        Page second = index.page(1, first.nextCursor(), 10).orElseThrow();
+        Page last = index.page(1, second.nextCursor(), 10).orElseThrow();
+
+        // Then
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, first.productIds());
+        assertEquals(10L, first.nextCursor());
+        assertEquals(11L, second.productIds()[0]);
+        assertArrayEquals(new long[]{21, 22, 23, 24, 25}, last.productIds());
+        assertNull(last.nextCursor());
+        assertEquals(25, last.category().productCount());
+    }
+
+    @Test
+    void testPage_CursorOfUnlistedProductStartsAfterIt() {
+        CategoryIndex index = CategoryIndex.of(NAMES, List.of(new Listing(10, 1), new Listing(20, 1), new Listing(30, 1)));
+
+        assertArrayEquals(new long[]{20, 30}, index.page(1, 15L, 10).orElseThrow().productIds());
+        assertArrayEquals(new long[0], index.page(1, 30L, 10).orElseThrow().productIds());
+        assertArrayEquals(new long[0], index.page(3, null, 10).orElseThrow().productIds());
+        assertTrue(index.page(99, null, 10).isEmpty());
+    }
+
+    @Test
+    void testWith_MovesChangedProductsBetweenCategories() {
+        // Given
+        CategoryIndex index = CategoryIndex.of(NAMES, List.of(new Listing(1, 1), new Listing(2, 1), new Listing(3, 2)));
+        Map<Long, String> names = Map.of(1L, "Tools", 2L, "Automotive", 3L, "Garden", 4L, "Paint");
+
+        // When - 2 moves to Automotive, 3 loses its category, 4 is new in a new category
+        CategoryIndex updated = index.with(names, List.of(2L, 3L, 4L), List.of(new Listing(2, 2), new Listing(4, 4)));
+
+        // Then
+        assertArrayEquals(new long[]{1}, updated.page(1, null, 10).orElseThrow().productIds());
+        assertArrayEquals(new long[]{2}, updated.page(2, null, 10).orElseThrow().productIds());
+        assertArrayEquals(new long[]{4}, updated.page(4, null, 10).orElseThrow().productIds());
+        assertArrayEquals(new long[]{1, 2}, index.page(1, null, 10).orElseThrow().productIds());
+        assertTrue(index.page(4, null, 10).isEmpty());
+    }
+}
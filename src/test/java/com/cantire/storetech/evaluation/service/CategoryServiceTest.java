@@ -0,0 +1,122 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.CategoryProductsResponse;
+import com.cantire.storetech.evaluation.dto.CategoryResponse;
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.ProductCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for category browsing over the sample catalog and products written through ProductService.
+ */
+@SpringBootTest
+class CategoryServiceTest {
+
+    private static final long PRODUCT_ID = 9500L;
+
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        categoryService.rebuildIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM price_info WHERE product_id = ?", PRODUCT_ID);
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", PRODUCT_ID);
+        categoryService.rebuildIndex();
+    }
+
+    @Test
+    void testGetCategories_ListsSampleCategoriesWithCounts() {
+        List<CategoryResponse> categories = categoryService.getCategories();
+
+        assertTrue(categories.contains(new CategoryResponse(1L, "Tools & Hardware", productCount(1L))));
+        assertTrue(categories.contains(new CategoryResponse(2L, "Automotive", productCount(2L))));
+    }
+
+    @Test
+    void testGetCategoryProducts_PagesWithCurrentPrices() {
+        // When
+        CategoryProductsResponse first = categoryService.getCategoryProducts(1L, null, 2).orElseThrow();
+        CategoryProductsResponse last = categoryService.getCategoryProducts(1L, first.getNextCursor(), 2).orElseThrow();
+
+        // Then
+        assertEquals(List.of(1L, 2L), first.getProducts().stream().map(ProductResponse::getId).toList());
+        assertEquals(2L, first.getNextCursor());
+        assertEquals(List.of(5L), last.getProducts().stream().map(ProductResponse::getId).toList());
+        assertNull(last.getNextCursor());
+        assertEquals("CAD", last.getProducts().get(0).getPrices().get(0).getCurrencyCode());
+        assertTrue(categoryService.getCategoryProducts(999L, null, 2).isEmpty());
+    }
+
+    @Test
+    void testGetCategoryProducts_SeesProductWrittenThroughService() {
+        // When - listed under Automotive, the category of sample product 3
+        Product product = new Product();
+        product.setId(PRODUCT_ID);
+        product.setName("Wiper Blades");
+        product.setSku("CAT-9500");
+        product.setQuantity(12);
+        product.setCategory(categoryOf(3L));
+        product.setPriceInfos(new ArrayList<>(List.of(createPrice())));
+        productService.create(product);
+
+        // Then
+        assertEquals(List.of(3L, PRODUCT_ID), productIds(2L));
+
+        // When - moved to Outdoor & Seasonal, the category of sample product 4
+        Product moved = productService.getProduct(PRODUCT_ID).orElseThrow();
+        moved.setCategory(categoryOf(4L));
+        productService.create(moved);
+
+        // Then
+        assertEquals(List.of(3L), productIds(2L));
+        assertEquals(List.of(4L, PRODUCT_ID), productIds(3L));
+    }
+
+    private int productCount(Long categoryId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE category_id = ?", Integer.class, categoryId);
+    }
+
+    private List<Long> productIds(Long categoryId) {
+        return categoryService.getCategoryProducts(categoryId, null, 10).orElseThrow().getProducts().stream()
+                .map(ProductResponse::getId)
+                .toList();
+    }
+
+    private ProductCategory categoryOf(Long productId) {
+        return productService.getProduct(productId).orElseThrow().getCategory();
+    }
+
+    private static PriceInfo createPrice() {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode("CAD");
+        priceInfo.setPrice(new BigDecimal("19.99"));
+        priceInfo.setEffectiveDate(ZonedDateTime.now().minusDays(1));
+        priceInfo.setExpiryDate(ZonedDateTime.now().plusDays(30));
+        return priceInfo;
+    }
+}
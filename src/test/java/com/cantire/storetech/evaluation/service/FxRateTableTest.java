@@ -0,0 +1,56 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.model.FxRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for FxRateTable.
+ */
+class FxRateTableTest {
+
+    private static final ZonedDateTime JAN_1 = ZonedDateTime.parse("2026-01-01T00:00:00-05:00");
+    private static final ZonedDateTime FEB_1 = ZonedDateTime.parse("2026-02-01T00:00:00-05:00");
+
+    @Test
+    void testRateAt_PicksRateValidAtInstant() {
+        // Given - the January rate is replaced on February 1st
+        FxRateTable table = FxRateTable.of(List.of(
+                createRate("USD", "CAD", "1.38", FEB_1, null),
+                createRate("USD", "CAD", "1.36", JAN_1, FEB_1.minusSeconds(1))));
+
+        // Then
+        assertEquals(Optional.of(new BigDecimal("1.36")), table.rateAt("USD", "CAD", JAN_1));
+        assertEquals(Optional.of(new BigDecimal("1.36")), table.rateAt("USD", "CAD", FEB_1.minusSeconds(1)));
+        assertEquals(Optional.of(new BigDecimal("1.38")), table.rateAt("USD", "CAD", FEB_1.plusYears(10)));
+        assertTrue(table.rateAt("USD", "CAD", JAN_1.minusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    void testRateAt_FallsBackToInverseOfOppositePair() {
+        // Given
+        FxRateTable table = FxRateTable.of(List.of(createRate("USD", "CAD", "1.25", JAN_1, null)));
+
+        // Then
+        assertEquals(0, new BigDecimal("0.8").compareTo(table.rateAt("CAD", "USD", FEB_1).orElseThrow()));
+        assertEquals(Optional.of(BigDecimal.ONE), table.rateAt("CAD", "CAD", FEB_1));
+        assertTrue(table.rateAt("EUR", "CAD", FEB_1).isEmpty());
+    }
+
+    private FxRate createRate(String source, String target, String rate, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        FxRate fxRate = new FxRate();
+        fxRate.setSourceCurrency(source);
+        fxRate.setTargetCurrency(target);
+        fxRate.setRate(new BigDecimal(rate));
+        fxRate.setEffectiveDate(effectiveDate);
+        fxRate.setExpiryDate(expiryDate);
+        return fxRate;
+    }
+}
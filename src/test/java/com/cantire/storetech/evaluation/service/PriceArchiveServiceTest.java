@@ -0,0 +1,77 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.PriceHistoryResponse;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for archiving expired prices to price_info_history.
+ * The batch size is smaller than the number of expired prices so the archive runs several batches.
+ */
+@SpringBootTest(properties = "storetech.price-archive.batch-size=2")
+class PriceArchiveServiceTest {
+
+    @Autowired
+    private PriceArchiveService priceArchiveService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private PriceInfoRepository priceInfoRepository;
+
+    @Test
+    void testArchiveExpiredPrices_MovesExpiredPricesToHistory() {
+        // Given - three expired prices and one active price
+        ZonedDateTime now = ZonedDateTime.now();
+        Product product = new Product();
+        product.setId(9200L);
+        product.setName("Archived Product");
+        product.setSku("ARCHIVE-001");
+        product.setQuantity(1);
+        product.setPriceInfos(new ArrayList<>(List.of(
+                createPrice("11.00", now.minusDays(90), now.minusDays(60)),
+                createPrice("12.00", now.minusDays(60), now.minusDays(30)),
+                createPrice("13.00", now.minusDays(30), now.minusDays(1)),
+                createPrice("14.00", now.minusDays(1), now.plusDays(30)))));
+        Product saved = productService.create(product);
+        long pricesBefore = priceInfoRepository.count();
+
+        // When
+        int archived = priceArchiveService.archiveExpiredPrices();
+
+        // Then
+        assertEquals(3, archived);
+        assertEquals(pricesBefore - 3, priceInfoRepository.count());
+
+        List<PriceHistoryResponse> history = productService.getPriceHistory(saved.getId());
+        assertEquals(3, history.size());
+        assertEquals(new BigDecimal("13.0000"), history.get(0).getPrice());
+        assertEquals(new BigDecimal("11.0000"), history.get(2).getPrice());
+        assertTrue(history.stream().allMatch(price -> price.getArchivedAt() != null));
+
+        Product reloaded = productService.getProduct(saved.getId()).orElseThrow();
+        assertEquals(1, reloaded.getPriceInfos().size());
+        assertEquals(new BigDecimal("14.0000"), Product.findCurrentPrice(reloaded, "CAD").orElseThrow());
+        assertEquals(0, priceArchiveService.archiveExpiredPrices());
+    }
+
+    private PriceInfo createPrice(String price, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode("CAD");
+        priceInfo.setPrice(new BigDecimal(price));
+        priceInfo.setEffectiveDate(effectiveDate);
+        priceInfo.setExpiryDate(expiryDate);
+        return priceInfo;
+    }
+}
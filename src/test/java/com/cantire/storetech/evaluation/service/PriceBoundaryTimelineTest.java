@@ -0,0 +1,107 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.repo.PriceInfoRepository.PriceRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for PriceBoundaryTimeline.
+ */
+class PriceBoundaryTimelineTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2026-07-01T09:00:00-04:00");
+    private static final long AFTER = millis(NOW);
+    private static final long UNTIL = millis(NOW.plusDays(1));
+
+    @Test
+    void testOf_KeepsEffectiveDatesAndInstantAfterExpiryInsideWindow() {
+        // Given - product 1's price expires at noon and is replaced by a sale at 12:00:00.001; product 2 starts tomorrow
+        ZonedDateTime noon = NOW.plusHours(3);
+        PriceBoundaryTimeline timeline = PriceBoundaryTimeline.of(List.of(
+                row(1L, NOW.minusDays(5), noon),
+                row(1L, noon.plusNanos(1_000_000), NOW.plusDays(10)),
+                row(2L, NOW.plusDays(2), NOW.plusDays(3))), AFTER, UNTIL);
+
+        // Then - both of product 1's boundaries fall on the same millisecond and collapse into one
+        assertEquals(1, timeline.size());
+        assertEquals(OptionalLong.of(millis(noon) + 1), timeline.next(AFTER));
+        assertEquals(OptionalLong.empty(), timeline.next(millis(noon) + 1));
+        assertArrayEquals(new long[] {1L}, timeline.productsBetween(AFTER, millis(noon) + 1));
+        assertArrayEquals(new long[0], timeline.productsBetween(AFTER, millis(noon)));
+    }
+
+    @Test
+    void testProductsBetween_ReturnsDistinctProductsInSpan() {
+        // Given
+        PriceBoundaryTimeline timeline = PriceBoundaryTimeline.of(List.of(
+                row(3L, NOW.plusHours(1), NOW.plusHours(2)),
+                row(1L, NOW.plusHours(1), NOW.plusHours(5)),
+                row(2L, NOW.plusHours(4), NOW.plusDays(30))), AFTER, UNTIL);
+
+        // Then
+        assertEquals(5, timeline.size());
+        assertArrayEquals(new long[] {1L, 3L}, timeline.productsBetween(AFTER, millis(NOW.plusHours(3))));
+        assertArrayEquals(new long[] {1L, 2L, 3L}, timeline.productsBetween(AFTER, UNTIL));
+        assertArrayEquals(new long[] {1L, 2L}, timeline.productsBetween(millis(NOW.plusHours(3)), UNTIL));
+        assertEquals(OptionalLong.of(millis(NOW.plusHours(2)) + 1), timeline.next(millis(NOW.plusHours(1))));
+    }
+
+    @Test
+    void testWith_ReplacesOneProductsFutureBoundaries() {
+        // Given
+        PriceBoundaryTimeline timeline = PriceBoundaryTimeline.of(List.of(
+                row(1L, NOW.plusHours(1), NOW.plusHours(6)),
+                row(2L, NOW.plusHours(2), NOW.plusDays(30))), AFTER, UNTIL);
+
+        // When - product 1's staged price is moved to start later and never expire inside the window
+        PriceBoundaryTimeline updated = timeline.with(1L, List.of(row(1L, NOW.plusHours(3), NOW.plusDays(30))), AFTER);
+
+        // Then
+        assertEquals(3, timeline.size());
+        assertEquals(2, updated.size());
+        assertEquals(OptionalLong.of(millis(NOW.plusHours(2))), updated.next(AFTER));
+        assertArrayEquals(new long[] {1L, 2L}, updated.productsBetween(AFTER, UNTIL));
+        assertArrayEquals(new long[] {2L}, updated.productsBetween(AFTER, millis(NOW.plusHours(2))));
+        assertEquals(UNTIL, updated.until());
+    }
+
+    private static long millis(ZonedDateTime date) {
+        return date.toInstant().toEpochMilli();
+    }
+
+    private static PriceRow row(Long productId, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        return new PriceRow() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public String getCurrencyCode() {
+                return "CAD";
+            }
+
+            @Override
+            public BigDecimal getPrice() {
+                return BigDecimal.TEN;
+            }
+
+            @Override
+            public ZonedDateTime getEffectiveDate() {
+                return effectiveDate;
+            }
+
+            @Override
+            public ZonedDateTime getExpiryDate() {
+                return expiryDate;
+            }
+        };
+    }
+}
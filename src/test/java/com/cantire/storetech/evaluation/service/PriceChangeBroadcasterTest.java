@@ -0,0 +1,148 @@
+package com.cantire.storetech.evaluation.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for PriceChangeBroadcaster.
+ */
+class PriceChangeBroadcasterTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBroadcast_SendsSameEncodedFrameToEverySubscriber() throws Exception {
+        // Given
+        PriceChangeBroadcaster broadcaster = new PriceChangeBroadcaster(executor, 4, 0);
+        RecordingEmitter first = new RecordingEmitter(null);
+        RecordingEmitter second = new RecordingEmitter(null);
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+
+        // When
+        broadcaster.broadcast("price-change", "7", "{\"productId\":3}");
+
+        // Then
+        first.awaitFrames(1);
+        second.awaitFrames(1);
+        assertSame(first.frames.get(0), second.frames.get(0));
+        assertEquals("event:price-change\nid:7\ndata:{\"productId\":3}\n\n", first.text(0));
+    }
+
+    @Test
+    void testBroadcast_DropsSubscriberWhoseBufferIsFull() throws Exception {
+        // Given - one subscriber's connection is stuck on its first write
+        PriceChangeBroadcaster broadcaster = new PriceChangeBroadcaster(executor, 2, 0);
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(fast);
+
+        // When - the slow one is writing the first event while the next two fill its buffer and a fourth overflows it
+        broadcaster.broadcast("price-change", "1", "a");
+        slow.writing.await(5, TimeUnit.SECONDS);
+        fast.awaitFrames(1);
+        broadcaster.broadcast("price-change", "2", "b");
+        broadcaster.broadcast("price-change", "3", "b");
+        fast.awaitFrames(3);
+        broadcaster.broadcast("price-change", "4", "b");
+
+        // Then
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+        fast.awaitFrames(4);
+        assertEquals(4, fast.frames.size());
+
+        // When - the stuck write finally returns; nothing more is sent to the dropped subscriber
+        stuck.countDown();
+        broadcaster.broadcast("price-change", "5", "c");
+        fast.awaitFrames(5);
+        assertEquals(5, fast.frames.size());
+        assertEquals(1, slow.frames.size());
+    }
+
+    @Test
+    void testSend_FailedWriteDropsSubscriber() throws Exception {
+        // Given
+        PriceChangeBroadcaster broadcaster = new PriceChangeBroadcaster(executor, 4, 0);
+        RecordingEmitter broken = new RecordingEmitter(null);
+        broken.failing = true;
+        broadcaster.subscribe(broken);
+
+        // When
+        broadcaster.heartbeat();
+
+        // Then
+        assertTrue(broken.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertFalse(broken.frames.isEmpty());
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch stuck;
+        private volatile boolean failing;
+
+        RecordingEmitter(CountDownLatch stuck) {
+            this.stuck = stuck;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            frames.add(items);
+            writing.countDown();
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (stuck != null) {
+                try {
+                    stuck.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void awaitFrames(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (frames.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        String text(int index) {
+            return new String((byte[]) frames.get(index).iterator().next().getData(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PriceResolver using Mockito for stubbing and verification.
+ */
+@ExtendWith(MockitoExtension.class)
+class PriceResolverTest {
+
+    @Mock
+    private FxRateService fxRateService;
+
+    @Test
+    void testListedPriceIsUsedWithoutConversion() {
+        // Given
+        PriceResolver priceResolver = new PriceResolver(fxRateService, RoundingMode.HALF_EVEN);
+        Product product = createProduct(createPrice("CAD", "24.99", 30), createPrice("USD", "18.00", 30));
+
+        // When / Then
+        assertEquals(new BigDecimal("24.99"), priceResolver.currentPrice(product, "CAD").orElseThrow());
+        verify(fxRateService, never()).getRate(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testMissingPriceIsConvertedAndRounded() {
+        // Given - 19.99 USD at 1.3725 is 27.436275 CAD
+        Product product = createProduct(createPrice("USD", "19.99", 30));
+        when(fxRateService.getRate(anyString(), anyString(), any())).thenReturn(Optional.of(new BigDecimal("1.3725")));
+
+        // When / Then
+        assertEquals(new BigDecimal("27.44"), new PriceResolver(fxRateService, RoundingMode.HALF_EVEN).currentPrice(product, "CAD").orElseThrow());
+        assertEquals(new BigDecimal("27.43"), new PriceResolver(fxRateService, RoundingMode.DOWN).currentPrice(product, "CAD").orElseThrow());
+        verify(fxRateService, times(2)).getRate(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testExpiredPricesAndUnknownRatesAreSkipped() {
+        // Given - the expired EUR price is ignored, GBP has no rate and USD converts
+        Product product = createProduct(createPrice("EUR", "10.00", -1), createPrice("GBP", "9.00", 30), createPrice("USD", "12.00", 30));
+        when(fxRateService.getRate(anyString(), anyString(), any())).thenAnswer(invocation ->
+                "USD".equals(invocation.getArgument(0)) ? Optional.of(new BigDecimal("1.37")) : Optional.empty());
+        PriceResolver priceResolver = new PriceResolver(fxRateService, RoundingMode.HALF_EVEN);
+
+        // When / Then
+        assertEquals(new BigDecimal("16.44"), priceResolver.currentPrice(product, "CAD").orElseThrow());
+        verify(fxRateService, never()).getRate(eq("EUR"), anyString(), any());
+    }
+
+    @Test
+    void testNoConvertiblePriceReturnsEmpty() {
+        // Given
+        Product product = createProduct(createPrice("GBP", "9.00", 30));
+        when(fxRateService.getRate(anyString(), anyString(), any())).thenReturn(Optional.empty());
+
+        // When / Then
+        assertTrue(new PriceResolver(fxRateService, RoundingMode.HALF_EVEN).currentPrice(product, "CAD").isEmpty());
+    }
+
+    private Product createProduct(PriceInfo... prices) {
+        Product product = new Product();
+        product.setId(1L);
+        product.setPriceInfos(new ArrayList<>(List.of(prices)));
+        return product;
+    }
+
+    private PriceInfo createPrice(String currencyCode, String price, int daysUntilExpiry) {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode(currencyCode);
+        priceInfo.setPrice(new BigDecimal(price));
+        priceInfo.setEffectiveDate(ZonedDateTime.now().minusDays(60));
+        priceInfo.setExpiryDate(ZonedDateTime.now().plusDays(daysUntilExpiry));
+        return priceInfo;
+    }
+}
@@ -0,0 +1,144 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.TestClock;
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for the second-level cache on reference data.
+ */
+@SpringBootTest
+@Import(TestClock.Config.class)
+class ProductCacheTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestClock clock;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.reset();
+        productRepository.findById(9002L).ifPresent(productRepository::delete);
+    }
+
+    @Test
+    void testGetProduct_SecondReadIsServedFromCache() {
+        // When
+        productService.getProduct(1L);
+        long hitsAfterFirstRead = statistics.getDomainDataRegionStatistics("product").getHitCount();
+        productService.getProduct(1L);
+
+        // Then
+        assertTrue(statistics.getDomainDataRegionStatistics("product").getHitCount() > hitsAfterFirstRead,
+                "Second read should hit the product region");
+    }
+
+    @Test
+    void testCreate_InvalidatesCachedPriceCollection() {
+        // Given - a product whose prices are cached
+        Product product = new Product();
+        product.setId(9001L);
+        product.setName("Cached Product");
+        product.setSku("CACHE-001");
+        product.setQuantity(1);
+        product.setPriceInfos(new ArrayList<>(List.of(createPrice("CAD", "10.00"))));
+        productService.create(product);
+        assertEquals(1, productService.getProduct(9001L).orElseThrow().getPriceInfos().size());
+
+        // When - a price is added through the service
+        Product cached = productService.getProduct(9001L).orElseThrow();
+        cached.getPriceInfos().add(createPrice("USD", "8.00"));
+        productService.create(cached);
+
+        // Then
+        Product reloaded = productService.getProduct(9001L).orElseThrow();
+        assertEquals(2, reloaded.getPriceInfos().size());
+        assertEquals(new BigDecimal("8.0000"), Product.findCurrentPrice(reloaded, "USD").orElseThrow());
+    }
+
+    @Test
+    void testGetProductsWithPrices_DropsPriceThatExpiredWhileCollectionWasCached() {
+        // Given - a price that expires in an hour, followed by the next one, with the collection cached
+        ZonedDateTime boundary = ZonedDateTime.now(clock).plusHours(1);
+        Product product = new Product();
+        product.setId(9002L);
+        product.setName("Expiring Price Product");
+        product.setSku("CACHE-002");
+        product.setQuantity(1);
+        product.setPriceInfos(new ArrayList<>(List.of(
+                createPrice("CAD", "10.00", boundary.minusDays(1), boundary),
+                createPrice("CAD", "12.00", boundary.plusNanos(1_000), boundary.plusDays(30)))));
+        productService.create(product);
+        productService.getProduct(9002L);
+        assertEquals(List.of(new BigDecimal("10.00")), cadPrices());
+
+        // When
+        clock.advance(Duration.ofHours(2));
+        long collectionHits = statistics.getDomainDataRegionStatistics("product-price-infos").getHitCount();
+
+        // Then - the cached collection still holds the expired price, but it is not listed
+        assertEquals(List.of(new BigDecimal("12.00")), cadPrices());
+        assertTrue(statistics.getDomainDataRegionStatistics("product-price-infos").getHitCount() > collectionHits,
+                "Prices should be served from the warm collection cache");
+        assertEquals(2, productService.getProduct(9002L).orElseThrow().getPriceInfos().size());
+    }
+
+    private List<BigDecimal> cadPrices() {
+        ProductResponse response = productService.getProductsWithPrices().stream()
+                .filter(p -> p.getId().equals(9002L))
+                .findFirst()
+                .orElseThrow();
+        return response.getPrices().stream()
+                .filter(price -> price.getCurrencyCode().equals("CAD"))
+                .map(price -> price.getPrice().setScale(2))
+                .toList();
+    }
+
+    private PriceInfo createPrice(String currencyCode, String price, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        PriceInfo priceInfo = createPrice(currencyCode, price);
+        priceInfo.setEffectiveDate(effectiveDate);
+        priceInfo.setExpiryDate(expiryDate);
+        return priceInfo;
+    }
+
+    private PriceInfo createPrice(String currencyCode, String price) {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode(currencyCode);
+        priceInfo.setPrice(new BigDecimal(price));
+        priceInfo.setEffectiveDate(ZonedDateTime.now().minusDays(1));
+        priceInfo.setExpiryDate(ZonedDateTime.now().plusDays(30));
+        return priceInfo;
+    }
+}
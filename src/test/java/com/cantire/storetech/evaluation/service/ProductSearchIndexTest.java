@@ -0,0 +1,171 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.service.ProductSearchIndex.Document;
+import com.cantire.storetech.evaluation.service.ProductSearchIndex.Hit;
+import com.cantire.storetech.evaluation.service.ProductSearchIndex.Page;
+import com.cantire.storetech.evaluation.service.ProductSearchIndex.Price;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ProductSearchIndex.
+ */
+class ProductSearchIndexTest {
+
+    private static final List<Document> CATALOG = List.of(
+            document(1, "16oz Claw Hammer", "CT-HAMMER-001", "Tools & Hardware"),
+            document(2, "Cordless Drill/Driver Kit", "CT-DRILL-002", "Tools & Hardware"),
+            document(3, "Premium Synthetic Motor Oil (5L)", "CT-OIL-003", "Automotive"),
+            document(4, "Drill Bit Set", "CT-BITS-004", "Tools & Hardware"),
+            document(5, "X-Ray Flashlight", "CT-LIGHT-005", "Outdoor & Seasonal"));
+
+    @Test
+    void testSearch_AllWordsMustMatch() {
+        ProductSearchIndex index = ProductSearchIndex.of(CATALOG);
+
+        assertEquals(List.of(2L, 4L), productIds(index.search("drill", 0, 10)));
+        assertEquals(List.of(4L), productIds(index.search("drill bit", 0, 10)));
+        assertEquals(List.of(), productIds(index.search("drill oil", 0, 10)));
+        assertEquals(0, index.search("  ", 0, 10).totalHits());
+    }
+
+    @Test
+    void testSearch_MatchesSkuPrefixNamePrefixAndCategory() {
+        ProductSearchIndex index = ProductSearchIndex.of(CATALOG);
+
+        assertEquals(List.of(3L), productIds(index.search("ct-oil", 0, 10)));
+        assertEquals(List.of(3L), productIds(index.search("synth", 0, 10)));
+        assertEquals(List.of(3L), productIds(index.search("automotive", 0, 10)));
+        assertEquals(List.of(5L), productIds(index.search("xray", 0, 10)));
+        assertEquals(List.of(5L), productIds(index.search("x-ray", 0, 10)));
+        assertEquals(List.of(2L), productIds(index.search("driver", 0, 10)));
+    }
+
+    @Test
+    void testSearch_RanksSkuThenNameThenCategoryThenPrefix() {
+        // Given - "tools" is a SKU prefix of 12, a name term of 11, a category term of 10 and a name prefix of 13
+        ProductSearchIndex index = ProductSearchIndex.of(List.of(
+                document(10, "Socket Set", "SS-010", "Tools"),
+                document(11, "Tools Organizer", "ORG-011", "Storage"),
+                document(12, "Wrench", "TOOLS-012", "Hand"),
+                document(13, "Toolshed Kit", "TK-013", "Garden")));
+
+        // When
+        List<Hit> hits = index.search("tools", 0, 10).hits();
+
+        // Then
+        assertEquals(List.of(12L, 11L, 10L, 13L), hits.stream().map(hit -> hit.document().productId()).toList());
+        assertEquals(List.of(ProductSearchIndex.SKU_PREFIX_WEIGHT, ProductSearchIndex.NAME_WEIGHT,
+                        ProductSearchIndex.CATEGORY_WEIGHT, ProductSearchIndex.NAME_PREFIX_WEIGHT),
+                hits.stream().map(Hit::score).toList());
+    }
+
+    @Test
+    void testSearch_PagesThroughTiesInProductIdOrder() {
+        // Given
+        List<Document> documents = new ArrayList<>();
+        for (long id = 100; id < 125; id++) {
+            documents.add(document(id, "Garden Hose " + id, "GH-" + id, "Outdoor"));
+        }
+        ProductSearchIndex index = ProductSearchIndex.of(documents);
+
+        // When
+        Page second = index.search("hose", 10, 10);
+        Page last = index.search("hose", 20, 10);
+
+        // Then
+        assertEquals(25, second.totalHits());
+        assertEquals(110L, second.hits().get(0).document().productId());
+        assertEquals(10, second.hits().size());
+        assertEquals(List.of(120L, 121L, 122L, 123L, 124L), productIds(last));
+        assertEquals(List.of(), productIds(index.search("hose", 30, 10)));
+    }
+
+    @Test
+    void testWith_ChangedProductsReplaceIndexedOnes() {
+        // Given
+        ProductSearchIndex index = ProductSearchIndex.of(CATALOG);
+
+        // When - the hammer is renamed and a new product is added
+        ProductSearchIndex updated = index.with(List.of(
+                document(1, "Framing Hammer", "CT-HAMMER-001", "Tools & Hardware"),
+                document(6, "Claw Bar", "CT-BAR-006", "Tools & Hardware")));
+
+        // Then
+        assertEquals(6, updated.size());
+        assertEquals(List.of(6L), productIds(updated.search("claw", 0, 10)));
+        assertEquals(List.of(1L), productIds(updated.search("framing", 0, 10)));
+        assertEquals(List.of(1L), productIds(index.search("claw", 0, 10)));
+        assertEquals(4, updated.search("tools", 0, 10).totalHits());
+    }
+
+    @Test
+    void testWith_CompactsLargeDeltaIntoBase() {
+        // Given
+        ProductSearchIndex index = ProductSearchIndex.of(CATALOG);
+        List<Document> added = new ArrayList<>();
+        for (long id = 1_000; id < 3_000; id++) {
+            added.add(document(id, "Patio Chair " + id, "PC-" + id, "Outdoor"));
+        }
+
+        // When
+        ProductSearchIndex updated = index.with(added).with(List.of(document(2, "Impact Driver", "CT-DRILL-002", "Tools & Hardware")));
+
+        // Then
+        assertEquals(2_005, updated.size());
+        assertEquals(2_000, updated.search("patio chair", 0, 5).totalHits());
+        assertEquals(List.of(2L), productIds(updated.search("impact", 0, 10)));
+        assertEquals(List.of(4L), productIds(updated.search("drill bit", 0, 10)));
+    }
+
+    @Test
+    void testWith_SingleWritesKeepFewDeltaSegments() {
+        // Given
+        ProductSearchIndex index = ProductSearchIndex.of(CATALOG);
+
+        // When - products are added one write at a time, and each is then renamed
+        for (long id = 100; id < 400; id++) {
+            index = index.with(List.of(document(id, "Garden Hose " + id, "GH-" + id, "Outdoor")));
+        }
+        for (long id = 100; id < 400; id++) {
+            index = index.with(List.of(document(id, "Soaker Hose " + id, "GH-" + id, "Outdoor")));
+        }
+
+        // Then - renames supersede older segments, and the deltas stay few
+        assertEquals(305, index.size());
+        assertEquals(300, index.search("soaker hose", 0, 5).totalHits());
+        assertEquals(0, index.search("garden", 0, 5).totalHits());
+        assertEquals(List.of(250L), productIds(index.search("gh-250", 0, 5)));
+        assertEquals("Soaker Hose 250", index.document(250).name());
+        assertTrue(index.deltaSegments() <= 10, index.deltaSegments() + " delta segments");
+    }
+
+    @Test
+    void testCurrentPrices_FiltersByWindow() {
+        // Given
+        Document document = new Document(1, "Hammer", "H-1", 5, "Tools", List.of(
+                new Price("CAD", new BigDecimal("19.99"), 0, 999),
+                new Price("CAD", new BigDecimal("17.99"), 1_000, Long.MAX_VALUE),
+                new Price("USD", new BigDecimal("14.99"), 0, Long.MAX_VALUE)));
+
+        // Then
+        assertEquals(List.of(new BigDecimal("17.99"), new BigDecimal("14.99")),
+                document.currentPrices(1_000).stream().map(Price::price).toList());
+        assertTrue(document.currentPrices(-1).isEmpty());
+    }
+
+    private static Document document(long productId, String name, String sku, String categoryName) {
+        return new Document(productId, name, sku, 10, categoryName,
+                List.of(new Price("CAD", new BigDecimal("9.99"), 0, Long.MAX_VALUE)));
+    }
+
+    private static List<Long> productIds(Page page) {
+        return page.hits().stream().map(hit -> hit.document().productId()).toList();
+    }
+}
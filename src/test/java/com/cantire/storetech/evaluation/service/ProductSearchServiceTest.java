@@ -0,0 +1,94 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.ProductResponse;
+import com.cantire.storetech.evaluation.dto.ProductSearchResponse;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for product search over the sample catalog and products written through ProductService.
+ */
+@SpringBootTest
+class ProductSearchServiceTest {
+
+    @Autowired
+    private ProductSearchService productSearchService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        // Deleting around ProductService does not reach the index, so it is rebuilt without the product
+        if (productRepository.existsById(9400L)) {
+            productRepository.deleteById(9400L);
+            productSearchService.rebuildIndex();
+        }
+    }
+
+    @Test
+    void testSearch_FindsSampleProductWithCurrentPrices() {
+        // When
+        ProductSearchResponse response = productSearchService.search("cordless drill", 0, 10);
+
+        // Then
+        assertEquals(1, response.getTotalHits());
+        ProductResponse drill = response.getProducts().get(0);
+        assertEquals("CT-DRILL-002", drill.getSku());
+        assertEquals("Tools & Hardware", drill.getCategoryName());
+        assertTrue(drill.getPrices().stream().anyMatch(price -> price.getCurrencyCode().equals("CAD")));
+    }
+
+    @Test
+    void testSearch_SeesProductWrittenThroughService() {
+        // Given - the index exists before the write
+        productSearchService.search("hammer", 0, 1);
+
+        // When
+        Product product = new Product();
+        product.setId(9400L);
+        product.setName("Rotary Laser Level");
+        product.setSku("SEARCH-9400");
+        product.setQuantity(3);
+        product.setPriceInfos(new ArrayList<>(List.of(createPrice("CAD", "249.99"))));
+        productService.create(product);
+
+        // Then
+        ProductSearchResponse byName = productSearchService.search("laser", 0, 10);
+        assertEquals(List.of(9400L), byName.getProducts().stream().map(ProductResponse::getId).toList());
+        assertEquals(new BigDecimal("249.9900"), byName.getProducts().get(0).getPrices().get(0).getPrice());
+        assertEquals(1, productSearchService.search("search-94", 0, 10).getTotalHits());
+
+        // When - renamed
+        Product renamed = productService.getProduct(9400L).orElseThrow();
+        renamed.setName("Line Laser");
+        productService.create(renamed);
+
+        // Then
+        assertEquals(0, productSearchService.search("rotary", 0, 10).getTotalHits());
+        assertEquals(1, productSearchService.search("line laser", 0, 10).getTotalHits());
+    }
+
+    private PriceInfo createPrice(String currencyCode, String price) {
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setCurrencyCode(currencyCode);
+        priceInfo.setPrice(new BigDecimal(price));
+        priceInfo.setEffectiveDate(ZonedDateTime.now().minusDays(1));
+        priceInfo.setExpiryDate(ZonedDateTime.now().plusDays(30));
+        return priceInfo;
+    }
+}
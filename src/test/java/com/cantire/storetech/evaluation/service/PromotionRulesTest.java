@@ -0,0 +1,148 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.model.ProductQuantities;
+import com.cantire.storetech.evaluation.model.Promotion;
+import com.cantire.storetech.evaluation.model.Promotion.BundleItem;
+import com.cantire.storetech.evaluation.model.Promotion.Type;
+import com.cantire.storetech.evaluation.model.PromotionLookup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for PromotionRules.
+ */
+class PromotionRulesTest {
+
+    private static final ZonedDateTime JAN_1 = ZonedDateTime.parse("2026-01-01T00:00:00-05:00");
+    private static final ZonedDateTime FEB_1 = ZonedDateTime.parse("2026-02-01T00:00:00-05:00");
+    private static final long CATEGORY = 50L;
+
+    @Test
+    void testLineDiscounts_MultiBuyGivesFreeUnitsPerCompleteGroup() {
+        // Given - buy 3, get 1 free
+        PromotionRules rules = PromotionRules.of(List.of(multiBuy(1L, 3, 1)));
+        ProductQuantities lines = lines(1L, 7, 2L, 1);
+
+        // When
+        BigDecimal[] discounts = rules.lineDiscounts(lines, categories(PromotionLookup.NO_CATEGORY, CATEGORY), prices("10.00", "9.99"), at(FEB_1));
+
+        // Then
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("20.00"), BigDecimal.ZERO}, discounts);
+    }
+
+    @Test
+    void testLineDiscounts_LargestDiscountWinsWithoutStacking() {
+        // Given - 15% off the category, which also holds the multi-buy product
+        PromotionRules rules = PromotionRules.of(List.of(multiBuy(1L, 3, 1), categoryPercentOff("15")));
+        ProductQuantities lines = lines(1L, 7, 2L, 3);
+
+        // When
+        BigDecimal[] discounts = rules.lineDiscounts(lines, categories(CATEGORY, CATEGORY), prices("10.00", "9.99"), at(FEB_1));
+
+        // Then - 20.00 from the multi-buy beats 10.50 from the category; 15% of 29.97 rounds to 4.50
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("20.00"), new BigDecimal("4.50")}, discounts);
+    }
+
+    @Test
+    void testLineDiscounts_BundleDiscountsUnitsInCompleteSets() {
+        // Given - 20% off a set of one product 1 and two product 2
+        PromotionRules rules = PromotionRules.of(List.of(bundle("20", new BundleItem(1L, 1), new BundleItem(2L, 2))));
+        long[] noCategories = categories(PromotionLookup.NO_CATEGORY, PromotionLookup.NO_CATEGORY, PromotionLookup.NO_CATEGORY);
+        BigDecimal[] prices = prices("10.00", "9.99", "5.00");
+
+        // When - two complete sets
+        BigDecimal[] discounts = rules.lineDiscounts(lines(1L, 3, 2L, 5, 3L, 1), noCategories, prices, at(FEB_1));
+        BigDecimal[] incomplete = rules.lineDiscounts(lines(1L, 3, 2L, 1, 3L, 1), noCategories, prices, at(FEB_1));
+
+        // Then
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("4.00"), new BigDecimal("7.99"), BigDecimal.ZERO}, discounts);
+        assertArrayEquals(new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO}, incomplete);
+    }
+
+    @Test
+    void testLineDiscounts_OnlyPromotionsInEffectApply() {
+        // Given - in effect for February 1st only
+        Promotion promotion = categoryPercentOff("10");
+        promotion.setEffectiveDate(FEB_1);
+        promotion.setExpiryDate(FEB_1.plusDays(1).minusNanos(1_000_000));
+        PromotionRules rules = PromotionRules.of(List.of(promotion));
+        ProductQuantities lines = lines(1L, 1);
+
+        // Then
+        assertEquals(BigDecimal.ZERO, rules.lineDiscounts(lines, categories(CATEGORY), prices("10.00"), at(FEB_1.minusNanos(1_000_000)))[0]);
+        assertEquals(new BigDecimal("1.00"), rules.lineDiscounts(lines, categories(CATEGORY), prices("10.00"), at(FEB_1))[0]);
+        assertEquals(new BigDecimal("1.00"), rules.lineDiscounts(lines, categories(CATEGORY), prices("10.00"), at(FEB_1.plusDays(1)) - 1)[0]);
+        assertEquals(BigDecimal.ZERO, rules.lineDiscounts(lines, categories(CATEGORY), prices("10.00"), at(FEB_1.plusDays(1)))[0]);
+    }
+
+    @Test
+    void testOf_RejectsIncompletePromotion() {
+        // Given - more free units than the group holds
+        Promotion promotion = multiBuy(1L, 2, 3);
+
+        // When/Then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PromotionRules.of(List.of(promotion)));
+    }
+
+    private Promotion multiBuy(Long productId, int buyQuantity, int freeQuantity) {
+        Promotion promotion = createPromotion(Type.MULTI_BUY);
+        promotion.setProductId(productId);
+        promotion.setBuyQuantity(buyQuantity);
+        promotion.setFreeQuantity(freeQuantity);
+        return promotion;
+    }
+
+    private Promotion categoryPercentOff(String percentOff) {
+        Promotion promotion = createPromotion(Type.CATEGORY_PERCENT_OFF);
+        promotion.setCategoryId(CATEGORY);
+        promotion.setPercentOff(new BigDecimal(percentOff));
+        return promotion;
+    }
+
+    private Promotion bundle(String percentOff, BundleItem... items) {
+        Promotion promotion = createPromotion(Type.BUNDLE);
+        promotion.setPercentOff(new BigDecimal(percentOff));
+        promotion.setBundleItems(new ArrayList<>(List.of(items)));
+        return promotion;
+    }
+
+    private Promotion createPromotion(Type type) {
+        Promotion promotion = new Promotion();
+        promotion.setName(type.name());
+        promotion.setType(type);
+        promotion.setEffectiveDate(JAN_1);
+        return promotion;
+    }
+
+    private static ProductQuantities lines(long... productIdsAndQuantities) {
+        ProductQuantities lines = new ProductQuantities();
+        for (int i = 0; i < productIdsAndQuantities.length; i += 2) {
+            lines.set(productIdsAndQuantities[i], (int) productIdsAndQuantities[i + 1]);
+        }
+        return lines;
+    }
+
+    private static long[] categories(long... categoryIds) {
+        return categoryIds;
+    }
+
+    private static BigDecimal[] prices(String... prices) {
+        BigDecimal[] unitPrices = new BigDecimal[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            unitPrices[i] = new BigDecimal(prices[i]);
+        }
+        return unitPrices;
+    }
+
+    private static long at(ZonedDateTime instant) {
+        return instant.toInstant().toEpochMilli();
+    }
+}
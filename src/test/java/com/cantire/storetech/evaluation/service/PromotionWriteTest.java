@@ -0,0 +1,76 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.CartSaveRequest;
+import com.cantire.storetech.evaluation.dto.CartSaveResponse;
+import com.cantire.storetech.evaluation.model.Promotion;
+import com.cantire.storetech.evaluation.model.Promotion.Type;
+import com.cantire.storetech.evaluation.repo.PromotionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SpringBootTest for promotions written after the in-memory rules were compiled, applied to a cart and frozen into its order.
+ */
+@SpringBootTest
+class PromotionWriteTest {
+
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private PromotionRepository promotionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Promotion promotion;
+
+    @AfterEach
+    void tearDown() {
+        if (promotion != null) {
+            promotionRepository.deleteById(promotion.getId());
+        }
+    }
+
+    @Test
+    void testCheckout_StoresDiscountOfPromotionWrittenAfterRulesWereCompiled() {
+        // Given - the rules are compiled without the promotion
+        assertEquals(0, BigDecimal.ZERO.compareTo(cartService.addProductToCart(request(null, 1L, 3)).getDiscount()));
+
+        // When - of every three units of product 1, one is free
+        Promotion multiBuy = new Promotion();
+        multiBuy.setName("Three for two");
+        multiBuy.setType(Type.MULTI_BUY);
+        multiBuy.setProductId(1L);
+        multiBuy.setBuyQuantity(3);
+        multiBuy.setFreeQuantity(1);
+        multiBuy.setEffectiveDate(ZonedDateTime.now().minusDays(1));
+        promotion = promotionRepository.save(multiBuy);
+        CartSaveResponse cart = cartService.addProductToCart(request(null, 1L, 3));
+        CartSaveResponse order = cartService.checkout(cart.getCartId());
+
+        // Then
+        BigDecimal unitPrice = cart.getItems().get(0).getPrice();
+        assertEquals(0, unitPrice.compareTo(cart.getDiscount()));
+        assertEquals(0, unitPrice.compareTo(order.getDiscount()));
+        BigDecimal storedDiscount = jdbcTemplate.queryForObject("SELECT discount FROM cart_order_line WHERE order_id = ?",
+                BigDecimal.class, order.getOrderId());
+        assertEquals(0, unitPrice.compareTo(storedDiscount));
+    }
+
+    private static CartSaveRequest request(Long cartId, Long productId, int quantity) {
+        CartSaveRequest request = new CartSaveRequest();
+        request.setCartId(cartId);
+        request.setProductId(productId);
+        request.setQuantity(quantity);
+        request.setRegion("ON");
+        request.setCurrencyCode("CAD");
+        return request;
+    }
+}
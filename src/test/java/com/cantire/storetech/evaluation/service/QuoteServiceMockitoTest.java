@@ -0,0 +1,162 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.dto.QuoteRequest;
+import com.cantire.storetech.evaluation.dto.QuoteResponse;
+import com.cantire.storetech.evaluation.exception.InvalidCurrencyCodeException;
+import com.cantire.storetech.evaluation.model.PriceInfo;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.model.TaxInfo;
+import com.cantire.storetech.evaluation.model.TaxInfo.TaxType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for QuoteService using Mockito for stubbing and verification.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuoteServiceMockitoTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private TaxService taxService;
+
+    @Mock
+    private PriceResolver priceResolver;
+
+    @InjectMocks
+    private QuoteServiceImpl quoteService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(priceResolver.currentPrice(any(Product.class), anyString()))
+                .thenAnswer(invocation -> Product.findCurrentPrice(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    @Test
+    void testQuoteLargeBatchReturnsQuotesInRequestOrder() {
+        // Given - enough baskets to be split across several fork-join tasks
+        when(productService.getProducts(anyCollection())).thenReturn(List.of(
+                createProduct(1L, new BigDecimal("10.00")), createProduct(2L, new BigDecimal("2.50"))));
+        when(taxService.getTaxesForRegion("ON", "CAD")).thenReturn(List.of(createTax("ON", 13.0)));
+
+        List<QuoteRequest.Basket> baskets = IntStream.range(0, 500)
+                .mapToObj(i -> new QuoteRequest.Basket("basket-" + i, "ON", "CAD", List.of(
+                        new QuoteRequest.Line(1L, i + 1), new QuoteRequest.Line(2L, 2))))
+                .toList();
+
+        // When
+        QuoteResponse response = quoteService.quote(new QuoteRequest(baskets));
+
+        // Then
+        assertEquals(500, response.getQuotes().size());
+        for (int i = 0; i < 500; i++) {
+            QuoteResponse.BasketQuote quote = response.getQuotes().get(i);
+            BigDecimal subtotal = new BigDecimal("10.00").multiply(BigDecimal.valueOf(i + 1)).add(new BigDecimal("5.00"));
+            assertTrue(quote.getSuccess());
+            assertEquals("basket-" + i, quote.getReference());
+            assertEquals(i + 3, quote.getTotalItems());
+            assertEquals(subtotal, quote.getSubtotal());
+            assertEquals(subtotal.add(quote.getTaxTotal()), quote.getTotal());
+        }
+        assertEquals(new BigDecimal("1.95"), response.getQuotes().get(0).getTaxTotal());
+        verify(taxService, times(1)).getTaxesForRegion("ON", "CAD");
+    }
+
+    @Test
+    void testQuoteFailsOnlyTheBasketWithUnknownProductMissingPriceOrInvalidCurrency() {
+        // Given
+        Product usdOnly = createProduct(2L, new BigDecimal("7.00"));
+        usdOnly.getPriceInfos().get(0).setCurrencyCode("USD");
+        when(productService.getProducts(anyCollection())).thenReturn(List.of(createProduct(1L, new BigDecimal("10.00")), usdOnly));
+        when(taxService.getTaxesForRegion("AB", "CAD")).thenReturn(List.of(createTax("AB", 5.0)));
+        when(taxService.getTaxesForRegion("AB", "USD")).thenThrow(new InvalidCurrencyCodeException("Invalid currency code: USD"));
+
+        List<QuoteRequest.Basket> baskets = List.of(
+                new QuoteRequest.Basket("ok", "AB", "CAD", List.of(new QuoteRequest.Line(1L, 1))),
+                new QuoteRequest.Basket("unknown-product", "AB", "CAD", List.of(new QuoteRequest.Line(99L, 1))),
+                new QuoteRequest.Basket("usd", "AB", "USD", List.of(new QuoteRequest.Line(1L, 1))),
+                new QuoteRequest.Basket("no-cad-price", "AB", "CAD", List.of(new QuoteRequest.Line(2L, 1))));
+
+        // When
+        QuoteResponse response = quoteService.quote(new QuoteRequest(baskets));
+
+        // Then
+        assertTrue(response.getQuotes().get(0).getSuccess());
+        assertEquals(new BigDecimal("10.50"), response.getQuotes().get(0).getTotal());
+        assertFalse(response.getQuotes().get(1).getSuccess());
+        assertEquals("Unknown product: 99", response.getQuotes().get(1).getMessage());
+        assertFalse(response.getQuotes().get(2).getSuccess());
+        assertEquals("Invalid currency code: USD", response.getQuotes().get(2).getMessage());
+        assertFalse(response.getQuotes().get(3).getSuccess());
+        assertEquals("No CAD price for product: 2", response.getQuotes().get(3).getMessage());
+    }
+
+    @Test
+    void testQuoteRejectsMissingBasketOrLine() {
+        // Given
+        List<QuoteRequest.Basket> missingBasket = new ArrayList<>();
+        missingBasket.add(null);
+        List<QuoteRequest.Line> missingLine = new ArrayList<>();
+        missingLine.add(null);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> quoteService.quote(new QuoteRequest(missingBasket)));
+        assertThrows(IllegalArgumentException.class, () -> quoteService.quote(new QuoteRequest(
+                List.of(new QuoteRequest.Basket("missing-line", "ON", "CAD", missingLine)))));
+        verifyNoInteractions(productService, taxService);
+    }
+
+    // ========== Private Helper Methods for Test Data Creation ==========
+
+    private Product createProduct(Long id, BigDecimal price) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setSku("SKU-" + id);
+
+        PriceInfo priceInfo = new PriceInfo();
+        priceInfo.setId(id);
+        priceInfo.setCurrencyCode("CAD");
+        priceInfo.setPrice(price);
+        priceInfo.setEffectiveDate(ZonedDateTime.now().minusDays(30));
+        priceInfo.setExpiryDate(ZonedDateTime.now().plusDays(30));
+
+        product.setPriceInfos(new ArrayList<>(List.of(priceInfo)));
+        return product;
+    }
+
+    private TaxInfo createTax(String region, double percentage) {
+        TaxInfo tax = new TaxInfo();
+        tax.setCountryCode("CA");
+        tax.setStateProvince(region);
+        tax.setPercentage(percentage);
+        tax.setTaxType(TaxType.GST);
+        tax.setName("Tax " + region);
+        return tax;
+    }
+}
@@ -0,0 +1,107 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.datasource.ReplicaRoutingDataSource;
+import com.cantire.storetech.evaluation.model.Product;
+import com.cantire.storetech.evaluation.repo.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for read/write routing, using two in-memory H2 databases as primary and replica stand-ins.
+ */
+@SpringBootTest(properties = {
+        "storetech.datasource.replica.enabled=true",
+        "storetech.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "storetech.datasource.replica.username=sa",
+        "storetech.datasource.replica.password=",
+        "storetech.datasource.replica.max-lag=10m"
+})
+class ReadReplicaRoutingTest {
+
+    private static boolean replicaMigrated;
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+    @Autowired
+    @Qualifier("replicaRoutingDataSource")
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Stand-in for replication: the replica gets the same schema and sample data as the primary
+        if (!replicaMigrated) {
+            SpringLiquibase liquibase = new SpringLiquibase();
+            liquibase.setDataSource(replicaDataSource);
+            liquibase.setChangeLog("classpath:db.changelog/db.changelog-master.xml");
+            liquibase.setResourceLoader(new DefaultResourceLoader());
+            liquibase.afterPropertiesSet();
+            replicaMigrated = true;
+        }
+        // Each test reads as a client that has not written within max-lag
+        routingDataSource.setLastCommitMillis(Long.MIN_VALUE);
+    }
+
+    @Test
+    void testWritesGoToPrimaryAndReadOnlyWorkToReplica() {
+        // Given - a product written through the service lands on the primary only
+        Product product = new Product();
+        product.setId(9100L);
+        product.setName("Primary Only Product");
+        product.setSku("ROUTE-001");
+        product.setQuantity(1);
+        productService.create(product);
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Then - the writer's own reads see the primary, other clients' reads the replica
+        assertEquals(Boolean.TRUE, readOnly.execute(status -> productRepository.existsById(9100L)));
+        assertEquals(Boolean.TRUE, readWrite.execute(status -> productRepository.existsById(9100L)));
+        routingDataSource.setLastCommitMillis(Long.MIN_VALUE);
+        assertEquals(Boolean.FALSE, readOnly.execute(status -> productRepository.existsById(9100L)));
+        assertFalse(productService.getProducts().stream().anyMatch(p -> p.getId().equals(9100L)),
+                "Catalog reads should be served by the replica");
+    }
+
+    @Test
+    void testReplicaReadsWithinMaxLagOfAWriteAreNotCached() {
+        // Given - a read-write transaction commits on the primary, and the product is not cached
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> productRepository.count());
+        routingDataSource.setLastCommitMillis(Long.MIN_VALUE);
+        assertTrue(routingDataSource.replicaMayLag());
+        entityManagerFactory.getCache().evict(Product.class, 1L);
+
+        // When - another client reads it from the replica
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> productRepository.findById(1L).orElseThrow());
+
+        // Then
+        assertFalse(entityManagerFactory.getCache().contains(Product.class, 1L),
+                "A row read from a replica that may lag should not be cached");
+    }
+}
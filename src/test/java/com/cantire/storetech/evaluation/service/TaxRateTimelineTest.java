@@ -0,0 +1,63 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.model.TaxInfo;
+import com.cantire.storetech.evaluation.model.TaxInfo.TaxType;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TaxRateTimeline.
+ */
+class TaxRateTimelineTest {
+
+    private static final ZonedDateTime JAN_1 = ZonedDateTime.parse("2026-01-01T00:00:00-05:00");
+    private static final ZonedDateTime JUL_1 = ZonedDateTime.parse("2026-07-01T00:00:00-05:00");
+
+    @Test
+    void testRatesAt_PicksRateValidAtInstant() {
+        // Given - ON HST rises from 13% to 15% on July 1st, staged ahead of time
+        TaxInfo current = createTax("ON", 13.0, JAN_1, JUL_1.minusSeconds(1));
+        TaxInfo staged = createTax("ON", 15.0, JUL_1, null);
+        TaxRateTimeline timeline = TaxRateTimeline.of(List.of(current, staged));
+
+        // Then
+        assertEquals(List.of(current), timeline.ratesAt("CA", "ON", JAN_1));
+        assertEquals(List.of(current), timeline.ratesAt("CA", "ON", JUL_1.minusSeconds(1)));
+        assertEquals(List.of(staged), timeline.ratesAt("CA", "ON", JUL_1));
+        assertEquals(List.of(staged), timeline.ratesAt("CA", "ON", JUL_1.plusYears(50)));
+        assertTrue(timeline.ratesAt("CA", "ON", JAN_1.minusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    void testRatesAt_ReturnsAllOverlappingTaxesForRegion() {
+        // Given
+        TaxInfo gst = createTax("BC", 5.0, null, null);
+        TaxInfo pst = createTax("BC", 7.0, JAN_1, null);
+        TaxInfo other = createTax("AB", 5.0, null, null);
+        TaxRateTimeline timeline = TaxRateTimeline.of(List.of(gst, pst, other));
+
+        // Then
+        assertEquals(List.of(gst), timeline.ratesAt("CA", "BC", JAN_1.minusDays(1)));
+        assertEquals(List.of(gst, pst), timeline.ratesAt("CA", "BC", JUL_1));
+        assertEquals(List.of(other), timeline.ratesAt("CA", "AB", JUL_1));
+        assertTrue(timeline.ratesAt("CA", "XX", JUL_1).isEmpty());
+        assertTrue(timeline.ratesAt("US", "BC", JUL_1).isEmpty());
+    }
+
+    private TaxInfo createTax(String region, double percentage, ZonedDateTime effectiveDate, ZonedDateTime expiryDate) {
+        TaxInfo tax = new TaxInfo();
+        tax.setCountryCode("CA");
+        tax.setStateProvince(region);
+        tax.setPercentage(percentage);
+        tax.setTaxType(TaxType.HST);
+        tax.setName("Tax " + region + " " + percentage);
+        tax.setEffectiveDate(effectiveDate);
+        tax.setExpiryDate(expiryDate);
+        return tax;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cantire.storetech.evaluation.service;
+
+import com.cantire.storetech.evaluation.model.TaxInfo;
+import com.cantire.storetech.evaluation.model.TaxInfo.TaxType;
+import com.cantire.storetech.evaluation.repo.TaxInfoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SpringBootTest for tax rates written after the in-memory timeline was built.
+ */
+@SpringBootTest
+class TaxRateWriteTest {
+
+    @Autowired
+    private TaxService taxService;
+    @Autowired
+    private TaxInfoRepository taxInfoRepository;
+
+    private TaxInfo yukonTax;
+
+    @AfterEach
+    void tearDown() {
+        if (yukonTax != null) {
+            taxInfoRepository.deleteById(yukonTax.getId());
+        }
+    }
+
+    @Test
+    void testGetTaxesForRegion_SeesRatesWrittenAfterTimelineWasBuilt() {
+        // Given - the timeline is built without a Yukon rate
+        assertTrue(taxService.getTaxesForRegion("YT", "CAD").isEmpty());
+
+        // When
+        TaxInfo tax = new TaxInfo();
+        tax.setCountryCode(Locale.CANADA.getCountry());
+        tax.setStateProvince("YT");
+        tax.setPercentage(5.0);
+        tax.setTaxType(TaxType.GST);
+        tax.setName("Yukon GST");
+        yukonTax = taxInfoRepository.save(tax);
+        List<TaxInfo> inserted = taxService.getTaxesForRegion("YT", "CAD");
+
+        yukonTax.setPercentage(6.0);
+        yukonTax = taxInfoRepository.save(yukonTax);
+        List<TaxInfo> updated = taxService.getTaxesForRegion("YT", "CAD");
+
+        // Then
+        assertEquals(1, inserted.size());
+        assertEquals(5.0, inserted.get(0).getPercentage());
+        assertEquals(1, updated.size());
+        assertEquals(6.0, updated.get(0).getPercentage());
+    }
+}
@@ -0,0 +1,90 @@
+package com.cantire.storetech.evaluation.snapshot;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Unit tests for DatabaseSnapshotRestorer against snapshots built by DatabaseSnapshotBuilder.
+ */
+class DatabaseSnapshotRestorerTest {
+
+    @TempDir
+    static Path snapshotDirectory;
+
+    @BeforeAll
+    static void buildSnapshot() throws Exception {
+        DatabaseSnapshotBuilder.main(new String[]{snapshotDirectory.toString()});
+    }
+
+    @Test
+    void testRestore_WithMatchingChecksum_SkipsLiquibase() throws Exception {
+        // Given
+        DriverManagerDataSource dataSource = newDatabase("restore-match");
+        DatabaseSnapshotRestorer restorer = new DatabaseSnapshotRestorer(true, "file:" + snapshotDirectory + "/");
+        SpringLiquibase liquibase = newLiquibase(dataSource);
+
+        // When
+        restorer.postProcessBeforeInitialization(liquibase, "liquibase");
+        liquibase.afterPropertiesSet();
+        restorer.postProcessAfterInitialization(liquibase, "liquibase");
+
+        // Then - the snapshot brought schema, sample data and Liquibase history
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(DatabaseSnapshotRestorer.InitPath.SNAPSHOT, restorer.getInitPath());
+        assertNotNull(restorer.getInitDuration());
+        assertEquals(5, jdbcTemplate.queryForObject("select count(*) from product", Integer.class));
+        assertEquals(15, jdbcTemplate.queryForObject("select count(*) from tax_info", Integer.class));
+        assertEquals(jdbcTemplate.queryForObject("select count(*) from databasechangelog", Integer.class),
+                new JdbcTemplate(newMigratedDatabase()).queryForObject("select count(*) from databasechangelog", Integer.class));
+    }
+
+    @Test
+    void testRestore_WithStaleChecksum_FallsBackToLiquibase() throws Exception {
+        // Given
+        Path staleDirectory = Files.createDirectories(snapshotDirectory.resolve("stale"));
+        Files.copy(snapshotDirectory.resolve(DatabaseSnapshotRestorer.SNAPSHOT_FILE), staleDirectory.resolve(DatabaseSnapshotRestorer.SNAPSHOT_FILE));
+        Files.writeString(staleDirectory.resolve(DatabaseSnapshotRestorer.CHECKSUM_FILE), "0000");
+
+        DriverManagerDataSource dataSource = newDatabase("restore-stale");
+        DatabaseSnapshotRestorer restorer = new DatabaseSnapshotRestorer(true, "file:" + staleDirectory + "/");
+        SpringLiquibase liquibase = newLiquibase(dataSource);
+
+        // When
+        restorer.postProcessBeforeInitialization(liquibase, "liquibase");
+        liquibase.afterPropertiesSet();
+        restorer.postProcessAfterInitialization(liquibase, "liquibase");
+
+        // Then
+        assertEquals(DatabaseSnapshotRestorer.InitPath.LIQUIBASE, restorer.getInitPath());
+        assertEquals(5, new JdbcTemplate(dataSource).queryForObject("select count(*) from product", Integer.class));
+    }
+
+    private DriverManagerDataSource newDatabase(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private DriverManagerDataSource newMigratedDatabase() throws Exception {
+        DriverManagerDataSource dataSource = newDatabase("restore-reference");
+        newLiquibase(dataSource).afterPropertiesSet();
+        return dataSource;
+    }
+
+    private SpringLiquibase newLiquibase(DriverManagerDataSource dataSource) {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(DatabaseSnapshotRestorer.CHANGELOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        return liquibase;
+    }
+}